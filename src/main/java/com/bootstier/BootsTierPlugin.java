@@ -1,10 +1,19 @@
 package com.bootstier;
 
 import com.bootstier.boots.BootsManager;
+import com.bootstier.boots.BootsEnforcer;
+import com.bootstier.boots.DragonEggTracker;
 import com.bootstier.boots.abilities.AbilityManager;
+import com.bootstier.boots.abilities.CooldownService;
+import com.bootstier.boots.abilities.PassiveEffectManager;
+import com.bootstier.boots.abilities.AreaQueryService;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.boots.abilities.ProtectiveZoneRegistry;
 import com.bootstier.commands.*;
 import com.bootstier.config.ConfigManager;
 import com.bootstier.effects.ActionBarManager;
+import com.bootstier.effects.EffectEngine;
+import com.bootstier.effects.ParticleDispatcher;
 import com.bootstier.effects.ParticleManager;
 import com.bootstier.items.CustomItemManager;
 import com.bootstier.lives.LivesManager;
@@ -13,11 +22,16 @@ import com.bootstier.nms.AdvancedEffects;
 import com.bootstier.nms.DisplayEntityManager;
 import com.bootstier.nms.NMSHandler;
 import com.bootstier.nms.PacketManager;
+import com.bootstier.nms.ParticleBatcher;
 import com.bootstier.nms.UnifiedDisplayManager;
+import com.bootstier.player.PlayerSessionRegistry;
+import com.bootstier.player.PlayerSpatialIndex;
 import com.bootstier.player.PlayerManager;
 import com.bootstier.player.TrustManager;
 import com.bootstier.ritual.PedestalManager;
 import com.bootstier.ritual.RitualManager;
+import com.bootstier.scheduler.PlayerTaskBuckets;
+import com.bootstier.scheduler.TickScheduler;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -27,8 +41,22 @@ public final class BootsTierPlugin extends JavaPlugin {
     @Getter private static BootsTierPlugin instance;
 
     @Getter private ConfigManager configManager;
+    @Getter private TickScheduler tickScheduler;
+    @Getter private PlayerTaskBuckets playerTaskBuckets;
+    @Getter private ParticleBatcher particleBatcher;
+    @Getter private ParticleDispatcher particleDispatcher;
+    @Getter private EffectEngine effectEngine;
     @Getter private PlayerManager playerManager;
+    @Getter private PlayerSessionRegistry sessionRegistry;
+    @Getter private PlayerSpatialIndex playerSpatialIndex;
+    @Getter private PlayerStateStore playerStateStore;
+    @Getter private ProtectiveZoneRegistry protectiveZoneRegistry;
+    @Getter private AreaQueryService areaQueryService;
+    @Getter private CooldownService cooldownService;
+    @Getter private PassiveEffectManager passiveEffectManager;
+    @Getter private DragonEggTracker dragonEggTracker;
     @Getter private BootsManager bootsManager;
+    @Getter private BootsEnforcer bootsEnforcer;
     @Getter private LivesManager livesManager;
     @Getter private TrustManager trustManager;
     @Getter private PedestalManager pedestalManager;
@@ -67,10 +95,13 @@ public final class BootsTierPlugin extends JavaPlugin {
     public void onDisable() {
         getLogger().info("§c[BootsTierSystem] §7Disabling and saving data...");
 
-        if (playerManager != null) playerManager.saveAllPlayerData();
+        if (playerManager != null) playerManager.shutdown();
+        if (effectEngine != null) effectEngine.shutdown();
         if (displayEntityManager != null) displayEntityManager.cleanupAll();
         if (unifiedDisplayManager != null) unifiedDisplayManager.cleanupAll();
         if (ritualManager != null) ritualManager.cleanupAll();
+        if (advancedEffects != null) advancedEffects.cleanupAll();
+        if (tickScheduler != null) tickScheduler.shutdown();
         Bukkit.getScheduler().cancelTasks(this);
 
         getLogger().info("§c[BootsTierSystem] §7Plugin disabled cleanly.");
@@ -78,11 +109,25 @@ public final class BootsTierPlugin extends JavaPlugin {
 
     private void initializeManagers() {
         configManager = new ConfigManager(this);
+        tickScheduler = new TickScheduler(this);
+        playerTaskBuckets = new PlayerTaskBuckets(this);
+        sessionRegistry = new PlayerSessionRegistry();
         nmsHandler = new NMSHandler(this);
         packetManager = new PacketManager(this);
 
         playerManager = new PlayerManager(this);
+        playerStateStore = new PlayerStateStore(sessionRegistry);
+        playerSpatialIndex = new PlayerSpatialIndex(this, sessionRegistry);
+        protectiveZoneRegistry = new ProtectiveZoneRegistry(this, sessionRegistry);
+        areaQueryService = new AreaQueryService(this);
+        particleBatcher = new ParticleBatcher(this, sessionRegistry);
+        particleDispatcher = new ParticleDispatcher(this);
+        effectEngine = new EffectEngine(this, sessionRegistry);
+        dragonEggTracker = new DragonEggTracker(this, sessionRegistry);
+        cooldownService = new CooldownService(this, sessionRegistry);
+        passiveEffectManager = new PassiveEffectManager(this, sessionRegistry);
         bootsManager = new BootsManager(this);
+        bootsEnforcer = new BootsEnforcer(this);
         livesManager = new LivesManager(this);
         trustManager = new TrustManager(this);
 
@@ -117,6 +162,7 @@ public final class BootsTierPlugin extends JavaPlugin {
 
         // ⭐ FIXED NEW COMMAND ⭐
         getCommand("cooldowns").setExecutor(new CooldownsCommand(this));
+        getCommand("bootsstatus").setExecutor(new StatusCommand(this));
     }
 
     /* ---------------------------------------------
@@ -125,6 +171,7 @@ public final class BootsTierPlugin extends JavaPlugin {
 
     private void registerListeners() {
         var pm = getServer().getPluginManager();
+        pm.registerEvents(new PlayerPreLoginListener(this), this);
         pm.registerEvents(new PlayerJoinListener(this), this);
         pm.registerEvents(new PlayerQuitListener(this), this);
         pm.registerEvents(new PlayerDeathListener(this), this);
@@ -141,30 +188,48 @@ public final class BootsTierPlugin extends JavaPlugin {
     --------------------------------------------- */
 
     private void startScheduledTasks() {
-        Bukkit.getScheduler().runTaskTimer(this,
-                () -> actionBarManager.updateAllActionBars(),
-                0L, configManager.getActionBarFrequency());
+        // Drives every ability/effect WheelTask from this one Bukkit task
+        tickScheduler.start();
+        dragonEggTracker.start();
+        playerSpatialIndex.start();
+        protectiveZoneRegistry.start();
+        bootsEnforcer.start();
+        passiveEffectManager.start();
+        particleBatcher.start();
+        effectEngine.start();
+
+        // Safety sweeps for effect entities whose animation ended without removing them
+        tickScheduler.runTimer(advancedEffects::updateActiveEffects, 100L, 100L);
+        tickScheduler.runTimer(displayEntityManager::updateDisplays, 100L, 100L);
+
+        // Per-player checks, each player on their own tick within the period
+        if (configManager.isShowActionBar()) {
+            playerTaskBuckets.register("action-bar", configManager.getActionBarFrequency(),
+                    actionBarManager::updatePlayerActionBar);
+        }
+        playerTaskBuckets.register("passives", configManager.getPassiveEffectsInterval(),
+                abilityManager::applyPassiveEffects);
+        // Boots are enforced from events by BootsEnforcer, this is only a safety sweep
+        playerTaskBuckets.register("boots-check", configManager.getBootsCheckInterval(),
+                bootsManager::preventBootsRemoval);
+        playerTaskBuckets.register("boot-breaking", configManager.getBootBreakingInterval(),
+                bootsManager::checkBootBreaking);
+        if (configManager.isLowLifeWarningEnabled()) {
+            playerTaskBuckets.register("low-life-warning", configManager.getWarningInterval() * 20,
+                    bootsManager::checkLowLifeWarning);
+        }
+        playerTaskBuckets.start();
 
-        Bukkit.getScheduler().runTaskTimer(this, () -> {
-            Bukkit.getOnlinePlayers().forEach(p -> {
-                abilityManager.applyPassiveEffects(p);
-                bootsManager.preventBootsRemoval(p);
-                bootsManager.checkBootBreaking(p);
-            });
-        }, 0L, 20L);
+        // Queues records flagged through markDirty. Runs on the main thread because it
+        // snapshots live objects; the writes themselves happen off-thread.
+        Bukkit.getScheduler().runTaskTimer(this,
+                playerManager::saveAllPlayerData, 100L, 100L);
 
         Bukkit.getScheduler().runTaskTimerAsynchronously(this,
-                playerManager::saveAllPlayerData, 6000L, 6000L);
+                playerManager::evictOfflineCache, 1200L, 1200L);
 
-        Bukkit.getScheduler().runTaskTimer(this, () ->
-                        Bukkit.getOnlinePlayers().forEach(bootsManager::preventBootsRemoval),
-                0L, 10L);
-
-        if (configManager.isLowLifeWarningEnabled()) {
-            Bukkit.getScheduler().runTaskTimer(this, () ->
-                            Bukkit.getOnlinePlayers().forEach(bootsManager::checkLowLifeWarning),
-                    0L, configManager.getWarningInterval() * 20L);
-        }
+        Bukkit.getScheduler().runTaskTimerAsynchronously(this,
+                playerManager::runStoreMaintenance, 12000L, 12000L);
     }
 
     private void registerBootShardListener() {
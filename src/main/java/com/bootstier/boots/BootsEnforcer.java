@@ -0,0 +1,103 @@
+package com.bootstier.boots;
+
+import com.bootstier.BootsTierPlugin;
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerGameModeChangeEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps boots in the boots slot by re-checking a player only after something that can
+ * move them happened, instead of polling every player. Checks run on the next tick so the
+ * triggering event has been applied, and several events in one tick share one check.
+ * The slow boots-check sweep in {@link com.bootstier.scheduler.PlayerTaskBuckets} catches
+ * anything that gets past these events.
+ */
+public class BootsEnforcer implements Listener {
+
+    private final BootsTierPlugin plugin;
+    private final Set<UUID> pendingChecks = new HashSet<>();
+
+    public BootsEnforcer(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+    }
+
+    /**
+     * Runs preventBootsRemoval for the player on the next tick.
+     */
+    public void scheduleCheck(final HumanEntity entity) {
+        if (!(entity instanceof Player player) || !this.pendingChecks.add(player.getUniqueId())) {
+            return;
+        }
+
+        this.plugin.getTickScheduler().runLater(() -> {
+            this.pendingChecks.remove(player.getUniqueId());
+            if (player.isOnline() && !player.isDead()) {
+                this.plugin.getBootsManager().preventBootsRemoval(player);
+            }
+        }, 1L);
+    }
+
+    /* ---------------------------------------------
+       EVENTS
+    --------------------------------------------- */
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(final InventoryClickEvent event) {
+        this.scheduleCheck(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryDrag(final InventoryDragEvent event) {
+        this.scheduleCheck(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(final PlayerArmorChangeEvent event) {
+        if (event.getSlotType() == PlayerArmorChangeEvent.SlotType.FEET) {
+            this.scheduleCheck(event.getPlayer());
+        }
+    }
+
+    // Dropping the boots would duplicate them once the slot is refilled
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onDrop(final PlayerDropItemEvent event) {
+        if (BootsFingerprint.isBootsItem(event.getItemDrop().getItemStack())) {
+            event.setCancelled(true);
+            this.scheduleCheck(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDispenseArmor(final BlockDispenseArmorEvent event) {
+        if (event.getTargetEntity() instanceof Player player) {
+            this.scheduleCheck(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(final PlayerRespawnEvent event) {
+        this.scheduleCheck(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGameModeChange(final PlayerGameModeChangeEvent event) {
+        this.scheduleCheck(event.getPlayer());
+    }
+}
@@ -0,0 +1,62 @@
+package com.bootstier.boots;
+
+import com.bootstier.BootsTierPlugin;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Identifies boots items through a PersistentDataContainer tag instead of their lore.
+ *
+ * The tag holds a compact fingerprint of everything the item is built from (boot type,
+ * tier, lives level and broken flag), so checking whether a worn item is still current
+ * is one integer read and the full item is only rebuilt when the fingerprint differs.
+ * Bump {@link #VERSION} whenever the item layout changes to have every item rebuilt.
+ */
+public final class BootsFingerprint {
+
+    public static final NamespacedKey KEY = new NamespacedKey(JavaPlugin.getPlugin(BootsTierPlugin.class), "boots");
+
+    public static final int NONE = -1;
+
+    private static final int VERSION = 1;
+    /** Enchants and lore stop changing past this many lives */
+    private static final int MAX_LIVES_LEVEL = 10;
+
+    private BootsFingerprint() {
+    }
+
+    /**
+     * Layout: version (bits 16+), boot type (8-15), tier (5), broken (4), lives level (0-3).
+     */
+    public static int of(final BootsData bootsData, final int lives) {
+        final int livesLevel = Math.max(0, Math.min(lives, MAX_LIVES_LEVEL));
+        return (VERSION << 16)
+                | (bootsData.getBootType().ordinal() << 8)
+                | (bootsData.getTier() == BootsTier.TIER_2 ? 1 << 5 : 0)
+                | (bootsData.isBroken() ? 1 << 4 : 0)
+                | livesLevel;
+    }
+
+    /**
+     * @return the fingerprint stored on the item, or {@link #NONE} if it is not a boots item
+     */
+    public static int read(final ItemStack item) {
+        if (item == null || item.getType() != Material.DIAMOND_BOOTS) {
+            return NONE;
+        }
+        final Integer fingerprint = item.getPersistentDataContainer().get(KEY, PersistentDataType.INTEGER);
+        return fingerprint == null ? NONE : fingerprint;
+    }
+
+    public static boolean isBootsItem(final ItemStack item) {
+        return read(item) != NONE;
+    }
+
+    public static void write(final ItemMeta meta, final int fingerprint) {
+        meta.getPersistentDataContainer().set(KEY, PersistentDataType.INTEGER, fingerprint);
+    }
+}
@@ -2,6 +2,7 @@ package com.bootstier.boots;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.abilities.AbilityManager;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.player.PlayerData;
 import com.bootstier.utils.ItemUtils;
 import com.bootstier.utils.MessageUtils;
@@ -15,7 +16,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.trim.ArmorTrim;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages boots-related operations with v4 enhancements
@@ -24,6 +27,9 @@ public class BootsManager {
 
     private final BootsTierPlugin plugin;
 
+    /* Built boots items keyed by their BootsFingerprint, never handed out directly */
+    private final Map<Integer, ItemStack> templates = new HashMap<>();
+
     public BootsManager(final BootsTierPlugin plugin) {
         this.plugin = plugin;
     }
@@ -48,7 +54,21 @@ public class BootsManager {
         return this.createBootsItemInternal(bootsData, playerData.getLives());
     }
 
+    /**
+     * Clones the cached item for this (type, tier, lives level, broken) combination,
+     * building it the first time it is needed.
+     */
     private ItemStack createBootsItemInternal(final BootsData bootsData, final int lives) {
+        final int fingerprint = BootsFingerprint.of(bootsData, lives);
+        ItemStack template = this.templates.get(fingerprint);
+        if (template == null) {
+            template = this.buildBootsItem(bootsData, lives);
+            this.templates.put(fingerprint, template);
+        }
+        return template.clone();
+    }
+
+    private ItemStack buildBootsItem(final BootsData bootsData, final int lives) {
         final ItemStack boots = new ItemStack(Material.DIAMOND_BOOTS);
         final ItemMeta meta = boots.getItemMeta();
         
@@ -122,6 +142,7 @@ public class BootsManager {
             this.addMinimalAbilitiesLore(lore, bootsData);
             
             meta.setLore(lore);
+            BootsFingerprint.write(meta, BootsFingerprint.of(bootsData, lives));
             boots.setItemMeta(meta);
         }
         
@@ -301,11 +322,11 @@ public class BootsManager {
         final org.bukkit.Location location = player.getLocation().add(0, 1, 0);
         
         // Red particle burst
-        player.getWorld().spawnParticle(org.bukkit.Particle.DUST, location, 20, 0.5, 0.5, 0.5, 0.1,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.DUST, location, 20, 0.5, 0.5, 0.5, 0.1,
             new org.bukkit.Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
         
         // Totem particles
-        player.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, location, 10, 0.3, 0.3, 0.3, 0.1);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.TOTEM_OF_UNDYING, location, 10, 0.3, 0.3, 0.3, 0.1);
         
         // Sound effect
         player.playSound(location, org.bukkit.Sound.ITEM_SHIELD_BREAK, 1.0f, 0.8f);
@@ -315,29 +336,18 @@ public class BootsManager {
         final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
         final ItemStack boots = player.getInventory().getBoots();
         
-        if (boots == null || boots.getType() != Material.DIAMOND_BOOTS) {
-            return;
-        }
-        
-        final ItemMeta meta = boots.getItemMeta();
-        if (meta == null) {
+        if (data.getBootsData() == null || !BootsFingerprint.isBootsItem(boots)) {
             return;
         }
         
-        // Remove all enchantments first
-        for (final Enchantment enchant : meta.getEnchants().keySet()) {
-            meta.removeEnchant(enchant);
+        // Swap to the template for the new lives level, which also brings the lore up to date
+        if (BootsFingerprint.read(boots) != BootsFingerprint.of(data.getBootsData(), lives)) {
+            player.getInventory().setBoots(this.createBootsItemInternal(data.getBootsData(), lives));
         }
-        
-        this.addBootsEnchantments(meta, data.getBootsData(), lives);
-        
-        boots.setItemMeta(meta);
     }
 
     public boolean hasValidBoots(final Player player) {
-        final ItemStack boots = player.getInventory().getBoots();
-        return boots != null && boots.getType() == Material.DIAMOND_BOOTS && 
-               ItemUtils.hasCustomLore(boots, "Tier:");
+        return BootsFingerprint.isBootsItem(player.getInventory().getBoots());
     }
 
     public boolean areBootsBroken(final Player player) {
@@ -394,17 +404,18 @@ public class BootsManager {
     }
 
     public void preventBootsRemoval(final Player player) {
-        if (!this.hasValidBoots(player)) {
-            final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
-            if (data.getBootsData() != null && !data.areBootsBroken()) {
-                final ItemStack boots = this.createBootsItem(player, data.getBootsData());
-                player.getInventory().setBoots(boots);
-            }
+        final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
+        final ItemStack boots = player.getInventory().getBoots();
+        final int worn = BootsFingerprint.read(boots);
+
+        // Rebuild only when the worn item is missing or no longer matches the player's boots data
+        if (data.getBootsData() != null && !data.areBootsBroken()
+                && worn != BootsFingerprint.of(data.getBootsData(), data.getLives())) {
+            player.getInventory().setBoots(this.createBootsItemInternal(data.getBootsData(), data.getLives()));
         }
         
         // Prevent boots from being moved to other slots
-        final ItemStack boots = player.getInventory().getBoots();
-        if (boots != null && ItemUtils.isValidBootsItem(boots)) {
+        if (this.hasValidBoots(player)) {
             // Check if boots are in wrong slot and move them back
             for (int i = 0; i < 36; i++) {
                 final ItemStack item = player.getInventory().getItem(i);
@@ -0,0 +1,158 @@
+package com.bootstier.boots;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.player.PlayerSessionRegistry;
+import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps a per-player "carries a dragon egg" flag so cooldown code never has to scan
+ * inventories. Inventory events only mark a player for a recheck on the next tick
+ * (the event fires before the inventory actually changes); a slow sweep over all
+ * online players catches anything the events miss, such as plugin-given items.
+ */
+public class DragonEggTracker implements Listener {
+
+    private static final long RECONCILE_INTERVAL_TICKS = 200L;
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+
+    /* Indexed by session slot */
+    private final BitSet eggHolders = new BitSet();
+    private final Set<UUID> pendingChecks = new HashSet<>();
+
+    public DragonEggTracker(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        sessionRegistry.addReleaseListener(this.eggHolders::clear);
+    }
+
+    public void start() {
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+        this.plugin.getTickScheduler().runTimer(this::reconcile, 1L, RECONCILE_INTERVAL_TICKS);
+    }
+
+    public boolean hasDragonEgg(final Player player) {
+        final int slot = this.sessionRegistry.find(player.getUniqueId());
+        return slot >= 0 && this.eggHolders.get(slot);
+    }
+
+    /* ---------------------------------------------
+       REFRESH
+    --------------------------------------------- */
+
+    public void refresh(final Player player) {
+        final int slot = this.sessionRegistry.slotIfOnline(player);
+        if (slot >= 0) {
+            this.eggHolders.set(slot, scanInventory(player));
+        }
+    }
+
+    /**
+     * Rechecks the player on the next tick, once the triggering event has been applied.
+     */
+    private void scheduleRefresh(final HumanEntity entity) {
+        if (!(entity instanceof Player player) || !this.pendingChecks.add(player.getUniqueId())) {
+            return;
+        }
+
+        this.plugin.getTickScheduler().runLater(() -> {
+            this.pendingChecks.remove(player.getUniqueId());
+            if (player.isOnline()) {
+                this.refresh(player);
+            }
+        }, 1L);
+    }
+
+    private void reconcile() {
+        for (final Player player : this.plugin.getServer().getOnlinePlayers()) {
+            this.refresh(player);
+        }
+    }
+
+    private static boolean scanInventory(final Player player) {
+        for (final ItemStack item : player.getInventory().getContents()) {
+            if (item != null && item.getType() == Material.DRAGON_EGG) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* ---------------------------------------------
+       EVENTS
+    --------------------------------------------- */
+
+    // LOWEST so the flag is known before the join listener restores cooldowns
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(final PlayerJoinEvent event) {
+        this.refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(final InventoryClickEvent event) {
+        this.scheduleRefresh(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(final InventoryDragEvent event) {
+        this.scheduleRefresh(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(final InventoryCloseEvent event) {
+        this.scheduleRefresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(final EntityPickupItemEvent event) {
+        if (event.getItem().getItemStack().getType() == Material.DRAGON_EGG
+                && event.getEntity() instanceof Player player) {
+            this.scheduleRefresh(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(final PlayerDropItemEvent event) {
+        if (event.getItemDrop().getItemStack().getType() == Material.DRAGON_EGG) {
+            this.scheduleRefresh(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(final BlockPlaceEvent event) {
+        if (event.getBlockPlaced().getType() == Material.DRAGON_EGG) {
+            this.scheduleRefresh(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(final PlayerDeathEvent event) {
+        this.scheduleRefresh(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(final PlayerRespawnEvent event) {
+        this.scheduleRefresh(event.getPlayer());
+    }
+}
@@ -7,9 +7,7 @@ import com.bootstier.boots.BootsTier;
 import com.bootstier.boots.abilities.impl.*;
 import com.bootstier.player.PlayerData;
 import com.bootstier.utils.MessageUtils;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,6 +24,7 @@ public class AbilityManager {
         this.plugin = plugin;
         this.abilities = new HashMap<>();
         this.initializeAbilities();
+        plugin.getCooldownService().addExpiryListener(this::onCooldownReady);
     }
 
     private void initializeAbilities() {
@@ -60,17 +59,12 @@ public class AbilityManager {
             return false;
         }
 
-        final long cooldown = this.calculateCooldown(player, bootsData.getBootType(), tier);
-        
-        final boolean isReady = tier == 1 ? 
-            bootsData.isAbilityReady(cooldown) : 
-            bootsData.isTier2AbilityReady(cooldown);
-            
-        if (!isReady) {
-            final long remaining = tier == 1 ? 
-                bootsData.getRemainingCooldown(cooldown) / 1000 :
-                bootsData.getTier2RemainingCooldown(cooldown) / 1000;
-            MessageUtils.sendMessage(player, "&cAbility on cooldown! " + remaining + " seconds remaining.");
+        final BootType bootType = bootsData.getBootType();
+        final CooldownService cooldowns = this.plugin.getCooldownService();
+        if (!cooldowns.isReady(player, bootType, tier)) {
+            final long remaining = cooldowns.getRemaining(player, bootType, tier) / 1000;
+            MessageUtils.sendMessage(player, "&c" + this.getAbilityName(bootType, tier) + " on cooldown! "
+                + remaining + " seconds remaining.");
             return false;
         }
 
@@ -80,6 +74,7 @@ public class AbilityManager {
             ability.executeTier2(player);
 
         if (success) {
+            cooldowns.start(player, bootType, tier);
             if (tier == 1) {
                 bootsData.activateAbility(this.getAbilityDuration(bootsData.getBootType(), tier));
             } else {
@@ -96,6 +91,14 @@ public class AbilityManager {
         return success;
     }
 
+    private void onCooldownReady(final Player player, final BootType bootType, final int tier) {
+        final BootsData bootsData = this.plugin.getPlayerManager().getPlayerData(player).getBootsData();
+        if (bootsData == null || bootsData.getBootType() != bootType) {
+            return;
+        }
+        MessageUtils.sendMessage(player, this.plugin.getConfigManager().getMessage("ability-ready"));
+    }
+
     public void applyPassiveEffects(final Player player) {
         final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
         final BootsData bootsData = data.getBootsData();
@@ -104,6 +107,11 @@ public class AbilityManager {
             return;
         }
 
+        // Potion passives are leased by PassiveEffectManager, only world-dependent ones tick here
+        if (!this.plugin.getPassiveEffectManager().hasTickingPassives(bootsData.getBootType(), bootsData.getTier())) {
+            return;
+        }
+
         final BootAbility ability = this.abilities.get(bootsData.getBootType());
         if (ability != null) {
             if (bootsData.getTier() == BootsTier.TIER_1) {
@@ -114,33 +122,6 @@ public class AbilityManager {
         }
     }
 
-    private long calculateCooldown(final Player player, final BootType bootType, final int tier) {
-        long baseCooldown = this.getBaseCooldown(bootType, tier);
-        
-        // Check for dragon egg
-        if (this.hasDragonEgg(player)) {
-            baseCooldown /= 2;
-        }
-        
-        return baseCooldown;
-    }
-
-    private long getBaseCooldown(final BootType bootType, final int tier) {
-        switch (bootType) {
-            case SPEED: return tier == 1 ? 45000 : 90000;
-            case STRENGTH: return tier == 1 ? 90000 : 180000;
-            case WARD: return tier == 1 ? 90000 : 120000;
-            case SPIDER: return tier == 1 ? 120000 : 60000;
-            case FROST: return tier == 1 ? 60000 : 95000;
-            case WIND: return tier == 1 ? 40000 : 60000;
-            case ASTRAL: return tier == 1 ? 90000 : 120000;
-            case LIFE: return tier == 1 ? 120000 : 75000;
-            case WATER: return tier == 1 ? 75000 : 0;
-            case FIRE: return 0; // Instant abilities
-            default: return 60000;
-        }
-    }
-
     private long getAbilityDuration(final BootType bootType, final int tier) {
         switch (bootType) {
             case SPEED: return tier == 1 ? 10000 : 4000; // 10s blur / 4s stun
@@ -157,16 +138,7 @@ public class AbilityManager {
         }
     }
 
-    private boolean hasDragonEgg(final Player player) {
-        for (final ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.DRAGON_EGG) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    private String getAbilityName(final BootType bootType, final int tier) {
+    public String getAbilityName(final BootType bootType, final int tier) {
         switch (bootType) {
             case SPEED: return tier == 1 ? "Blur" : "Thunder Strike";
             case STRENGTH: return tier == 1 ? "Critical Surge" : "Damage Link";
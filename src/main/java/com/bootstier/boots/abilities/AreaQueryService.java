@@ -0,0 +1,139 @@
+package com.bootstier.boots.abilities;
+
+import com.bootstier.BootsTierPlugin;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Nearby living entity lookups for area abilities, shared within a tick.
+ *
+ * The first query of a tick that touches a chunk takes one snapshot of the living
+ * entities in it; every other query that tick touching the same chunk reuses it, so
+ * abilities overlapping in a fight share one scan per chunk instead of each asking the
+ * world. Snapshots are dropped when the tick changes, and entities that died since are
+ * skipped. Entities spawned into a chunk, or moved into it, after its snapshot was taken
+ * are not seen until the next tick. Matches use the same box test as
+ * {@link World#getNearbyEntities}. Unloaded chunks are never loaded. Main thread only.
+ */
+public class AreaQueryService {
+
+    private static final LivingEntity[] NONE = new LivingEntity[0];
+    /** Blocks searched past the box so entities centered in a neighbouring chunk still match */
+    private static final double CHUNK_MARGIN = 2.0;
+
+    private final BootsTierPlugin plugin;
+
+    /* Living entities per chunk key, per world, for snapshotTick */
+    private final Map<UUID, Map<Long, LivingEntity[]>> snapshots = new HashMap<>();
+    private long snapshotTick = Long.MIN_VALUE;
+
+    /* Reused for candidate positions */
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    @Getter private long queries;
+    @Getter private long chunkScans;
+    @Getter private long chunkReuses;
+
+    public AreaQueryService(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Living entities whose bounding box overlaps the box of half sizes {@code x, y, z}
+     * around {@code center}. The list is the caller's own, safe to keep while damaging or
+     * moving what is in it.
+     */
+    public List<LivingEntity> getNearbyLiving(final Location center, final double x, final double y, final double z) {
+        final List<LivingEntity> found = new ArrayList<>();
+        final World world = center.getWorld();
+        if (world == null) {
+            return found;
+        }
+
+        this.queries++;
+        final Map<Long, LivingEntity[]> chunks = this.chunksOf(world);
+
+        final double minX = center.getX() - x;
+        final double maxX = center.getX() + x;
+        final double minY = center.getY() - y;
+        final double maxY = center.getY() + y;
+        final double minZ = center.getZ() - z;
+        final double maxZ = center.getZ() + z;
+
+        final int minChunkX = (int) Math.floor(minX - CHUNK_MARGIN) >> 4;
+        final int maxChunkX = (int) Math.floor(maxX + CHUNK_MARGIN) >> 4;
+        final int minChunkZ = (int) Math.floor(minZ - CHUNK_MARGIN) >> 4;
+        final int maxChunkZ = (int) Math.floor(maxZ + CHUNK_MARGIN) >> 4;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (final LivingEntity entity : this.snapshot(world, chunks, chunkX, chunkZ)) {
+                    if (!entity.isValid()) {
+                        continue;
+                    }
+
+                    entity.getLocation(this.scratch);
+                    final double halfWidth = entity.getWidth() / 2.0;
+                    if (this.scratch.getX() + halfWidth < minX || this.scratch.getX() - halfWidth > maxX
+                            || this.scratch.getZ() + halfWidth < minZ || this.scratch.getZ() - halfWidth > maxZ
+                            || this.scratch.getY() + entity.getHeight() < minY || this.scratch.getY() > maxY) {
+                        continue;
+                    }
+                    found.add(entity);
+                }
+            }
+        }
+        return found;
+    }
+
+    /* ---------------------------------------------
+       SNAPSHOTS
+    --------------------------------------------- */
+
+    private Map<Long, LivingEntity[]> chunksOf(final World world) {
+        final long now = this.plugin.getTickScheduler().getCurrentTick();
+        if (now != this.snapshotTick) {
+            this.snapshotTick = now;
+            for (final Map<Long, LivingEntity[]> chunks : this.snapshots.values()) {
+                chunks.clear();
+            }
+        }
+        return this.snapshots.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+    }
+
+    private LivingEntity[] snapshot(final World world, final Map<Long, LivingEntity[]> chunks,
+                                    final int chunkX, final int chunkZ) {
+        final Long key = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        final LivingEntity[] cached = chunks.get(key);
+        if (cached != null) {
+            this.chunkReuses++;
+            return cached;
+        }
+
+        LivingEntity[] living = NONE;
+        if (world.isChunkLoaded(chunkX, chunkZ)) {
+            final Entity[] entities = world.getChunkAt(chunkX, chunkZ).getEntities();
+            living = new LivingEntity[entities.length];
+            int count = 0;
+            for (final Entity entity : entities) {
+                if (entity instanceof LivingEntity livingEntity) {
+                    living[count++] = livingEntity;
+                }
+            }
+            living = count == 0 ? NONE : Arrays.copyOf(living, count);
+            this.chunkScans++;
+        }
+        chunks.put(key, living);
+        return living;
+    }
+}
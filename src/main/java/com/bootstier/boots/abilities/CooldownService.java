@@ -0,0 +1,201 @@
+package com.bootstier.boots.abilities;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.boots.BootType;
+import com.bootstier.boots.BootsData;
+import com.bootstier.player.PlayerSessionRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Single source of truth for ability cooldowns.
+ *
+ * Ready times live in one flat long array indexed by (player slot, boot type, tier),
+ * so checks from abilities, the action bar and commands are plain array reads.
+ * All methods are main thread only.
+ */
+public class CooldownService {
+
+    private static final int TIERS = 2;
+    private static final int KEYS_PER_PLAYER = BootType.values().length * TIERS;
+
+    /** Base cooldown in ms per (boot type, tier) key */
+    private static final long[] BASE_COOLDOWNS = new long[KEYS_PER_PLAYER];
+
+    static {
+        base(BootType.SPEED, 45_000L, 90_000L);
+        base(BootType.STRENGTH, 90_000L, 180_000L);
+        base(BootType.WARD, 90_000L, 120_000L);
+        base(BootType.SPIDER, 120_000L, 60_000L);
+        base(BootType.FROST, 60_000L, 95_000L);
+        base(BootType.WIND, 40_000L, 60_000L);
+        base(BootType.ASTRAL, 90_000L, 120_000L);
+        base(BootType.LIFE, 120_000L, 75_000L);
+        base(BootType.WATER, 75_000L, 0L);
+        base(BootType.FIRE, 60_000L, 75_000L);
+    }
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+    private final List<CooldownListener> expiryListeners = new ArrayList<>();
+
+    private long[] readyAt = new long[16 * KEYS_PER_PLAYER];
+
+    public CooldownService(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        sessionRegistry.addReleaseListener(this::clearSlot);
+    }
+
+    /* ---------------------------------------------
+       DURATIONS
+    --------------------------------------------- */
+
+    public long getBaseCooldown(final BootType type, final int tier) {
+        return BASE_COOLDOWNS[key(type, tier)];
+    }
+
+    /**
+     * @return the cooldown this player would get right now, with the dragon egg reduction applied
+     */
+    public long getCooldown(final Player player, final BootType type, final int tier) {
+        final long base = this.getBaseCooldown(type, tier);
+        if (base > 0 && this.plugin.getDragonEggTracker().hasDragonEgg(player)) {
+            return (long) (base * (1.0 - this.plugin.getConfigManager().getDragonEggReduction()));
+        }
+        return base;
+    }
+
+    /* ---------------------------------------------
+       STATE
+    --------------------------------------------- */
+
+    public boolean isReady(final Player player, final BootType type, final int tier) {
+        return this.getRemaining(player, type, tier) <= 0L;
+    }
+
+    public long getRemaining(final Player player, final BootType type, final int tier) {
+        final int slot = this.sessionRegistry.find(player.getUniqueId());
+        final int index = slot * KEYS_PER_PLAYER + key(type, tier);
+        if (slot < 0 || index >= this.readyAt.length) {
+            return 0L;
+        }
+        return Math.max(0L, this.readyAt[index] - System.currentTimeMillis());
+    }
+
+    /**
+     * Starts the cooldown for an ability that was just used.
+     *
+     * @return the cooldown length in ms
+     */
+    public long start(final Player player, final BootType type, final int tier) {
+        final long cooldown = this.getCooldown(player, type, tier);
+        this.setReadyAt(player, type, tier, System.currentTimeMillis() + cooldown);
+        return cooldown;
+    }
+
+    public void reset(final Player player) {
+        final int slot = this.sessionRegistry.find(player.getUniqueId());
+        if (slot >= 0) {
+            this.clearSlot(slot);
+        }
+    }
+
+    /**
+     * Rebuilds the player's running cooldowns from the last use times saved in their boots data.
+     */
+    public void restore(final Player player, final BootsData bootsData) {
+        if (bootsData == null || bootsData.getBootType() == null) {
+            return;
+        }
+
+        final BootType type = bootsData.getBootType();
+        this.restore(player, type, 1, bootsData.getLastAbilityUse());
+        this.restore(player, type, 2, bootsData.getLastTier2AbilityUse());
+    }
+
+    private void restore(final Player player, final BootType type, final int tier, final long lastUse) {
+        if (lastUse <= 0L) {
+            return;
+        }
+
+        final long until = lastUse + this.getCooldown(player, type, tier);
+        if (until > System.currentTimeMillis()) {
+            this.setReadyAt(player, type, tier, until);
+        }
+    }
+
+    private void setReadyAt(final Player player, final BootType type, final int tier, final long until) {
+        final int slot = this.sessionRegistry.slotIfOnline(player);
+        if (slot < 0) {
+            return;
+        }
+        final int index = slot * KEYS_PER_PLAYER + key(type, tier);
+        if (index >= this.readyAt.length) {
+            this.readyAt = Arrays.copyOf(this.readyAt, Math.max(this.readyAt.length * 2, (slot + 1) * KEYS_PER_PLAYER));
+        }
+        this.readyAt[index] = until;
+
+        final long delayMs = until - System.currentTimeMillis();
+        if (delayMs > 0L && !this.expiryListeners.isEmpty()) {
+            this.scheduleExpiry(player.getUniqueId(), slot, index, type, tier, until, delayMs);
+        }
+    }
+
+    private void clearSlot(final int slot) {
+        final int from = slot * KEYS_PER_PLAYER;
+        if (from < this.readyAt.length) {
+            Arrays.fill(this.readyAt, from, from + KEYS_PER_PLAYER, 0L);
+        }
+    }
+
+    /* ---------------------------------------------
+       EXPIRY
+    --------------------------------------------- */
+
+    public void addExpiryListener(final CooldownListener listener) {
+        this.expiryListeners.add(listener);
+    }
+
+    private void scheduleExpiry(final UUID playerId, final int slot, final int index, final BootType type,
+                                final int tier, final long until, final long delayMs) {
+        this.plugin.getTickScheduler().runLater(() -> {
+            // Skip when the cooldown was restarted or the slot now belongs to someone else
+            if (this.sessionRegistry.find(playerId) != slot || this.readyAt[index] != until) {
+                return;
+            }
+
+            final Player player = Bukkit.getPlayer(playerId);
+            if (player == null) {
+                return;
+            }
+
+            for (final CooldownListener listener : this.expiryListeners) {
+                listener.onReady(player, type, tier);
+            }
+        }, (delayMs + 49L) / 50L);
+    }
+
+    @FunctionalInterface
+    public interface CooldownListener {
+        void onReady(Player player, BootType type, int tier);
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private static int key(final BootType type, final int tier) {
+        return type.ordinal() * TIERS + (tier - 1);
+    }
+
+    private static void base(final BootType type, final long tier1, final long tier2) {
+        BASE_COOLDOWNS[key(type, 1)] = tier1;
+        BASE_COOLDOWNS[key(type, 2)] = tier2;
+    }
+}
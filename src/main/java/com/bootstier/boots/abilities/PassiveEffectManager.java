@@ -0,0 +1,270 @@
+package com.bootstier.boots.abilities;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.boots.BootType;
+import com.bootstier.boots.BootsData;
+import com.bootstier.boots.BootsTier;
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSessionRegistry;
+import com.bootstier.scheduler.WheelTask;
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPotionEffectEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Grants the potion effect passives of each boot as leases instead of topping them up
+ * every second. An effect is given for {@link #LEASE_TICKS} and renewed by a wheel task
+ * shortly before it runs out, or right away when something strips it (milk, totem,
+ * /effect clear, death) or the worn boots change. Players whose boots have no potion
+ * passives cost nothing here.
+ *
+ * Passives that need to look at the world every second (echo sense, wet, ...) stay in
+ * the BootAbility implementations; {@link #hasTickingPassives} tells the passive job
+ * which players it can skip. Main thread only.
+ */
+public class PassiveEffectManager implements Listener {
+
+    private static final int TIERS = 2;
+    private static final int LEASE_TICKS = 600;
+    private static final long RENEW_BEFORE_TICKS = 40L;
+    private static final int NO_LEASE = -1;
+
+    /** Leased effects per (boot type, tier) key */
+    private static final PotionEffect[][] LEASED = new PotionEffect[BootType.values().length * TIERS][];
+    /** Keys whose BootAbility still does work in applyTier1/2Passives */
+    private static final boolean[] TICKING = new boolean[BootType.values().length * TIERS];
+
+    static {
+        Arrays.fill(LEASED, new PotionEffect[0]);
+        lease(BootType.SPEED, 1, PotionEffectType.SPEED, 0);
+        lease(BootType.STRENGTH, 2, PotionEffectType.STRENGTH, 0);
+        lease(BootType.LIFE, 2, PotionEffectType.HERO_OF_THE_VILLAGE, 2);
+        lease(BootType.WATER, 1, PotionEffectType.CONDUIT_POWER, 0);
+        lease(BootType.FIRE, 1, PotionEffectType.FIRE_RESISTANCE, 0);
+
+        ticking(BootType.SPEED, 1);
+        ticking(BootType.WARD, 2);
+        ticking(BootType.FROST, 1);
+        ticking(BootType.FROST, 2);
+        ticking(BootType.WATER, 2);
+        ticking(BootType.FIRE, 2);
+    }
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+    private final Set<UUID> pendingRefreshes = new HashSet<>();
+
+    /* Indexed by session slot */
+    private int[] leasedKey = new int[16];
+    private WheelTask[] renewals = new WheelTask[16];
+
+    /* Set while this class removes effects itself, so its own removals are not treated as stripping */
+    private boolean revoking;
+
+    public PassiveEffectManager(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        Arrays.fill(this.leasedKey, NO_LEASE);
+        sessionRegistry.addReleaseListener(this::clearSlot);
+    }
+
+    public void start() {
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+        for (final Player player : this.plugin.getServer().getOnlinePlayers()) {
+            this.refresh(player);
+        }
+    }
+
+    public boolean hasTickingPassives(final BootType type, final BootsTier tier) {
+        return TICKING[key(type, tier == BootsTier.TIER_2 ? 2 : 1)];
+    }
+
+    /* ---------------------------------------------
+       LEASES
+    --------------------------------------------- */
+
+    /**
+     * Brings the player's leased effects in line with the boots they currently have,
+     * granting a fresh lease if needed.
+     */
+    public void refresh(final Player player) {
+        final int slot = this.sessionRegistry.slotIfOnline(player);
+        if (slot < 0) {
+            return;
+        }
+        this.ensureCapacity(slot);
+
+        final int previous = this.leasedKey[slot];
+        final int current = this.currentKey(player);
+
+        if (previous != NO_LEASE && previous != current) {
+            this.revoke(player, previous);
+        }
+
+        if (current == NO_LEASE || LEASED[current].length == 0) {
+            this.leasedKey[slot] = NO_LEASE;
+            this.cancelRenewal(slot);
+            return;
+        }
+
+        for (final PotionEffect effect : LEASED[current]) {
+            player.addPotionEffect(effect);
+        }
+        this.leasedKey[slot] = current;
+
+        this.cancelRenewal(slot);
+        this.renewals[slot] = this.plugin.getTickScheduler().runLater(() -> {
+            this.renewals[slot] = null;
+            if (player.isOnline() && this.sessionRegistry.find(player.getUniqueId()) == slot) {
+                this.refresh(player);
+            }
+        }, LEASE_TICKS - RENEW_BEFORE_TICKS);
+    }
+
+    /**
+     * Refreshes on the next tick, after the triggering event has been applied.
+     */
+    public void scheduleRefresh(final Player player) {
+        if (!this.pendingRefreshes.add(player.getUniqueId())) {
+            return;
+        }
+
+        this.plugin.getTickScheduler().runLater(() -> {
+            this.pendingRefreshes.remove(player.getUniqueId());
+            if (player.isOnline() && !player.isDead()) {
+                this.refresh(player);
+            }
+        }, 1L);
+    }
+
+    private void revoke(final Player player, final int key) {
+        this.revoking = true;
+        try {
+            for (final PotionEffect leased : LEASED[key]) {
+                // Only take back our own effect, not one from a potion or another plugin
+                final PotionEffect active = player.getPotionEffect(leased.getType());
+                if (active != null && active.isAmbient() && active.getAmplifier() == leased.getAmplifier()
+                        && active.getDuration() <= LEASE_TICKS) {
+                    player.removePotionEffect(leased.getType());
+                }
+            }
+        } finally {
+            this.revoking = false;
+        }
+    }
+
+    private int currentKey(final Player player) {
+        final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
+        final BootsData bootsData = data.getBootsData();
+        if (bootsData == null || bootsData.getBootType() == null || data.areBootsBroken()) {
+            return NO_LEASE;
+        }
+        return key(bootsData.getBootType(), bootsData.getTier() == BootsTier.TIER_2 ? 2 : 1);
+    }
+
+    private boolean isLeased(final Player player, final PotionEffectType type) {
+        final int slot = this.sessionRegistry.find(player.getUniqueId());
+        if (slot < 0 || slot >= this.leasedKey.length || this.leasedKey[slot] == NO_LEASE) {
+            return false;
+        }
+
+        for (final PotionEffect leased : LEASED[this.leasedKey[slot]]) {
+            if (leased.getType().equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* ---------------------------------------------
+       EVENTS
+    --------------------------------------------- */
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEffectRemoved(final EntityPotionEffectEvent event) {
+        if (this.revoking || !(event.getEntity() instanceof Player player) || event.getOldEffect() == null) {
+            return;
+        }
+
+        final EntityPotionEffectEvent.Action action = event.getAction();
+        if ((action == EntityPotionEffectEvent.Action.REMOVED || action == EntityPotionEffectEvent.Action.CLEARED)
+                && this.isLeased(player, event.getOldEffect().getType())) {
+            this.scheduleRefresh(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(final PlayerArmorChangeEvent event) {
+        if (event.getSlotType() == PlayerArmorChangeEvent.SlotType.FEET) {
+            this.scheduleRefresh(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        this.scheduleRefresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(final PlayerRespawnEvent event) {
+        this.scheduleRefresh(event.getPlayer());
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private void cancelRenewal(final int slot) {
+        final WheelTask renewal = this.renewals[slot];
+        if (renewal != null) {
+            renewal.cancel();
+            this.renewals[slot] = null;
+        }
+    }
+
+    private void clearSlot(final int slot) {
+        if (slot < this.leasedKey.length) {
+            this.cancelRenewal(slot);
+            this.leasedKey[slot] = NO_LEASE;
+        }
+    }
+
+    private void ensureCapacity(final int slot) {
+        if (slot < this.leasedKey.length) {
+            return;
+        }
+
+        final int size = Math.max(this.leasedKey.length * 2, slot + 1);
+        final int oldSize = this.leasedKey.length;
+        this.leasedKey = Arrays.copyOf(this.leasedKey, size);
+        this.renewals = Arrays.copyOf(this.renewals, size);
+        Arrays.fill(this.leasedKey, oldSize, size, NO_LEASE);
+    }
+
+    private static int key(final BootType type, final int tier) {
+        return type.ordinal() * TIERS + (tier - 1);
+    }
+
+    private static void lease(final BootType type, final int tier, final PotionEffectType effect, final int amplifier) {
+        final int key = key(type, tier);
+        final PotionEffect[] effects = Arrays.copyOf(LEASED[key], LEASED[key].length + 1);
+        effects[effects.length - 1] = new PotionEffect(effect, LEASE_TICKS, amplifier, true, false);
+        LEASED[key] = effects;
+    }
+
+    private static void ticking(final BootType type, final int tier) {
+        TICKING[key(type, tier)] = true;
+    }
+}
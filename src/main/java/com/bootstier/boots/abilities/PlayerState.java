@@ -0,0 +1,88 @@
+package com.bootstier.boots.abilities;
+
+import lombok.Getter;
+
+/**
+ * Per-player ability state kept by the {@link PlayerStateStore}. The kind decides which
+ * store methods a state takes: flags are on or off, timed states end by themselves at
+ * their expiry, numbers and locations hold a value until cleared.
+ */
+@Getter
+public enum PlayerState {
+
+    /* Speed */
+    SPEED_BLUR(Kind.TIMED),
+    SPEED_THUNDER_WINDOW(Kind.TIMED),
+    SPEED_GAP_COOLDOWN(Kind.TIMED),
+
+    /* Strength */
+    STRENGTH_CRITICAL(Kind.TIMED),
+    DAMAGE_LINK(Kind.TIMED),
+    DAMAGE_LINK_RADIUS(Kind.NUMBER),
+
+    /* Ward */
+    WARD_INVISIBLE(Kind.TIMED),
+    WARD_SENSOR(Kind.FLAG),
+    /** Set on sneaking players an Echo Sense user is about to reveal */
+    ECHO_SENSE_DETECTED(Kind.FLAG),
+
+    /* Frost */
+    FROST_SHIELD(Kind.FLAG),
+
+    /* Wind */
+    /** Runs for the double tap window after each jump tap */
+    WIND_JUMP_TAP(Kind.TIMED),
+    WIND_JUMPED(Kind.FLAG),
+
+    /* Astral */
+    ASTRAL_REWIND(Kind.LOCATION),
+    ASTRAL_DISABLE(Kind.FLAG),
+    /** Set on players caught in an Astral Disable */
+    BOOTS_DISABLED(Kind.FLAG),
+
+    /* Life */
+    LIFE_HEAL_READY(Kind.FLAG),
+    LIFE_CIRCLE(Kind.FLAG),
+    /** Set on players whose health a Life Circle capped */
+    LIFE_HEALTH_REDUCED(Kind.FLAG),
+
+    /* Fire */
+    FIRE_RINGS(Kind.FLAG),
+    FIRE_DASH(Kind.FLAG),
+    /** Set on players a Flame Dash marked */
+    FIRE_MARKED(Kind.TIMED),
+
+    /* Water */
+    WATER_WHIRLPOOL(Kind.FLAG),
+    /** Set on players drowning inside a Whirlpool */
+    WHIRLPOOL_DROWNING(Kind.FLAG),
+    WATER_JUMP_DISABLED(Kind.TIMED),
+    WATER_WET(Kind.TIMED);
+
+    public enum Kind { FLAG, TIMED, NUMBER, LOCATION }
+
+    private final Kind kind;
+    /** Position among the states of the same kind */
+    private int index;
+
+    static {
+        final int[] counts = new int[Kind.values().length];
+        for (final PlayerState state : values()) {
+            state.index = counts[state.kind.ordinal()]++;
+        }
+    }
+
+    PlayerState(final Kind kind) {
+        this.kind = kind;
+    }
+
+    static int count(final Kind kind) {
+        int count = 0;
+        for (final PlayerState state : values()) {
+            if (state.kind == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,199 @@
+package com.bootstier.boots.abilities;
+
+import com.bootstier.player.PlayerSessionRegistry;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * Typed per-player ability state, replacing Bukkit metadata under string keys.
+ *
+ * Every {@link PlayerState} has a bit in the player's state mask; timed states also keep
+ * an expiry in milliseconds, numbers and locations their value, each in a flat array
+ * indexed by session slot. Timed states read as cleared once their expiry passes, and
+ * a player's state is wiped when their slot is released on quit; writes for a player who
+ * already quit are ignored. Main thread only.
+ */
+public class PlayerStateStore {
+
+    private static final int TIMED = PlayerState.count(PlayerState.Kind.TIMED);
+    private static final int NUMBERS = PlayerState.count(PlayerState.Kind.NUMBER);
+    private static final int LOCATIONS = PlayerState.count(PlayerState.Kind.LOCATION);
+
+    static {
+        if (PlayerState.values().length > Long.SIZE) {
+            throw new IllegalStateException("PlayerState no longer fits in one mask");
+        }
+    }
+
+    private final PlayerSessionRegistry sessionRegistry;
+
+    /* Indexed by session slot, or slot * kind count + state index */
+    private long[] masks = new long[16];
+    private long[] expiries = new long[16 * TIMED];
+    private double[] numbers = new double[16 * NUMBERS];
+    private Location[] locations = new Location[16 * LOCATIONS];
+
+    public PlayerStateStore(final PlayerSessionRegistry sessionRegistry) {
+        this.sessionRegistry = sessionRegistry;
+        sessionRegistry.addReleaseListener(this::clearSlot);
+    }
+
+    /* ---------------------------------------------
+       READ
+    --------------------------------------------- */
+
+    /**
+     * @return whether the state is set, and for timed states not yet expired
+     */
+    public boolean has(final Player player, final PlayerState state) {
+        final int slot = this.sessionRegistry.find(player.getUniqueId());
+        if (slot < 0 || slot >= this.masks.length || (this.masks[slot] & bit(state)) == 0) {
+            return false;
+        }
+        if (state.getKind() != PlayerState.Kind.TIMED) {
+            return true;
+        }
+
+        if (this.expiries[slot * TIMED + state.getIndex()] > System.currentTimeMillis()) {
+            return true;
+        }
+        this.masks[slot] &= ~bit(state);
+        return false;
+    }
+
+    /**
+     * @return the expiry in epoch millis, or 0 when the state is not active
+     */
+    public long getUntil(final Player player, final PlayerState state) {
+        check(state, PlayerState.Kind.TIMED);
+        if (!this.has(player, state)) {
+            return 0L;
+        }
+        return this.expiries[this.sessionRegistry.find(player.getUniqueId()) * TIMED + state.getIndex()];
+    }
+
+    public double getNumber(final Player player, final PlayerState state, final double fallback) {
+        check(state, PlayerState.Kind.NUMBER);
+        if (!this.has(player, state)) {
+            return fallback;
+        }
+        return this.numbers[this.sessionRegistry.find(player.getUniqueId()) * NUMBERS + state.getIndex()];
+    }
+
+    /**
+     * @return the stored location, or null when none is set
+     */
+    public Location getLocation(final Player player, final PlayerState state) {
+        check(state, PlayerState.Kind.LOCATION);
+        if (!this.has(player, state)) {
+            return null;
+        }
+        return this.locations[this.sessionRegistry.find(player.getUniqueId()) * LOCATIONS + state.getIndex()];
+    }
+
+    /* ---------------------------------------------
+       WRITE
+    --------------------------------------------- */
+
+    public void set(final Player player, final PlayerState state) {
+        check(state, PlayerState.Kind.FLAG);
+        final int slot = this.slot(player);
+        if (slot >= 0) {
+            this.masks[slot] |= bit(state);
+        }
+    }
+
+    public void setUntil(final Player player, final PlayerState state, final long untilMillis) {
+        check(state, PlayerState.Kind.TIMED);
+        final int slot = this.slot(player);
+        if (slot < 0) {
+            return;
+        }
+        this.expiries[slot * TIMED + state.getIndex()] = untilMillis;
+        this.masks[slot] |= bit(state);
+    }
+
+    public void setNumber(final Player player, final PlayerState state, final double value) {
+        check(state, PlayerState.Kind.NUMBER);
+        final int slot = this.slot(player);
+        if (slot < 0) {
+            return;
+        }
+        this.numbers[slot * NUMBERS + state.getIndex()] = value;
+        this.masks[slot] |= bit(state);
+    }
+
+    public void setLocation(final Player player, final PlayerState state, final Location location) {
+        check(state, PlayerState.Kind.LOCATION);
+        final int slot = this.slot(player);
+        if (slot < 0) {
+            return;
+        }
+        this.locations[slot * LOCATIONS + state.getIndex()] = location;
+        this.masks[slot] |= bit(state);
+    }
+
+    public void clear(final Player player, final PlayerState state) {
+        final int slot = this.sessionRegistry.find(player.getUniqueId());
+        if (slot >= 0 && slot < this.masks.length) {
+            this.clear(slot, state);
+        }
+    }
+
+    /**
+     * Clears the state for every player, for abilities that mark whoever they affected.
+     */
+    public void clearAll(final PlayerState state) {
+        for (int slot = 0; slot < this.masks.length; slot++) {
+            if ((this.masks[slot] & bit(state)) != 0) {
+                this.clear(slot, state);
+            }
+        }
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private void clear(final int slot, final PlayerState state) {
+        this.masks[slot] &= ~bit(state);
+        if (state.getKind() == PlayerState.Kind.LOCATION) {
+            this.locations[slot * LOCATIONS + state.getIndex()] = null;
+        }
+    }
+
+    private void clearSlot(final int slot) {
+        if (slot >= this.masks.length) {
+            return;
+        }
+        this.masks[slot] = 0L;
+        Arrays.fill(this.locations, slot * LOCATIONS, (slot + 1) * LOCATIONS, null);
+    }
+
+    /**
+     * @return the player's slot with room for it, or -1 when they are offline
+     */
+    private int slot(final Player player) {
+        final int slot = this.sessionRegistry.slotIfOnline(player);
+        if (slot >= this.masks.length) {
+            final int capacity = Math.max(this.masks.length * 2, slot + 1);
+            this.masks = Arrays.copyOf(this.masks, capacity);
+            this.expiries = Arrays.copyOf(this.expiries, capacity * TIMED);
+            this.numbers = Arrays.copyOf(this.numbers, capacity * NUMBERS);
+            this.locations = Arrays.copyOf(this.locations, capacity * LOCATIONS);
+        }
+        return slot;
+    }
+
+    private static long bit(final PlayerState state) {
+        return 1L << state.ordinal();
+    }
+
+    private static void check(final PlayerState state, final PlayerState.Kind kind) {
+        if (state.getKind() != kind) {
+            throw new IllegalArgumentException(state + " is a " + state.getKind() + " state, not " + kind);
+        }
+    }
+}
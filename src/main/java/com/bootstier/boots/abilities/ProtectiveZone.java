@@ -0,0 +1,58 @@
+package com.bootstier.boots.abilities;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * An area an ability protects, either following its owner or fixed at a point. Registered
+ * with the {@link ProtectiveZoneRegistry}, which returns it for any point within its radius
+ * until it is removed.
+ */
+public final class ProtectiveZone {
+
+    public enum Type {
+        /** Frost Shield, blocks projectiles landing inside it */
+        FROST_SHIELD
+    }
+
+    @Getter private final Type type;
+    @Getter private final Player owner;
+    /** Fixed center, or null when the zone follows its owner */
+    private final Location anchor;
+    @Getter private final double radius;
+
+    /* Cells the zone is filed under, kept by the registry */
+    UUID worldId;
+    int minCellX;
+    int maxCellX;
+    int minCellZ;
+    int maxCellZ;
+
+    ProtectiveZone(final Type type, final Player owner, final Location anchor, final double radius) {
+        this.type = type;
+        this.owner = owner;
+        this.anchor = anchor == null ? null : anchor.clone();
+        this.radius = radius;
+    }
+
+    public boolean isAttached() {
+        return this.anchor == null;
+    }
+
+    /**
+     * Writes the current center into {@code into} and returns it.
+     */
+    public Location getCenter(final Location into) {
+        if (this.anchor == null) {
+            return this.owner.getLocation(into);
+        }
+        into.setWorld(this.anchor.getWorld());
+        into.setX(this.anchor.getX());
+        into.setY(this.anchor.getY());
+        into.setZ(this.anchor.getZ());
+        return into;
+    }
+}
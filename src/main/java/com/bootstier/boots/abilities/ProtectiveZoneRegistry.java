@@ -0,0 +1,228 @@
+package com.bootstier.boots.abilities;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.player.PlayerSession;
+import com.bootstier.player.PlayerSessionRegistry;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Active {@link ProtectiveZone}s filed under every 16x16 block column their radius
+ * reaches, per world, so checking a point only looks at the zones in its column.
+ *
+ * Zones that follow their owner are refiled every tick with a small margin, which covers
+ * the distance a player moves between refiles. A world without zones has no entry, so
+ * lookups there return before touching any map. Zones are dropped when their owner quits.
+ * Main thread only.
+ */
+public class ProtectiveZoneRegistry {
+
+    private static final int CELL_SHIFT = 4;
+    /** Blocks added around attached zones when filing them */
+    private static final double FOLLOW_MARGIN = 2.0;
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+    private final Map<UUID, Map<Long, List<ProtectiveZone>>> worlds = new HashMap<>();
+    private final List<ProtectiveZone> zones = new ArrayList<>();
+
+    /* Reused for zone centers */
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    @Getter private long checks;
+    @Getter private long hits;
+
+    public ProtectiveZoneRegistry(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        sessionRegistry.addReleaseListener(this::removeOwnedBy);
+    }
+
+    public void start() {
+        this.plugin.getTickScheduler().runTimer(this::follow, 1L, 1L);
+    }
+
+    public int getActiveZones() {
+        return this.zones.size();
+    }
+
+    /* ---------------------------------------------
+       REGISTER
+    --------------------------------------------- */
+
+    /**
+     * Registers a zone that moves with {@code owner}, centered on their feet.
+     */
+    public ProtectiveZone attach(final ProtectiveZone.Type type, final Player owner, final double radius) {
+        return this.register(new ProtectiveZone(type, owner, null, radius));
+    }
+
+    /**
+     * Registers a zone fixed at {@code center}.
+     */
+    public ProtectiveZone anchor(final ProtectiveZone.Type type, final Player owner, final Location center,
+                                 final double radius) {
+        return this.register(new ProtectiveZone(type, owner, center, radius));
+    }
+
+    public void remove(final ProtectiveZone zone) {
+        if (zone != null && this.zones.remove(zone)) {
+            this.unfile(zone);
+        }
+    }
+
+    private ProtectiveZone register(final ProtectiveZone zone) {
+        this.zones.add(zone);
+        this.file(zone);
+        return zone;
+    }
+
+    /* ---------------------------------------------
+       LOOKUP
+    --------------------------------------------- */
+
+    /**
+     * @return a zone of {@code type} covering {@code at}, or null when there is none
+     */
+    public ProtectiveZone find(final Location at, final ProtectiveZone.Type type) {
+        final World world = at.getWorld();
+        final Map<Long, List<ProtectiveZone>> cells = world == null ? null : this.worlds.get(world.getUID());
+        if (cells == null) {
+            return null;
+        }
+
+        final List<ProtectiveZone> candidates = cells.get(key(at.getBlockX() >> CELL_SHIFT, at.getBlockZ() >> CELL_SHIFT));
+        if (candidates == null) {
+            return null;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            final ProtectiveZone zone = candidates.get(i);
+            if (zone.getType() != type) {
+                continue;
+            }
+
+            this.checks++;
+            final Location center = zone.getCenter(this.scratch);
+            if (center.getWorld() != world) {
+                continue;
+            }
+            final double dx = center.getX() - at.getX();
+            final double dy = center.getY() - at.getY();
+            final double dz = center.getZ() - at.getZ();
+            if (dx * dx + dy * dy + dz * dz <= zone.getRadius() * zone.getRadius()) {
+                this.hits++;
+                return zone;
+            }
+        }
+        return null;
+    }
+
+    /* ---------------------------------------------
+       FILING
+    --------------------------------------------- */
+
+    /**
+     * Refiles attached zones whose owner moved into other columns.
+     */
+    private void follow() {
+        for (int i = 0; i < this.zones.size(); i++) {
+            final ProtectiveZone zone = this.zones.get(i);
+            if (!zone.isAttached()) {
+                continue;
+            }
+
+            final Location center = zone.getCenter(this.scratch);
+            final double reach = zone.getRadius() + FOLLOW_MARGIN;
+            final World world = center.getWorld();
+            if (world != null && world.getUID().equals(zone.worldId)
+                    && cell(center.getX() - reach) == zone.minCellX && cell(center.getX() + reach) == zone.maxCellX
+                    && cell(center.getZ() - reach) == zone.minCellZ && cell(center.getZ() + reach) == zone.maxCellZ) {
+                continue;
+            }
+
+            this.unfile(zone);
+            this.file(zone);
+        }
+    }
+
+    private void file(final ProtectiveZone zone) {
+        final Location center = zone.getCenter(this.scratch);
+        final World world = center.getWorld();
+        if (world == null) {
+            return;
+        }
+
+        final double reach = zone.getRadius() + (zone.isAttached() ? FOLLOW_MARGIN : 0.0);
+        zone.worldId = world.getUID();
+        zone.minCellX = cell(center.getX() - reach);
+        zone.maxCellX = cell(center.getX() + reach);
+        zone.minCellZ = cell(center.getZ() - reach);
+        zone.maxCellZ = cell(center.getZ() + reach);
+
+        final Map<Long, List<ProtectiveZone>> cells = this.worlds.computeIfAbsent(zone.worldId, k -> new HashMap<>());
+        for (int x = zone.minCellX; x <= zone.maxCellX; x++) {
+            for (int z = zone.minCellZ; z <= zone.maxCellZ; z++) {
+                cells.computeIfAbsent(key(x, z), k -> new ArrayList<>(2)).add(zone);
+            }
+        }
+    }
+
+    private void unfile(final ProtectiveZone zone) {
+        if (zone.worldId == null) {
+            return;
+        }
+
+        final Map<Long, List<ProtectiveZone>> cells = this.worlds.get(zone.worldId);
+        if (cells != null) {
+            for (int x = zone.minCellX; x <= zone.maxCellX; x++) {
+                for (int z = zone.minCellZ; z <= zone.maxCellZ; z++) {
+                    final Long key = key(x, z);
+                    final List<ProtectiveZone> filed = cells.get(key);
+                    if (filed != null && filed.remove(zone) && filed.isEmpty()) {
+                        cells.remove(key);
+                    }
+                }
+            }
+            if (cells.isEmpty()) {
+                this.worlds.remove(zone.worldId);
+            }
+        }
+        zone.worldId = null;
+    }
+
+    private void removeOwnedBy(final int slot) {
+        final PlayerSession session = this.sessionRegistry.get(slot);
+        if (session == null) {
+            return;
+        }
+
+        for (int i = this.zones.size() - 1; i >= 0; i--) {
+            final ProtectiveZone zone = this.zones.get(i);
+            if (zone.getOwner().getUniqueId().equals(session.getPlayerId())) {
+                this.zones.remove(i);
+                this.unfile(zone);
+            }
+        }
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private static int cell(final double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long key(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
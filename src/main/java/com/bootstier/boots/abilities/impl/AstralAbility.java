@@ -2,60 +2,29 @@ package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.abilities.BootAbility;
+import com.bootstier.boots.abilities.PlayerState;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.scheduler.WheelTask;
 import com.bootstier.utils.LocationUtils;
 import org.bukkit.*;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
 public class AstralAbility implements BootAbility {
 
     private final BootsTierPlugin plugin;
+    private final PlayerStateStore states;
     private final Random random = new Random();
 
     // Player → Marker ArmorStand
     private final Map<UUID, ArmorStand> rewindMarkers = new HashMap<>();
 
-    // COOLDOWN MAPS (NOW REAL — COMPATIBLE WITH ACTION BAR)
-    private final Map<UUID, Long> tier1Cooldown = new HashMap<>();
-    private final Map<UUID, Long> tier2Cooldown = new HashMap<>();
-
-    // REAL COOLDOWNS (MATCH ACTIONBAR MANAGER)
-    private static final long TIER1_CD = 90_000L;  // 1m30s
-    private static final long TIER2_CD = 120_000L; // 2m
-
     public AstralAbility(BootsTierPlugin plugin) {
         this.plugin = plugin;
-    }
-
-    /* ==========================================================
-       COOLDOWN HELPERS + DRAGON EGG MULTIPLIER
-       ========================================================== */
-
-    private boolean hasDragonEgg(Player p) {
-        for (ItemStack item : p.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.DRAGON_EGG)
-                return true;
-        }
-        return false;
-    }
-
-    private boolean isOnCooldown(Map<UUID, Long> map, UUID id) {
-        return map.getOrDefault(id, 0L) > System.currentTimeMillis();
-    }
-
-    private long getRemaining(Map<UUID, Long> map, UUID id) {
-        return Math.max(0, map.getOrDefault(id, 0L) - System.currentTimeMillis());
-    }
-
-    private void setCooldown(Map<UUID, Long> map, Player p, long baseCD) {
-        boolean egg = hasDragonEgg(p);
-        long effective = egg ? baseCD / 2 : baseCD;
-        map.put(p.getUniqueId(), System.currentTimeMillis() + effective);
+        this.states = plugin.getPlayerStateStore();
     }
 
     /* ==========================================================
@@ -68,14 +37,14 @@ public class AstralAbility implements BootAbility {
         UUID id = player.getUniqueId();
 
         // SECOND ACTIVATION — TELEPORT BACK
-        if (player.hasMetadata("astral_rewind_loc")) {
+        Location rewindLoc = states.getLocation(player, PlayerState.ASTRAL_REWIND);
+        if (rewindLoc != null) {
 
-            Location rewindLoc = (Location) player.getMetadata("astral_rewind_loc").get(0).value();
             Location current = player.getLocation();
 
             player.teleport(rewindLoc);
 
-            player.removeMetadata("astral_rewind_loc", plugin);
+            states.clear(player, PlayerState.ASTRAL_REWIND);
 
             // Remove marker
             ArmorStand marker = rewindMarkers.remove(id);
@@ -85,22 +54,13 @@ public class AstralAbility implements BootAbility {
 
             player.playSound(player.getLocation(), Sound.ENTITY_WARDEN_ATTACK_IMPACT, 1f, 1.2f);
 
-            // REAL COOLDOWN
-            setCooldown(tier1Cooldown, player, TIER1_CD);
-
             return true;
         }
 
         // FIRST ACTIVATION — Place Marker
 
-        if (isOnCooldown(tier1Cooldown, id)) {
-            long left = getRemaining(tier1Cooldown, id) / 1000;
-            player.sendMessage("§cRewind on cooldown: §e" + left + "s");
-            return false;
-        }
-
         Location loc = player.getLocation().clone();
-        player.setMetadata("astral_rewind_loc", new FixedMetadataValue(plugin, loc));
+        states.setLocation(player, PlayerState.ASTRAL_REWIND, loc);
 
         // MARKER (visual)
         ArmorStand marker = loc.getWorld().spawn(loc, ArmorStand.class, a -> {
@@ -113,40 +73,46 @@ public class AstralAbility implements BootAbility {
         });
         rewindMarkers.put(id, marker);
 
-        // Auto-remove after 20 seconds
-        new BukkitRunnable() {
+        // Auto-remove after 20 seconds, even if the caster logged out meanwhile
+        new WheelTask() {
             @Override
             public void run() {
-                if (player.hasMetadata("astral_rewind_loc")) {
-                    player.removeMetadata("astral_rewind_loc", plugin);
-
-                    ArmorStand m = rewindMarkers.remove(id);
-                    if (m != null && !m.isDead()) m.remove();
+                // Only clear the state while it still belongs to this marker
+                if (rewindMarkers.remove(id, marker) && player.isOnline()) {
+                    states.clear(player, PlayerState.ASTRAL_REWIND);
                 }
+                marker.remove();
             }
         }.runTaskLater(plugin, 20 * 20);
 
         // Particle animation
-        new BukkitRunnable() {
+        new WheelTask() {
             int t = 0;
 
             @Override
             public void run() {
-                if (!player.hasMetadata("astral_rewind_loc") || marker.isDead()) {
+                if (!player.isOnline()) {
+                    rewindMarkers.remove(id, marker);
+                    marker.remove();
+                    cancel();
+                    return;
+                }
+
+                if (!states.has(player, PlayerState.ASTRAL_REWIND) || marker.isDead()) {
                     cancel();
                     return;
                 }
 
                 Location ml = marker.getLocation().clone().add(0, 1, 0);
 
-                ml.getWorld().spawnParticle(Particle.END_ROD, ml, 4, 0.2, 0.2, 0.2, 0.01);
-                ml.getWorld().spawnParticle(Particle.PORTAL, ml.clone().add(0, -0.5, 0), 8, 0.4, 0.4, 0.4, 0.05);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.END_ROD, ml, 4, 0.2, 0.2, 0.2, 0.01);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.PORTAL, ml.clone().add(0, -0.5, 0), 8, 0.4, 0.4, 0.4, 0.05);
 
                 double angle = t * 0.25;
                 double x = Math.cos(angle) * 0.7;
                 double z = Math.sin(angle) * 0.7;
 
-                ml.getWorld().spawnParticle(Particle.WITCH, ml.clone().add(x, 0.2, z), 1, 0, 0, 0, 0);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.WITCH, ml.clone().add(x, 0.2, z), 1, 0, 0, 0, 0);
 
                 t++;
             }
@@ -162,20 +128,9 @@ public class AstralAbility implements BootAbility {
     @Override
     public boolean executeTier2(Player player) {
 
-        UUID id = player.getUniqueId();
+        states.set(player, PlayerState.ASTRAL_DISABLE);
 
-        if (isOnCooldown(tier2Cooldown, id)) {
-            long left = getRemaining(tier2Cooldown, id) / 1000;
-            player.sendMessage("§cDisable on cooldown: §e" + left + "s");
-            return false;
-        }
-
-        // Start REAL cooldown
-        setCooldown(tier2Cooldown, player, TIER2_CD);
-
-        player.setMetadata("astral_disable_active", new FixedMetadataValue(plugin, true));
-
-        new BukkitRunnable() {
+        new WheelTask() {
             int ticks = 0;
 
             @Override
@@ -187,7 +142,7 @@ public class AstralAbility implements BootAbility {
                     return;
                 }
 
-                if (!player.hasMetadata("astral_disable_active")) {
+                if (!states.has(player, PlayerState.ASTRAL_DISABLE)) {
                     cleanupDisable(player);
                     cancel();
                     return;
@@ -200,16 +155,15 @@ public class AstralAbility implements BootAbility {
                 }
 
                 // Disable ability effect logic
-                List<Player> near = LocationUtils.getPlayersInRadius(player.getLocation(), 5);
-                for (Player p : near) {
+                LocationUtils.forEachPlayerInRadius(player.getLocation(), 5, p -> {
                     if (!plugin.getTrustManager().isTrusted(player, p)) {
-                        p.setMetadata("boots_disabled", new FixedMetadataValue(plugin, true));
+                        states.set(p, PlayerState.BOOTS_DISABLED);
 
-                        Location tLoc = p.getLocation().clone().add(0, 1, 0);
-                        tLoc.getWorld().spawnParticle(Particle.ANGRY_VILLAGER, tLoc, 8, 0.4, 0.4, 0.4, 0.01);
-                        tLoc.getWorld().spawnParticle(Particle.CRIT, tLoc, 5, 0.3, 0.3, 0.3, 0.02);
+                        Location tLoc = p.getLocation().add(0, 1, 0);
+                        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.ANGRY_VILLAGER, tLoc, 8, 0.4, 0.4, 0.4, 0.01);
+                        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.CRIT, tLoc, 5, 0.3, 0.3, 0.3, 0.02);
                     }
-                }
+                });
 
                 // Caster ring
                 Location c = player.getLocation().clone().add(0, 1.1, 0);
@@ -218,11 +172,11 @@ public class AstralAbility implements BootAbility {
                 for (double a = 0; a < Math.PI * 2; a += Math.PI / 12) {
                     double x = Math.cos(a) * radius;
                     double z = Math.sin(a) * radius;
-                    c.getWorld().spawnParticle(Particle.PORTAL, c.clone().add(x, 0, z), 1, 0, 0, 0, 0);
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.PORTAL, c.clone().add(x, 0, z), 1, 0, 0, 0, 0);
                 }
 
-                c.getWorld().spawnParticle(Particle.END_ROD, c, 10, 0.6, 0.6, 0.6, 0.02);
-                c.getWorld().spawnParticle(Particle.WITCH, c, 4, 0.3, 0.3, 0.3, 0.01);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.END_ROD, c, 10, 0.6, 0.6, 0.6, 0.02);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.WITCH, c, 4, 0.3, 0.3, 0.3, 0.01);
 
                 ticks++;
             }
@@ -232,11 +186,8 @@ public class AstralAbility implements BootAbility {
     }
 
     private void cleanupDisable(Player p) {
-        p.removeMetadata("astral_disable_active", plugin);
-
-        for (Player pl : plugin.getServer().getOnlinePlayers()) {
-            pl.removeMetadata("boots_disabled", plugin);
-        }
+        states.clear(p, PlayerState.ASTRAL_DISABLE);
+        states.clearAll(PlayerState.BOOTS_DISABLED);
     }
 
     /* ==========================================================
@@ -249,7 +200,7 @@ public boolean handleDamageCancellation(Player player) {
     double chance = 0.10; // 10%
 
     if (Math.random() <= chance) {
-        player.getWorld().spawnParticle(
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                 Particle.END_ROD,
                 player.getLocation().add(0, 1, 0),
                 20, 0.4, 0.6, 0.4, 0.02
@@ -282,7 +233,7 @@ public boolean handleDamageCancellation(Player player) {
         double dy = (to.getY() - from.getY()) / steps;
         double dz = (to.getZ() - from.getZ()) / steps;
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int i = 0;
 
             @Override
@@ -293,7 +244,7 @@ public boolean handleDamageCancellation(Player player) {
                 }
 
                 Location trail = from.clone().add(dx * i, dy * i, dz * i);
-                trail.getWorld().spawnParticle(Particle.END_ROD, trail, 2, 0.05, 0.05, 0.05, 0);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.END_ROD, trail, 2, 0.05, 0.05, 0.05, 0);
 
                 i++;
             }
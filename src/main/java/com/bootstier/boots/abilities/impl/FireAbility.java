@@ -2,67 +2,36 @@ package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.abilities.BootAbility;
+import com.bootstier.boots.abilities.PlayerState;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.scheduler.WheelTask;
 import com.bootstier.utils.LocationUtils;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.bukkit.ChatColor;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class FireAbility implements BootAbility {
 
     private final BootsTierPlugin plugin;
+    private final PlayerStateStore states;
     private final Random random;
 
-    // Per-player cooldowns (store "ready at" timestamps)
-    private final Map<UUID, Long> tier1Cooldown = new HashMap<>();
-    private final Map<UUID, Long> tier2Cooldown = new HashMap<>();
-
-    // Base cooldowns (must match ActionBarManager)
-    private static final long TIER1_CD_MS = 60_000L; // 60s – Fire Rings
-    private static final long TIER2_CD_MS = 75_000L; // 75s – Flame Dash
-
     public FireAbility(final BootsTierPlugin plugin) {
         this.plugin = plugin;
+        this.states = plugin.getPlayerStateStore();
         this.random = new Random();
     }
 
-    /* ==========================================================
-       COOLDOWN HELPERS (using maps + real dragon egg modifier)
-       ========================================================== */
-
-    private boolean isOnCooldown(Map<UUID, Long> map, UUID id) {
-        return map.getOrDefault(id, 0L) > System.currentTimeMillis();
-    }
-
-    private long getCooldownLeft(Map<UUID, Long> map, UUID id) {
-        return Math.max(0L, map.getOrDefault(id, 0L) - System.currentTimeMillis());
-    }
-
-    private void setCooldown(Map<UUID, Long> map, UUID id, long cdMs) {
-        map.put(id, System.currentTimeMillis() + cdMs);
-    }
-
-    private boolean hasDragonEgg(Player player) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.DRAGON_EGG) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /* ==========================================================
        TIER 1 – FIRE RINGS
        3 quick rings, 5-block radius, removes water in ring
@@ -70,31 +39,18 @@ public class FireAbility implements BootAbility {
 
     @Override
     public boolean executeTier1(final Player player) {
-        final UUID id = player.getUniqueId();
-
-        // Apply dragon egg modifier to actual cooldown (NOT just visual)
-        final boolean egg = hasDragonEgg(player);
-        final long effectiveCd = egg ? TIER1_CD_MS / 2L : TIER1_CD_MS;
-
-        if (isOnCooldown(tier1Cooldown, id)) {
-            long left = getCooldownLeft(tier1Cooldown, id) / 1000L;
-            player.sendMessage(ChatColor.RED + "Fire Rings on cooldown: " +
-                    ChatColor.YELLOW + left + "s");
-            return false;
-        }
-
-        if (player.hasMetadata("fire_rings_active")) {
+        if (states.has(player, PlayerState.FIRE_RINGS)) {
             player.sendMessage(ChatColor.RED + "Fire Rings are already active!");
             return false;
         }
 
-        player.setMetadata("fire_rings_active", new FixedMetadataValue(plugin, true));
+        states.set(player, PlayerState.FIRE_RINGS);
 
         Location center = player.getLocation().clone();
 
         // Activation Effects
         if (center.getWorld() != null) {
-            center.getWorld().spawnParticle(
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                     Particle.FLAME,
                     center.clone().add(0, 1, 0),
                     30, 0.5, 0.5, 0.5, 0.2
@@ -104,19 +60,19 @@ public class FireAbility implements BootAbility {
 
         player.sendMessage(ChatColor.RED + "🔥 " + ChatColor.BOLD + "Fire Rings!");
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int rings = 0;
 
             @Override
             public void run() {
                 if (!player.isOnline()) {
-                    player.removeMetadata("fire_rings_active", plugin);
+                    states.clear(player, PlayerState.FIRE_RINGS);
                     cancel();
                     return;
                 }
 
                 if (rings >= 3) {
-                    player.removeMetadata("fire_rings_active", plugin);
+                    states.clear(player, PlayerState.FIRE_RINGS);
                     cancel();
                     return;
                 }
@@ -132,8 +88,6 @@ public class FireAbility implements BootAbility {
             }
         }.runTaskTimer(plugin, 0, 10);
 
-        // REAL cooldown now respects dragon egg
-        setCooldown(tier1Cooldown, id, effectiveCd);
         return true;
     }
 
@@ -143,24 +97,12 @@ public class FireAbility implements BootAbility {
 
     @Override
     public boolean executeTier2(final Player player) {
-        final UUID id = player.getUniqueId();
-
-        final boolean egg = hasDragonEgg(player);
-        final long effectiveCd = egg ? TIER2_CD_MS / 2L : TIER2_CD_MS;
-
-        if (isOnCooldown(tier2Cooldown, id)) {
-            long left = getCooldownLeft(tier2Cooldown, id) / 1000L;
-            player.sendMessage(ChatColor.RED + "Flame Dash on cooldown: " +
-                    ChatColor.YELLOW + left + "s");
-            return false;
-        }
-
-        if (player.hasMetadata("fire_dash_active")) {
+        if (states.has(player, PlayerState.FIRE_DASH)) {
             player.sendMessage(ChatColor.RED + "Already dashing!");
             return false;
         }
 
-        player.setMetadata("fire_dash_active", new FixedMetadataValue(plugin, true));
+        states.set(player, PlayerState.FIRE_DASH);
 
         // Short, controlled dash
         Vector dir = player.getLocation().getDirection().normalize().multiply(1.2);
@@ -169,13 +111,13 @@ public class FireAbility implements BootAbility {
 
         List<Player> marked = new ArrayList<>();
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int t = 0;
 
             @Override
             public void run() {
                 if (!player.isOnline()) {
-                    player.removeMetadata("fire_dash_active", plugin);
+                    states.clear(player, PlayerState.FIRE_DASH);
                     cancel();
                     return;
                 }
@@ -185,15 +127,13 @@ public class FireAbility implements BootAbility {
                     for (Player p : marked) {
                         if (!p.isOnline()) continue;
 
-                        p.setMetadata("fire_marked", new FixedMetadataValue(
-                                plugin, System.currentTimeMillis() + 10_000L
-                        ));
+                        states.setUntil(p, PlayerState.FIRE_MARKED, System.currentTimeMillis() + 10_000L);
 
                         p.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 200, 0));
                         p.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING, 200, 0));
 
                         if (p.getWorld() != null) {
-                            p.getWorld().spawnParticle(
+                            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                                     Particle.FLAME,
                                     p.getLocation().add(0, 1, 0),
                                     10, 0.5, 0.5, 0.5, 0.1
@@ -201,22 +141,22 @@ public class FireAbility implements BootAbility {
                         }
                     }
 
-                    player.removeMetadata("fire_dash_active", plugin);
+                    states.clear(player, PlayerState.FIRE_DASH);
                     cancel();
                     return;
                 }
 
                 // Mark nearby untrusted players
-                for (Player near : LocationUtils.getPlayersInRadius(player.getLocation(), 3)) {
-                    if (near.equals(player)) continue;
-                    if (marked.contains(near)) continue;
-                    if (plugin.getTrustManager().isTrusted(player, near)) continue;
+                LocationUtils.forEachPlayerInRadius(player.getLocation(), 3, near -> {
+                    if (near.equals(player)) return;
+                    if (marked.contains(near)) return;
+                    if (plugin.getTrustManager().isTrusted(player, near)) return;
                     marked.add(near);
-                }
+                });
 
                 // Dash trail
                 if (player.getWorld() != null) {
-                    player.getWorld().spawnParticle(
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                             Particle.FLAME,
                             player.getLocation().add(0, 0.2, 0),
                             6, 0.2, 0.2, 0.2, 0.06
@@ -229,8 +169,6 @@ public class FireAbility implements BootAbility {
 
         player.sendMessage(ChatColor.RED + "🔥 " + ChatColor.BOLD + "Flame Dash!");
 
-        // REAL cooldown now respects dragon egg
-        setCooldown(tier2Cooldown, id, effectiveCd);
         return true;
     }
 
@@ -242,12 +180,8 @@ public class FireAbility implements BootAbility {
         if (center.getWorld() == null) return;
 
         // Damage / ignite untrusted in thin ring band
-        for (LivingEntity e : center.getWorld().getNearbyEntities(center, radius + 1, 4, radius + 1)
-                .stream()
-                .filter(ent -> ent instanceof LivingEntity)
-                .map(ent -> (LivingEntity) ent)
-                .filter(ent -> !ent.equals(caster))
-                .collect(Collectors.toList())) {
+        for (LivingEntity e : plugin.getAreaQueryService().getNearbyLiving(center, radius + 1, 4, radius + 1)) {
+            if (e.equals(caster)) continue;
 
             double dist = e.getLocation().distance(center);
             if (dist <= radius && dist >= radius - 1) {
@@ -258,7 +192,7 @@ public class FireAbility implements BootAbility {
                 e.damage(4.0, caster);
                 e.setFireTicks(60);
 
-                e.getWorld().spawnParticle(
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                         Particle.LAVA,
                         e.getLocation().add(0, 1, 0),
                         8, 0.4, 0.4, 0.4, 0.1
@@ -282,7 +216,7 @@ public class FireAbility implements BootAbility {
                             org.bukkit.Bukkit.createBlockData(Material.AIR)
                     );
 
-                    w.getWorld().spawnParticle(
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                             Particle.CLOUD,
                             w.clone().add(0.5, 0.5, 0.5),
                             5, 0.3, 0.3, 0.3, 0.05
@@ -298,11 +232,11 @@ public class FireAbility implements BootAbility {
 
             Location p = center.clone().add(x, 0.3, z);
 
-            center.getWorld().spawnParticle(
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                     Particle.FLAME,
                     p, 5, 0.15, 0.15, 0.15, 0.04
             );
-            center.getWorld().spawnParticle(
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                     Particle.LARGE_SMOKE,
                     p, 2, 0.1, 0.1, 0.1, 0.02
             );
@@ -315,12 +249,7 @@ public class FireAbility implements BootAbility {
 
     @Override
     public void applyTier1Passives(Player player) {
-        if (!player.hasPotionEffect(PotionEffectType.FIRE_RESISTANCE)) {
-            player.addPotionEffect(new PotionEffect(
-                    PotionEffectType.FIRE_RESISTANCE,
-                    100, 0, true, false
-            ));
-        }
+        // Fire Resistance is leased by PassiveEffectManager
     }
 
     @Override
@@ -341,7 +270,7 @@ public class FireAbility implements BootAbility {
     public void handleAttackerIgnite(final Player attacker, final Player victim) {
         if (random.nextDouble() < 0.05) {
             attacker.setFireTicks(100);
-            attacker.getWorld().spawnParticle(
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                     Particle.FLAME,
                     attacker.getLocation().add(0, 1, 0),
                     8, 0.3, 0.3, 0.3, 0.1
@@ -350,19 +279,14 @@ public class FireAbility implements BootAbility {
     }
 
     public void handleMarkedPlayerHit(final Player victim) {
-        if (victim.hasMetadata("fire_marked")) {
-            long until = victim.getMetadata("fire_marked").get(0).asLong();
-            if (System.currentTimeMillis() < until) {
-                victim.setFireTicks(100);
-
-                victim.getWorld().spawnParticle(
-                        Particle.FLAME,
-                        victim.getLocation().add(0, 1, 0),
-                        10, 0.5, 0.5, 0.5, 0.1
-                );
-            } else {
-                victim.removeMetadata("fire_marked", plugin);
-            }
+        if (this.states.has(victim, PlayerState.FIRE_MARKED)) {
+            victim.setFireTicks(100);
+
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
+                    Particle.FLAME,
+                    victim.getLocation().add(0, 1, 0),
+                    10, 0.5, 0.5, 0.5, 0.1
+            );
         }
     }
 
@@ -386,7 +310,7 @@ public class FireAbility implements BootAbility {
                     Location c = loc.clone().add(x, y, z);
                     if (c.getBlock().getType() == Material.WATER) {
                         player.setFireTicks(0);
-                        c.getWorld().spawnParticle(
+                        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                                 Particle.CLOUD,
                                 c.clone().add(0.5, 0.5, 0.5),
                                 5, 0.3, 0.3, 0.3, 0.05
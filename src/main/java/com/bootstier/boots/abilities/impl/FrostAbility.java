@@ -2,8 +2,12 @@ package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.abilities.BootAbility;
-import com.bootstier.boots.BootType;
+import com.bootstier.boots.abilities.PlayerState;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.boots.abilities.ProtectiveZone;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.player.PlayerData;
+import com.bootstier.scheduler.WheelTask;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
@@ -11,10 +15,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
@@ -24,42 +26,20 @@ import java.util.*;
  */
 public class FrostAbility implements BootAbility, Listener {
 
-    private final BootsTierPlugin plugin;
+    private static final double SHIELD_RADIUS = 3.3;
 
-    private final Map<UUID, Long> tier1Cooldown = new HashMap<>();
-    private final Map<UUID, Long> tier2Cooldown = new HashMap<>();
+    private final BootsTierPlugin plugin;
+    private final PlayerStateStore states;
 
     // Cage blocks tracked so players cannot break them
     private final Set<Location> activeCageBlocks = new HashSet<>();
 
     public FrostAbility(final BootsTierPlugin plugin) {
         this.plugin = plugin;
+        this.states = plugin.getPlayerStateStore();
         this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
     }
 
-    /* ================================================================
-       COOLDOWN HELPERS (NOW USING REAL COOLDOWN FROM ACTION BAR MANAGER)
-       ================================================================ */
-
-    private long getRealCooldown(Player player, int tier) {
-        boolean egg = player.getInventory().contains(Material.DRAGON_EGG);
-        return plugin.getActionBarManager()
-                .getTotalAbilityCooldown(BootType.FROST, tier, egg);
-    }
-
-    private boolean isOnCooldown(Map<UUID, Long> map, UUID id) {
-        long now = System.currentTimeMillis();
-        return map.containsKey(id) && map.get(id) > now;
-    }
-
-    private long getRemaining(Map<UUID, Long> map, UUID id) {
-        return Math.max(0, map.getOrDefault(id, 0L) - System.currentTimeMillis());
-    }
-
-    private void applyCooldown(Map<UUID, Long> map, UUID id, long ms) {
-        map.put(id, System.currentTimeMillis() + ms);
-    }
-
     /* ================================================================
        ░░ TIER 1 – FROST SHIELD (PROJECTILE BLOCKING + DAMAGE REFLECT) ░░
        ================================================================ */
@@ -67,60 +47,51 @@ public class FrostAbility implements BootAbility, Listener {
  * Reflects a small percent of damage back to attacker if shield is active.
  */
 public void handleDamageReflection(Player victim, Player attacker, double damage) {
-    if (!victim.hasMetadata("frost_shield_active")) return;
+    if (!states.has(victim, PlayerState.FROST_SHIELD)) return;
 
     // reflect 20% damage back to attacker
     double reflected = damage * 0.20;
 
     attacker.damage(reflected, victim);
 
-    victim.getWorld().spawnParticle(Particle.SNOWFLAKE, victim.getLocation(), 10, 0.3, 0.3, 0.3, 0.02);
+    this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SNOWFLAKE, victim.getLocation(), 10, 0.3, 0.3, 0.3, 0.02);
     victim.getWorld().playSound(victim.getLocation(), Sound.BLOCK_GLASS_HIT, 1f, 1.4f);
 }
 
     @Override
     public boolean executeTier1(Player player) {
-        UUID id = player.getUniqueId();
-
-        long cd = getRealCooldown(player, 1);
-
-        if (isOnCooldown(tier1Cooldown, id)) {
-            long s = getRemaining(tier1Cooldown, id) / 1000;
-            player.sendMessage("§cFrost Shield cooldown: §b" + s + "s");
-            return false;
-        }
-
-        if (player.hasMetadata("frost_shield_active")) {
+        if (states.has(player, PlayerState.FROST_SHIELD)) {
             player.sendMessage("§cYour Frost Shield is already active!");
             return false;
         }
 
-        player.setMetadata("frost_shield_active",
-                new FixedMetadataValue(plugin, true));
+        states.set(player, PlayerState.FROST_SHIELD);
 
         Location loc = player.getLocation();
         World w = loc.getWorld();
         if (w != null) {
             w.playSound(loc, Sound.BLOCK_GLASS_PLACE, 1.2f, 0.7f);
-            w.spawnParticle(Particle.SNOWFLAKE, loc.add(0, 1.2, 0),
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SNOWFLAKE, loc.add(0, 1.2, 0),
                     40, 0.5, 0.8, 0.5, 0.05);
         }
 
         List<BlockDisplay> blocks = createIceShield(player);
+        ProtectiveZone zone = plugin.getProtectiveZoneRegistry()
+                .attach(ProtectiveZone.Type.FROST_SHIELD, player, SHIELD_RADIUS);
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int t = 0;
 
             @Override
             public void run() {
                 if (!player.isOnline()) {
-                    cleanupShield(blocks, player);
+                    cleanupShield(blocks, player, zone);
                     cancel();
                     return;
                 }
 
                 if (t >= 100) {
-                    cleanupShield(blocks, player);
+                    cleanupShield(blocks, player, zone);
                     cancel();
                     return;
                 }
@@ -131,8 +102,6 @@ public void handleDamageReflection(Player victim, Player attacker, double damage
 
         }.runTaskTimer(plugin, 0L, 1L);
 
-        applyCooldown(tier1Cooldown, id, cd);
-
         player.sendMessage("§b❄ Frost Shield Active!");
 
         return true;
@@ -213,20 +182,21 @@ public void handleDamageReflection(Player victim, Player attacker, double damage
             Location target = base.clone().add(dir.multiply(r)).add(0, y, 0);
             bd.teleport(target);
 
-            w.spawnParticle(Particle.SNOWFLAKE, target.clone().add(0, 0.1, 0),
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SNOWFLAKE, target.clone().add(0, 0.1, 0),
                     1, 0.1, 0.1, 0.1, 0.01);
         }
     }
 
-    private void cleanupShield(List<BlockDisplay> blocks, Player player) {
-        player.removeMetadata("frost_shield_active", plugin);
+    private void cleanupShield(List<BlockDisplay> blocks, Player player, ProtectiveZone zone) {
+        states.clear(player, PlayerState.FROST_SHIELD);
+        plugin.getProtectiveZoneRegistry().remove(zone);
 
         for (BlockDisplay bd : blocks) {
             if (bd != null && !bd.isDead()) {
                 Location l = bd.getLocation();
                 World w = l.getWorld();
                 if (w != null)
-                    w.spawnParticle(Particle.SNOWFLAKE, l, 8, 0.2, 0.2, 0.2, 0.02);
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SNOWFLAKE, l, 8, 0.2, 0.2, 0.2, 0.02);
 
                 bd.remove();
             }
@@ -242,20 +212,16 @@ public void handleDamageReflection(Player victim, Player attacker, double damage
         if (!(e.getEntity().getShooter() instanceof LivingEntity)) return;
         Projectile proj = e.getEntity();
 
-        for (Player p : Bukkit.getOnlinePlayers()) {
-            if (!p.hasMetadata("frost_shield_active")) continue;
+        // Only shields filed under the column the projectile landed in are checked
+        Location hit = proj.getLocation();
+        if (plugin.getProtectiveZoneRegistry().find(hit, ProtectiveZone.Type.FROST_SHIELD) == null) return;
 
-            if (proj.getLocation().distance(p.getLocation()) <= 3.3) {
-                proj.remove();
+        proj.remove();
 
-                // particles
-                proj.getWorld().spawnParticle(Particle.SNOWFLAKE,
-                        proj.getLocation(), 10, 0.3, 0.3, 0.3, 0.03);
-                proj.getWorld().playSound(proj.getLocation(),
-                        Sound.BLOCK_GLASS_HIT, 0.6f, 1.8f);
-                return;
-            }
-        }
+        // particles
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SNOWFLAKE,
+                hit, 10, 0.3, 0.3, 0.3, 0.03);
+        proj.getWorld().playSound(hit, Sound.BLOCK_GLASS_HIT, 0.6f, 1.8f);
     }
 
     /* ================================================================
@@ -264,16 +230,6 @@ public void handleDamageReflection(Player victim, Player attacker, double damage
 
     @Override
     public boolean executeTier2(Player player) {
-        UUID id = player.getUniqueId();
-
-        long cd = getRealCooldown(player, 2);
-
-        if (isOnCooldown(tier2Cooldown, id)) {
-            long s = getRemaining(tier2Cooldown, id) / 1000;
-            player.sendMessage("§cIce Circle cooldown: §b" + s + "s");
-            return false;
-        }
-
         Location center = player.getLocation().clone();
         World w = center.getWorld();
         if (w == null) return false;
@@ -315,22 +271,7 @@ public void handleDamageReflection(Player victim, Player attacker, double damage
 
         player.sendMessage("§b❄ Ice Circle formed!");
 
-        new BukkitRunnable() {
-            int t = 0;
-
-            @Override
-            public void run() {
-                if (t >= 300) {
-                    restore(original);
-                    cancel();
-                    return;
-                }
-
-                t++;
-            }
-        }.runTaskTimer(plugin, 0, 1);
-
-        applyCooldown(tier2Cooldown, id, cd);
+        plugin.getTickScheduler().runLater(() -> restore(original), 300L);
 
         return true;
     }
@@ -372,7 +313,7 @@ public void handleDamageReflection(Player victim, Player attacker, double damage
             p.damage(2.0);
             p.setFreezeTicks(100);
             d.getBootsData().resetHitCounter();
-            plugin.getPlayerManager().savePlayerData(d);
+            plugin.getPlayerManager().markDirty(d);
         }
     }
 }
@@ -1,9 +1,9 @@
 package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
-import com.bootstier.boots.BootType;
 import com.bootstier.boots.abilities.BootAbility;
-import com.bootstier.effects.ActionBarManager;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.scheduler.WheelTask;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -12,7 +12,6 @@ import org.bukkit.Sound;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.entity.*;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -21,44 +20,10 @@ public class SpiderAbility implements BootAbility {
     private final BootsTierPlugin plugin;
     private final Random random = new Random();
 
-    // REAL cooldown maps (use ActionBarManager durations)
-    private final Map<UUID, Long> tier1Cooldown = new HashMap<>();
-    private final Map<UUID, Long> tier2Cooldown = new HashMap<>();
-
     public SpiderAbility(BootsTierPlugin plugin) {
         this.plugin = plugin;
     }
 
-    /* ============================================================
-                     DRAGON-EGG COOLDOWN SUPPORT
-       ============================================================ */
-
-    private long getRealCooldown(Player player, int tier) {
-        ActionBarManager ab = plugin.getActionBarManager();
-        boolean egg = hasDragonEgg(player);
-
-        return ab.getTotalAbilityCooldown(BootType.SPIDER, tier, egg);
-    }
-
-    private boolean hasDragonEgg(Player p) {
-        for (ItemStack item : p.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.DRAGON_EGG) return true;
-        }
-        return false;
-    }
-
-    private boolean isOnCooldown(Map<UUID, Long> map, Player p) {
-        return map.getOrDefault(p.getUniqueId(), 0L) > System.currentTimeMillis();
-    }
-
-    private long getRemaining(Map<UUID, Long> map, Player p) {
-        return Math.max(0, map.getOrDefault(p.getUniqueId(), 0L) - System.currentTimeMillis());
-    }
-
-    private void applyCooldown(Map<UUID, Long> map, Player p, long ms) {
-        map.put(p.getUniqueId(), System.currentTimeMillis() + ms);
-    }
-
     /* ============================================================
                        TIER 1 – SPIDER HORDE
        ============================================================ */
@@ -66,18 +31,11 @@ public class SpiderAbility implements BootAbility {
     @Override
     public boolean executeTier1(final Player player) {
 
-        if (isOnCooldown(tier1Cooldown, player)) {
-            player.sendMessage("§cSpider Swarm on cooldown: §a" + (getRemaining(tier1Cooldown, player) / 1000) + "s");
-            return false;
-        }
-
-        long realCD = getRealCooldown(player, 1);
-
         Location base = player.getLocation();
         List<CaveSpider> spiders = new ArrayList<>();
 
         base.getWorld().playSound(base, Sound.ENTITY_SPIDER_AMBIENT, 1, 0.6f);
-        base.getWorld().spawnParticle(Particle.SMOKE, base, 20, 1, 0.2, 1, 0.02);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SMOKE, base, 20, 1, 0.2, 1, 0.02);
 
         for (int i = 0; i < 5; i++) {
 
@@ -94,107 +52,103 @@ public class SpiderAbility implements BootAbility {
             spider.setRemoveWhenFarAway(false);
             spider.setTarget(null);
 
-            // TARGETING LOGIC:
-            // - Do NOT attack owner
-            // - Do NOT attack trusted players
-            // - Attack ALL mobs (villagers, iron golems, animals, monsters)
-            // - Attack UNTRUSTED players
-            // - Ignore other friendly summoned spiders
-
-            new BukkitRunnable() {
+            spiders.add(spider);
+        }
 
-                @Override
-                public void run() {
+        // One task drives the whole swarm: aura every tick, retarget every second, despawn after 20s
+        new WheelTask() {
+            int ticks = 0;
 
-                    if (!player.isOnline() || spider.isDead()) {
-                        cancel();
-                        return;
-                    }
+            @Override
+            public void run() {
+                if (ticks >= 400) {
+                    despawnSwarm(spiders);
+                    cancel();
+                    return;
+                }
 
-                    LivingEntity best = null;
-                    Location sl = spider.getLocation();
+                boolean alive = false;
+                for (CaveSpider spider : spiders) {
+                    if (spider.isDead()) continue;
+                    alive = true;
 
-                    for (Entity e : sl.getWorld().getNearbyEntities(sl, 16, 16, 16)) {
+                    if (ticks % 20 == 0 && player.isOnline()) {
+                        spider.setTarget(findTarget(player, spider));
+                    }
+                    spawnSpiderAura(spider, ticks);
+                }
 
-                        if (!(e instanceof LivingEntity)) continue;
-                        LivingEntity le = (LivingEntity) e;
+                if (!alive) {
+                    cancel();
+                    return;
+                }
 
-                        // owner protection
-                        if (le.equals(player)) continue;
+                ticks++;
+            }
+        }.runTaskTimer(plugin, 0, 1);
 
-                        // no friendly fire to other summoned spiders
-                        if (le instanceof CaveSpider && le.hasMetadata("spider_summoned")) continue;
+        MessageUtils.sendMessage(player, "§2🕷 §lSpider Swarm! §7Your spiders rise!");
 
-                        // PLAYERS LOGIC
-                        if (le instanceof Player) {
-                            Player target = (Player) le;
+        return true;
+    }
 
-                            // skip trusted
-                            if (plugin.getTrustManager().isTrusted(player, target)) continue;
+    // TARGETING LOGIC:
+    // - Do NOT attack owner
+    // - Do NOT attack trusted players
+    // - Attack ALL mobs (villagers, iron golems, animals, monsters)
+    // - Attack UNTRUSTED players
+    // - Ignore other friendly summoned spiders
+    private LivingEntity findTarget(final Player player, final CaveSpider spider) {
+        LivingEntity best = null;
+        Location sl = spider.getLocation();
 
-                            // untrusted -> priority target
-                            best = target;
-                            break;
-                        }
+        for (LivingEntity le : plugin.getAreaQueryService().getNearbyLiving(sl, 16, 16, 16)) {
 
-                        // MOBS (ALL mobs except your own spiders)
-                        if (best == null) best = le;
-                    }
+            // owner protection
+            if (le.equals(player)) continue;
 
-                    spider.setTarget(best);
-                }
+            // no friendly fire to other summoned spiders
+            if (le instanceof CaveSpider && le.hasMetadata("spider_summoned")) continue;
 
-            }.runTaskTimer(plugin, 0, 20);
+            // PLAYERS LOGIC
+            if (le instanceof Player) {
+                Player target = (Player) le;
 
-            createSpiderAura(spider);
-            spiders.add(spider);
-        }
+                // skip trusted
+                if (plugin.getTrustManager().isTrusted(player, target)) continue;
 
-        // despawn after 20s
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (CaveSpider spider : spiders) {
-                    if (!spider.isDead()) {
-                        spider.setTarget(null);
-                        spider.getWorld().spawnParticle(Particle.ITEM_SLIME, spider.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
-                        spider.getWorld().playSound(spider.getLocation(), Sound.ENTITY_SPIDER_DEATH, 0.7f, 1.2f);
-                        spider.remove();
-                    }
-                }
+                // untrusted -> priority target
+                return target;
             }
-        }.runTaskLater(plugin, 20 * 20);
 
-        MessageUtils.sendMessage(player, "§2🕷 §lSpider Swarm! §7Your spiders rise!");
+            // MOBS (ALL mobs except your own spiders)
+            if (best == null) best = le;
+        }
 
-        applyCooldown(tier1Cooldown, player, realCD);
-        return true;
+        return best;
     }
 
-    private void createSpiderAura(final CaveSpider spider) {
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (spider.isDead() || ticks >= 400) {
-                    cancel();
-                    return;
-                }
+    private void spawnSpiderAura(final CaveSpider spider, final int ticks) {
+        Location loc = spider.getLocation().add(0, 0.5, 0);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.ITEM_SLIME, loc, 2, 0.3, 0.3, 0.3, 0.02);
 
-                Location loc = spider.getLocation().add(0, 0.5, 0);
-                spider.getWorld().spawnParticle(Particle.ITEM_SLIME, loc, 2, 0.3, 0.3, 0.3, 0.02);
-
-                if (ticks % 40 == 0) {
-                    for (double angle = 0; angle < 2 * Math.PI; angle += Math.PI / 2) {
-                        Location f = spider.getLocation().add(Math.cos(angle) * 0.8, 0.1, Math.sin(angle) * 0.8);
-                        spider.getWorld().spawnParticle(Particle.CRIT, f, 1, 0, 0, 0, 0);
-                    }
-                }
+        if (ticks % 40 == 0) {
+            for (double angle = 0; angle < 2 * Math.PI; angle += Math.PI / 2) {
+                Location f = spider.getLocation().add(Math.cos(angle) * 0.8, 0.1, Math.sin(angle) * 0.8);
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.CRIT, f, 1, 0, 0, 0, 0);
+            }
+        }
+    }
 
-                ticks++;
+    private void despawnSwarm(final List<CaveSpider> spiders) {
+        for (CaveSpider spider : spiders) {
+            if (!spider.isDead()) {
+                spider.setTarget(null);
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.ITEM_SLIME, spider.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
+                spider.getWorld().playSound(spider.getLocation(), Sound.ENTITY_SPIDER_DEATH, 0.7f, 1.2f);
+                spider.remove();
             }
-        }.runTaskTimer(plugin, 0, 1);
+        }
     }
 
     /* ============================================================
@@ -204,14 +158,6 @@ public class SpiderAbility implements BootAbility {
     @Override
     public boolean executeTier2(Player player) {
 
-        if (isOnCooldown(tier2Cooldown, player)) {
-            player.sendMessage("§cWeb Fireball on cooldown: §a" +
-                    (getRemaining(tier2Cooldown, player) / 1000) + "s");
-            return false;
-        }
-
-        long realCD = getRealCooldown(player, 2);
-
         Fireball fb = player.launchProjectile(Fireball.class);
         fb.setMetadata("spider_web_fireball", new FixedMetadataValue(plugin, player.getUniqueId()));
         fb.setYield(0);
@@ -219,12 +165,11 @@ public class SpiderAbility implements BootAbility {
         fb.setDirection(player.getLocation().getDirection().multiply(1.2));
 
         player.playSound(player.getLocation(), Sound.ENTITY_GHAST_SHOOT, 0.8f, 1.5f);
-        player.spawnParticle(Particle.SMOKE, player.getLocation().add(0, 1, 0),
+        this.plugin.getParticleDispatcher().spawnFor(player, ParticlePriority.EFFECT, Particle.SMOKE, player.getLocation().add(0, 1, 0),
                 10, 0.3, 0.3, 0.3, 0.02);
 
         MessageUtils.sendMessage(player, "§2🕷 §lWeb Fireball!");
 
-        applyCooldown(tier2Cooldown, player, realCD);
         return true;
     }
 
@@ -248,46 +193,40 @@ public class SpiderAbility implements BootAbility {
 
                     if (!wl.getBlock().getType().isAir()) continue;
 
-                    boolean nearTrusted = false;
-                    for (Player p : wl.getWorld().getPlayers()) {
-                        if (plugin.getTrustManager().isTrusted(owner, p) &&
-                                p.getLocation().distanceSquared(wl) < 2.25) {
-                            nearTrusted = true;
-                            break;
-                        }
-                    }
+                    boolean nearTrusted = plugin.getPlayerSpatialIndex()
+                            .findInRadius(wl, 1.5, p -> plugin.getTrustManager().isTrusted(owner, p)) != null;
                     if (nearTrusted) continue;
 
                     wl.getBlock().setType(Material.COBWEB);
                     webs.add(wl);
                 }
 
-        location.getWorld().spawnParticle(
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                 Particle.ITEM, location, 30,
                 1.5, 1.5, 1.5, 0.1, new ItemStack(Material.COBWEB));
 
-        location.getWorld().spawnParticle(Particle.EXPLOSION, location, 1);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.EXPLOSION, location, 1);
         location.getWorld().playSound(location, Sound.ENTITY_SPIDER_HURT, 1, 0.8f);
 
         // shimmer
-        new BukkitRunnable() {
+        new WheelTask() {
             int ticks = 0;
             public void run() {
                 if (ticks++ >= 5) { cancel(); return; }
                 for (Location wl : webs)
-                    wl.getWorld().spawnParticle(
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                             Particle.WHITE_ASH, wl.clone().add(0.5,0.5,0.5),
                             3, 0.3,0.3,0.3, 0.01);
             }
         }.runTaskTimer(plugin, 0, 1);
 
         // remove webs after 15s
-        new BukkitRunnable() {
+        new WheelTask() {
             public void run() {
                 for (Location wl : webs) {
                     if (wl.getBlock().getType() == Material.COBWEB) {
                         wl.getBlock().setType(Material.AIR);
-                        wl.getWorld().spawnParticle(Particle.CLOUD, wl.clone().add(0.5,0.5,0.5),
+                        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.CLOUD, wl.clone().add(0.5,0.5,0.5),
                                 5, 0.3,0.3,0.3,0.05);
                     }
                 }
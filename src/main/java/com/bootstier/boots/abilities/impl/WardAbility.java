@@ -1,62 +1,32 @@
 package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
-import com.bootstier.boots.BootType;
 import com.bootstier.boots.abilities.BootAbility;
-import com.bootstier.effects.ActionBarManager;
+import com.bootstier.boots.abilities.PlayerState;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.scheduler.WheelTask;
 import com.bootstier.utils.LocationUtils;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.util.Vector;
 import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
 public class WardAbility implements BootAbility {
 
     private final BootsTierPlugin plugin;
-
-    private final Map<UUID, Long> tier1Cooldown = new HashMap<>();
-    private final Map<UUID, Long> tier2Cooldown = new HashMap<>();
+    private final PlayerStateStore states;
 
     public WardAbility(final BootsTierPlugin plugin) {
         this.plugin = plugin;
-    }
-
-    /* ============================================================
-                   DRAGON EGG COOLDOWN SYSTEM
-       ============================================================ */
-
-    private boolean hasDragonEgg(Player p) {
-        for (ItemStack i : p.getInventory().getContents()) {
-            if (i != null && i.getType() == Material.DRAGON_EGG) return true;
-        }
-        return false;
-    }
-
-    private long getRealCooldown(Player p, int tier) {
-        ActionBarManager ab = plugin.getActionBarManager();
-        return ab.getTotalAbilityCooldown(BootType.WARD, tier, hasDragonEgg(p));
-    }
-
-    private boolean isOnCooldown(Map<UUID, Long> map, Player p) {
-        return map.getOrDefault(p.getUniqueId(), 0L) > System.currentTimeMillis();
-    }
-
-    private long getLeft(Map<UUID, Long> map, Player p) {
-        return Math.max(0, map.getOrDefault(p.getUniqueId(), 0L) - System.currentTimeMillis());
-    }
-
-    private void applyCooldown(Map<UUID, Long> map, Player p, long ms) {
-        map.put(p.getUniqueId(), System.currentTimeMillis() + ms);
+        this.states = plugin.getPlayerStateStore();
     }
 
     /* ============================================================
@@ -66,22 +36,13 @@ public class WardAbility implements BootAbility {
     @Override
     public boolean executeTier1(final Player player) {
 
-        if (isOnCooldown(tier1Cooldown, player)) {
-            player.sendMessage("§5[Ward] §cShadow Veil on cooldown: §d"
-                    + (getLeft(tier1Cooldown, player) / 1000) + "s");
-            return false;
-        }
-
-        if (player.hasMetadata("ward_invisible")) {
+        if (states.has(player, PlayerState.WARD_INVISIBLE)) {
             player.sendMessage("§5[Ward] §7You are already cloaked.");
             return false;
         }
 
-        long realCD = getRealCooldown(player, 1);
-
         long until = System.currentTimeMillis() + 10_000L;
-        player.setMetadata("ward_invisible", new FixedMetadataValue(plugin, true));
-        player.setMetadata("ward_invisible_until", new FixedMetadataValue(plugin, until));
+        states.setUntil(player, PlayerState.WARD_INVISIBLE, until);
 
         plugin.getPacketManager().hidePlayerFromUntrusted(player);
 
@@ -95,7 +56,7 @@ public class WardAbility implements BootAbility {
 
         createShadowAura(player);
 
-        new BukkitRunnable() {
+        new WheelTask() {
             @Override
             public void run() {
                 if (!player.isOnline()) {
@@ -104,30 +65,26 @@ public class WardAbility implements BootAbility {
                     return;
                 }
 
-                long now = System.currentTimeMillis();
-                long end = player.getMetadata("ward_invisible_until").get(0).asLong();
-                if (now >= end) {
+                if (!states.has(player, PlayerState.WARD_INVISIBLE)) {
                     cleanup(player);
                     cancel();
                     return;
                 }
 
                 Location c = player.getLocation();
-                World world = c.getWorld();
 
-                for (Entity e : world.getNearbyEntities(c, 5, 5, 5)) {
-                    if (!(e instanceof LivingEntity le)) continue;
-                    if (e.equals(player)) continue;
+                for (LivingEntity le : plugin.getAreaQueryService().getNearbyLiving(c, 5, 5, 5)) {
+                    if (le.equals(player)) continue;
 
-                    if (e instanceof Player p2) {
+                    if (le instanceof Player p2) {
                         if (plugin.getTrustManager().isTrusted(player, p2)) continue;
 
                         p2.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 40, 0, true, false));
                         p2.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 40, 0, true, false));
 
-                        p2.spawnParticle(Particle.SMOKE, p2.getLocation().add(0, 1, 0),
+                        plugin.getParticleDispatcher().spawnFor(p2, ParticlePriority.EFFECT, Particle.SMOKE, p2.getLocation().add(0, 1, 0),
                                 10, 0.4, 0.5, 0.4, 0.02);
-                        p2.spawnParticle(Particle.SCULK_SOUL, p2.getLocation().add(0, 1.2, 0),
+                        plugin.getParticleDispatcher().spawnFor(p2, ParticlePriority.EFFECT, Particle.SCULK_SOUL, p2.getLocation().add(0, 1.2, 0),
                                 6, 0.3, 0.4, 0.3, 0.04);
 
                     } else {
@@ -139,22 +96,18 @@ public class WardAbility implements BootAbility {
             }
         }.runTaskTimer(plugin, 0L, 10L);
 
-        applyCooldown(tier1Cooldown, player, realCD);
         return true;
     }
 
     private void cleanup(Player player) {
-        if (player.hasMetadata("ward_invisible"))
-            player.removeMetadata("ward_invisible", plugin);
-        if (player.hasMetadata("ward_invisible_until"))
-            player.removeMetadata("ward_invisible_until", plugin);
+        states.clear(player, PlayerState.WARD_INVISIBLE);
 
         plugin.getPacketManager().showPlayerToAll(player);
 
         World w = player.getWorld();
         w.playSound(player.getLocation(), Sound.BLOCK_SCULK_SENSOR_CLICKING_STOP, 0.8f, 1.2f);
 
-        w.spawnParticle(Particle.SCULK_SOUL,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SCULK_SOUL,
                 player.getLocation().add(0, 1.2, 0),
                 30, 0.5, 0.5, 0.5, 0.06);
     }
@@ -166,13 +119,7 @@ public class WardAbility implements BootAbility {
     @Override
     public boolean executeTier2(final Player player) {
 
-        if (isOnCooldown(tier2Cooldown, player)) {
-            player.sendMessage("§5[Ward] §cSensor on cooldown: §d"
-                    + (getLeft(tier2Cooldown, player) / 1000) + "s");
-            return false;
-        }
-
-        if (player.hasMetadata("ward_sensor_active")) {
+        if (states.has(player, PlayerState.WARD_SENSOR)) {
             player.sendMessage("§5👁 §cYou already placed a sensor.");
             return false;
         }
@@ -183,8 +130,6 @@ public class WardAbility implements BootAbility {
             return false;
         }
 
-        long realCD = getRealCooldown(player, 2);
-
         World w = place.getWorld();
 
         ArmorStand sensor = w.spawn(place.clone().add(0, 0.1, 0), ArmorStand.class, as -> {
@@ -198,20 +143,21 @@ public class WardAbility implements BootAbility {
         sensor.setMetadata("ward_sensor", new FixedMetadataValue(plugin, player.getUniqueId()));
         sensor.setMetadata("ward_sensor_hp", new FixedMetadataValue(plugin, 3));
 
-        player.setMetadata("ward_sensor_active", new FixedMetadataValue(plugin, sensor.getUniqueId()));
+        states.set(player, PlayerState.WARD_SENSOR);
 
         place.getBlock().setType(Material.SCULK_SENSOR);
 
         createSensorAnimation(sensor, place);
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int time = 60;
 
             @Override
             public void run() {
                 if (sensor.isDead() || !player.isOnline()) {
+                    sensor.remove();
                     place.getBlock().setType(Material.AIR);
-                    player.removeMetadata("ward_sensor_active", plugin);
+                    states.clear(player, PlayerState.WARD_SENSOR);
                     cancel();
                     return;
                 }
@@ -220,7 +166,7 @@ public class WardAbility implements BootAbility {
                     activateSensor(player, place);
                     sensor.remove();
                     place.getBlock().setType(Material.AIR);
-                    player.removeMetadata("ward_sensor_active", plugin);
+                    states.clear(player, PlayerState.WARD_SENSOR);
                     cancel();
                     return;
                 }
@@ -228,7 +174,7 @@ public class WardAbility implements BootAbility {
                 sensor.setCustomName("§5Ward Sensor §7(" + time + "s)");
 
                 if (time <= 10) {
-                    w.spawnParticle(Particle.SCULK_SOUL,
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SCULK_SOUL,
                             place.clone().add(0, 1, 0),
                             10, 0.4, 0.4, 0.4, 0.08);
 
@@ -240,13 +186,12 @@ public class WardAbility implements BootAbility {
         }.runTaskTimer(plugin, 0L, 20L);
 
         w.playSound(place, Sound.BLOCK_SCULK_SENSOR_PLACE, 1f, 0.9f);
-        w.spawnParticle(Particle.SCULK_SOUL,
+        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SCULK_SOUL,
                 place.clone().add(0, 0.8, 0),
                 25, 0.5, 0.5, 0.5, 0.07);
 
         MessageUtils.sendMessage(player, "§5👁 §lSensor placed — §d60s§7 till activation.");
 
-        applyCooldown(tier2Cooldown, player, realCD);
         return true;
     }
 
@@ -255,13 +200,13 @@ public class WardAbility implements BootAbility {
        ============================================================ */
 
     private void createShadowAura(Player player) {
-        new BukkitRunnable() {
+        new WheelTask() {
 
             int t = 0;
 
             @Override
             public void run() {
-                if (!player.isOnline() || !player.hasMetadata("ward_invisible")) {
+                if (!player.isOnline() || !states.has(player, PlayerState.WARD_INVISIBLE)) {
                     cancel();
                     return;
                 }
@@ -291,14 +236,14 @@ public class WardAbility implements BootAbility {
 
                         Location ring = loc.clone().add(x, 1.1, z);
 
-                        v.spawnParticle(Particle.SMOKE, ring, 1, 0.05, 0.05, 0.05, 0.01);
-                        v.spawnParticle(Particle.SCULK_SOUL, ring, 1, 0.01, 0.01, 0.01, 0.03);
+                        plugin.getParticleDispatcher().spawnFor(v, ParticlePriority.EFFECT, Particle.SMOKE, ring, 1, 0.05, 0.05, 0.05, 0.01);
+                        plugin.getParticleDispatcher().spawnFor(v, ParticlePriority.EFFECT, Particle.SCULK_SOUL, ring, 1, 0.01, 0.01, 0.01, 0.03);
                     }
 
                     double y = 0.3 + (t % 20) * 0.05;
                     if (y > 1.8) y = 0.3;
 
-                    v.spawnParticle(Particle.SCULK_SOUL,
+                    plugin.getParticleDispatcher().spawnFor(v, ParticlePriority.EFFECT, Particle.SCULK_SOUL,
                             loc.clone().add(0, y, 0),
                             6, 0.12, 0.12, 0.12, 0.03);
                 }
@@ -309,7 +254,7 @@ public class WardAbility implements BootAbility {
     }
 
     private void createSensorAnimation(final ArmorStand sensor, final Location loc) {
-        new BukkitRunnable() {
+        new WheelTask() {
             int t = 0;
 
             @Override
@@ -326,11 +271,11 @@ public class WardAbility implements BootAbility {
                 for (double a = 0; a < Math.PI * 2; a += 0.25) {
                     Location l = loc.clone().add(Math.cos(a) * base, 0.12, Math.sin(a) * base);
 
-                    w.spawnParticle(Particle.SCULK_SOUL, l, 1, 0, 0, 0, 0);
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SCULK_SOUL, l, 1, 0, 0, 0, 0);
                 }
 
                 if (t % 40 == 0) {
-                    w.spawnParticle(Particle.SCULK_CHARGE,
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SCULK_CHARGE,
                             loc.clone().add(0, 0.5, 0),
                             12, 0.3, 0.4, 0.3, 0.12);
 
@@ -394,13 +339,11 @@ public class WardAbility implements BootAbility {
 
     private void activateSensor(Player owner, Location loc) {
         World w = loc.getWorld();
-        for (Entity e : w.getNearbyEntities(loc, 5, 5, 5)) {
-            if (!(e instanceof LivingEntity le)) continue;
-
-            if (e instanceof Player target) {
+        for (LivingEntity le : plugin.getAreaQueryService().getNearbyLiving(loc, 5, 5, 5)) {
+            if (le instanceof Player target) {
                 if (plugin.getTrustManager().isTrusted(owner, target)) {
                     target.addPotionEffect(new PotionEffect(PotionEffectType.REGENERATION, 200, 1, true, false));
-                    w.spawnParticle(Particle.HEART,
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.HEART,
                             target.getLocation().add(0, 2, 0),
                             6, 0.4, 0.4, 0.4, 0.05);
 
@@ -408,10 +351,10 @@ public class WardAbility implements BootAbility {
                     target.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 200, 0, true, false));
                     target.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 200, 0, true, false));
 
-                    w.spawnParticle(Particle.SMOKE,
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SMOKE,
                             target.getLocation().add(0, 1, 0),
                             12, 0.5, 0.5, 0.5, 0.05);
-                    w.spawnParticle(Particle.SCULK_SOUL,
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SCULK_SOUL,
                             target.getLocation().add(0, 1.2, 0),
                             6, 0.3, 0.4, 0.3, 0.06);
                 }
@@ -421,10 +364,10 @@ public class WardAbility implements BootAbility {
             }
         }
 
-        w.spawnParticle(Particle.SCULK_SOUL,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SCULK_SOUL,
                 loc.clone().add(0, 0.8, 0),
                 40, 2, 1.2, 2, 0.15);
-        w.spawnParticle(Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
         w.playSound(loc, Sound.ENTITY_WARDEN_SONIC_BOOM, 1.2f, 1.2f);
 
         MessageUtils.sendMessage(owner, "§5👁 §lSensor Activated.");
@@ -438,31 +381,30 @@ public class WardAbility implements BootAbility {
             if (p.equals(player)) continue;
 
             boolean invis = (p.hasPotionEffect(PotionEffectType.INVISIBILITY)
-                    && p.hasMetadata("ward_invisible"));
+                    && states.has(p, PlayerState.WARD_INVISIBLE));
             if (invis) continue;
 
             if (p.isSneaking() && !p.hasPotionEffect(PotionEffectType.INVISIBILITY)) {
-                if (!p.hasMetadata("echo_sense_detected")) {
-                    p.setMetadata("echo_sense_detected",
-                            new FixedMetadataValue(plugin, System.currentTimeMillis()));
+                if (!states.has(p, PlayerState.ECHO_SENSE_DETECTED)) {
+                    states.set(p, PlayerState.ECHO_SENSE_DETECTED);
 
-                    new BukkitRunnable() {
+                    new WheelTask() {
                         @Override
                         public void run() {
                             if (!p.isOnline()) {
-                                p.removeMetadata("echo_sense_detected", plugin);
+                                states.clear(p, PlayerState.ECHO_SENSE_DETECTED);
                                 return;
                             }
-                            if (p.isSneaking() && p.hasMetadata("echo_sense_detected")) {
+                            if (p.isSneaking() && states.has(p, PlayerState.ECHO_SENSE_DETECTED)) {
                                 MessageUtils.sendMessage(player,
                                         "§5👁 §lEcho Sense: §7Someone is near...");
-                                p.removeMetadata("echo_sense_detected", plugin);
+                                states.clear(p, PlayerState.ECHO_SENSE_DETECTED);
 
                                 player.getWorld().playSound(
                                         player.getLocation(),
                                         Sound.ENTITY_WARDEN_SONIC_BOOM,
                                         0.4f, 2f);
-                                player.getWorld().spawnParticle(Particle.SCULK_SOUL,
+                                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SCULK_SOUL,
                                         player.getLocation().add(0, 1.5, 0),
                                         10, 0.4, 0.5, 0.4, 0.06);
                             }
@@ -470,7 +412,7 @@ public class WardAbility implements BootAbility {
                     }.runTaskLater(plugin, 200);
                 }
             } else {
-                p.removeMetadata("echo_sense_detected", plugin);
+                states.clear(p, PlayerState.ECHO_SENSE_DETECTED);
             }
         }
     }
@@ -489,11 +431,11 @@ public class WardAbility implements BootAbility {
             Player owner = plugin.getServer().getPlayer(ownerId);
 
             if (owner != null) {
-                owner.removeMetadata("ward_sensor_active", plugin);
+                states.clear(owner, PlayerState.WARD_SENSOR);
                 MessageUtils.sendMessage(owner, "§5👁 §cYour sensor was destroyed!");
             }
 
-            w.spawnParticle(Particle.BLOCK_CRUMBLE,
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.BLOCK_CRUMBLE,
                     loc, 20, 0.5, 0.5, 0.5, 0.1,
                     Material.SCULK_SENSOR.createBlockData());
             w.playSound(loc, Sound.BLOCK_SCULK_SENSOR_BREAK, 1.2f, 0.9f);
@@ -504,7 +446,7 @@ public class WardAbility implements BootAbility {
             sensor.setMetadata("ward_sensor_hp", new FixedMetadataValue(plugin, hp));
             sensor.setCustomName("§5Ward Sensor §c(" + hp + " HP)");
 
-            w.spawnParticle(Particle.CRIT,
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.CRIT,
                     loc.clone().add(0, 1, 0),
                     10, 0.3, 0.3, 0.3, 0.1);
             w.playSound(loc, Sound.BLOCK_SCULK_SENSOR_CLICKING, 0.7f, 1.6f);
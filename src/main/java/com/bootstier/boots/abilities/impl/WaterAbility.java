@@ -2,6 +2,10 @@ package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.abilities.BootAbility;
+import com.bootstier.boots.abilities.PlayerState;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.scheduler.WheelTask;
 import com.bootstier.utils.LocationUtils;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.ChatColor;
@@ -12,14 +16,11 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Water boots abilities implementation (dev-doc accurate, trust-aware, entity-aware)
@@ -27,43 +28,14 @@ import java.util.stream.Collectors;
 public class WaterAbility implements BootAbility {
 
     private final BootsTierPlugin plugin;
+    private final PlayerStateStore states;
     private final Random random;
 
-    // Per-player cooldowns (respecting dev doc)
-    // Tier 1: 10s duration, 1:15 cooldown
-    // Tier 2: not specified in doc, we mirror 1:15 for balance
-    private static final long TIER1_CD_MS = 75_000L; // 1:15
-    private static final long TIER2_CD_MS = 75_000L; // 1:15
-
-    private final Map<UUID, Long> tier1Cooldown = new HashMap<>();
-    private final Map<UUID, Long> tier2Cooldown = new HashMap<>();
-
     public WaterAbility(final BootsTierPlugin plugin) {
         this.plugin = plugin;
+        this.states = plugin.getPlayerStateStore();
         this.random = new Random();
     }
-private boolean hasDragonEgg(Player player) {
-    return Arrays.stream(player.getInventory().getContents())
-            .anyMatch(item -> item != null && item.getType() == Material.DRAGON_EGG);
-}
-
-    /* ==========================
-       COOLDOWN HELPERS
-       ========================== */
-
-    private boolean isOnCooldown(Map<UUID, Long> map, UUID id) {
-        long now = System.currentTimeMillis();
-        return map.containsKey(id) && map.get(id) > now;
-    }
-
-    private long getCooldownLeft(Map<UUID, Long> map, UUID id) {
-        long now = System.currentTimeMillis();
-        return Math.max(0L, map.getOrDefault(id, 0L) - now);
-    }
-
-    private void setCooldown(Map<UUID, Long> map, UUID id, long cdMs) {
-        map.put(id, System.currentTimeMillis() + cdMs);
-    }
 
     /* ==========================
        TIER 1 – WHIRLPOOL
@@ -78,18 +50,8 @@ private boolean hasDragonEgg(Player player) {
 
     @Override
     public boolean executeTier1(final Player player) {
-        UUID id = player.getUniqueId();
-
-        // Cooldown check
-        if (isOnCooldown(tier1Cooldown, id)) {
-            long left = getCooldownLeft(tier1Cooldown, id) / 1000L;
-            player.sendMessage(ChatColor.RED + "Whirlpool on cooldown: " +
-                    ChatColor.AQUA + left + "s");
-            return false;
-        }
-
         // Mark active
-        player.setMetadata("water_whirlpool_active", new FixedMetadataValue(this.plugin, true));
+        this.states.set(player, PlayerState.WATER_WHIRLPOOL);
 
         // SFX + start burst
         Location center = player.getLocation();
@@ -97,46 +59,37 @@ private boolean hasDragonEgg(Player player) {
         center.getWorld().playSound(center, Sound.ENTITY_PLAYER_SPLASH, 0.9f, 1.0f);
 
         // Initial cinematic burst – conduit + blue smoke + a bit of water
-        center.getWorld().spawnParticle(Particle.NAUTILUS,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.NAUTILUS,
                 center.clone().add(0, 1.0, 0),
                 40, 1.0, 0.6, 1.0, 0.1);
-        center.getWorld().spawnParticle(Particle.CLOUD,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.CLOUD,
                 center.clone().add(0, 0.7, 0),
                 30, 1.2, 0.4, 1.2, 0.02);
-        center.getWorld().spawnParticle(Particle.SPLASH,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SPLASH,
                 center.clone().add(0, 0.8, 0),
                 20, 0.8, 0.4, 0.8, 0.15);
-        center.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME,
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SOUL_FIRE_FLAME,
                 center.clone().add(0, 1.4, 0),
                 15, 0.5, 0.4, 0.5, 0.02);
 
         MessageUtils.sendMessage(player, ChatColor.AQUA + "🌊 " + ChatColor.BOLD + "Whirlpool! "
                 + ChatColor.GRAY + "The water bends around you.");
 
-        // Start cooldown immediately
-final long totalCD = plugin.getActionBarManager().getTotalAbilityCooldown(
-        plugin.getPlayerManager().getPlayerData(player).getBootsData().getBootType(),
-        1,
-        hasDragonEgg(player)
-);
-setCooldown(tier1Cooldown, id, totalCD);
-
-
-        new BukkitRunnable() {
+        new WheelTask() {
             private int ticks = 0;
 
             @Override
             public void run() {
                 if (!player.isOnline()) {
-                    player.removeMetadata("water_whirlpool_active", plugin);
-                    clearWhirlpoolMetadata();
+                    states.clear(player, PlayerState.WATER_WHIRLPOOL);
+                    states.clearAll(PlayerState.WHIRLPOOL_DROWNING);
                     cancel();
                     return;
                 }
 
                 if (ticks >= 200) { // 10 seconds
-                    player.removeMetadata("water_whirlpool_active", plugin);
-                    clearWhirlpoolMetadata();
+                    states.clear(player, PlayerState.WATER_WHIRLPOOL);
+                    states.clearAll(PlayerState.WHIRLPOOL_DROWNING);
                     cancel();
                     return;
                 }
@@ -145,11 +98,7 @@ setCooldown(tier1Cooldown, id, totalCD);
                 double whirlRadius = 5.0; // dev doc
 
                 // All nearby living entities (players + mobs)
-                List<LivingEntity> livingEntities = center.getWorld().getNearbyEntities(center, 8.0, 4.0, 8.0)
-                        .stream()
-                        .filter(e -> e instanceof LivingEntity)
-                        .map(e -> (LivingEntity) e)
-                        .collect(Collectors.toList());
+                List<LivingEntity> livingEntities = plugin.getAreaQueryService().getNearbyLiving(center, 8.0, 4.0, 8.0);
 
                 for (LivingEntity living : livingEntities) {
                     if (living.equals(player)) continue;
@@ -183,7 +132,7 @@ setCooldown(tier1Cooldown, id, totalCD);
                         // Inside whirlpool: they stop being pulled, start drowning / debuffed
                         if (living instanceof Player) {
                             Player p = (Player) living;
-                            p.setMetadata("whirlpool_drowning", new FixedMetadataValue(plugin, true));
+                            states.set(p, PlayerState.WHIRLPOOL_DROWNING);
 
                             // Air reduction (faster in water)
                             int currentAir = p.getRemainingAir();
@@ -216,12 +165,6 @@ setCooldown(tier1Cooldown, id, totalCD);
         return true;
     }
 
-    private void clearWhirlpoolMetadata() {
-        for (Player online : this.plugin.getServer().getOnlinePlayers()) {
-            online.removeMetadata("whirlpool_drowning", this.plugin);
-        }
-    }
-
     private void spawnWhirlpoolParticles(Location center, int ticks, double whirlRadius) {
         for (double r = 1.0; r <= whirlRadius; r += 0.7) {
             double angleOffset = ticks * 0.18; // rotation speed
@@ -233,7 +176,7 @@ setCooldown(tier1Cooldown, id, totalCD);
                 Location loc = center.clone().add(x, y, z);
 
                 // Main "water magic" look – nautilus for consistency
-                center.getWorld().spawnParticle(
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                         Particle.NAUTILUS,
                         loc,
                         1, 0.08, 0.08, 0.08, 0.0
@@ -241,7 +184,7 @@ setCooldown(tier1Cooldown, id, totalCD);
 
                 // Blue enchanted spark for magical effect
                 if (random.nextDouble() < 0.5) {
-                    center.getWorld().spawnParticle(
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                             Particle.ENCHANTED_HIT,
                             loc.clone().add(0, 0.1, 0),
                             1, 0.12, 0.08, 0.12, 0.01
@@ -250,7 +193,7 @@ setCooldown(tier1Cooldown, id, totalCD);
 
                 // Water dripping effect for aquatic feel
                 if (random.nextDouble() < 0.25) {
-                    center.getWorld().spawnParticle(
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                             Particle.DRIPPING_WATER,
                             loc.clone().add(0, 0.05, 0),
                             1, 0.02, 0.04, 0.02, 0.0
@@ -259,7 +202,7 @@ setCooldown(tier1Cooldown, id, totalCD);
 
                 // Splash particles to reinforce water aesthetic
                 if (random.nextDouble() < 0.15) {
-                    center.getWorld().spawnParticle(
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                             Particle.SPLASH,
                             loc,
                             1, 0.03, 0.03, 0.03, 0.0
@@ -272,14 +215,14 @@ setCooldown(tier1Cooldown, id, totalCD);
         if (ticks % 2 == 0) {
             for (double y = 0.0; y <= 2.0; y += 0.25) {
                 Location col = center.clone().add(0, y, 0);
-                center.getWorld().spawnParticle(
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                         Particle.NAUTILUS,
                         col,
                         1, 0.07, 0.07, 0.07, 0.0
                 );
 
                 if (random.nextDouble() < 0.4) {
-                    center.getWorld().spawnParticle(
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                             Particle.DRIPPING_WATER,
                             col,
                             1, 0.05, 0.05, 0.05, 0.0
@@ -296,12 +239,12 @@ setCooldown(tier1Cooldown, id, totalCD);
                 double z = Math.sin(angle) * radius;
                 Location ringLoc = center.clone().add(x, 0.3, z);
 
-                center.getWorld().spawnParticle(
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                         Particle.ENCHANTED_HIT,
                         ringLoc,
                         1, 0.15, 0.1, 0.15, 0.01
                 );
-                center.getWorld().spawnParticle(
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                         Particle.DRIPPING_WATER,
                         ringLoc.clone().add(0, 0.05, 0),
                         1, 0.02, 0.03, 0.02, 0.0
@@ -321,32 +264,10 @@ setCooldown(tier1Cooldown, id, totalCD);
 
     @Override
     public boolean executeTier2(final Player player) {
-        UUID id = player.getUniqueId();
-
-        if (isOnCooldown(tier2Cooldown, id)) {
-            long left = getCooldownLeft(tier2Cooldown, id) / 1000L;
-            player.sendMessage(ChatColor.RED + "Tidal Wave on cooldown: " +
-                    ChatColor.AQUA + left + "s");
-            return false;
-        }
-
         final Location center = player.getLocation().clone();
 
-        // Start cooldown
-final long totalCD = plugin.getActionBarManager().getTotalAbilityCooldown(
-        plugin.getPlayerManager().getPlayerData(player).getBootsData().getBootType(),
-        2,
-        hasDragonEgg(player)
-);
-setCooldown(tier2Cooldown, id, totalCD);
-
-
         // Push entities out
-        List<LivingEntity> livingEntities = center.getWorld().getNearbyEntities(center, 10.0, 4.0, 10.0)
-                .stream()
-                .filter(e -> e instanceof LivingEntity)
-                .map(e -> (LivingEntity) e)
-                .collect(Collectors.toList());
+        List<LivingEntity> livingEntities = plugin.getAreaQueryService().getNearbyLiving(center, 10.0, 4.0, 10.0);
 
         for (LivingEntity living : livingEntities) {
             if (living.equals(player)) continue;
@@ -370,8 +291,7 @@ setCooldown(tier2Cooldown, id, totalCD);
                     living.setVelocity(push);
                 }
 
-                target.setMetadata("water_jump_disabled",
-                        new FixedMetadataValue(this.plugin, System.currentTimeMillis() + 5000));
+                this.states.setUntil(target, PlayerState.WATER_JUMP_DISABLED, System.currentTimeMillis() + 5000);
             } else {
                 // Mobs: just get yeeted by the wave
                 Vector push = living.getLocation().toVector().subtract(center.toVector());
@@ -384,7 +304,7 @@ setCooldown(tier2Cooldown, id, totalCD);
         }
 
         // Visual wave ring expanding out – blue smoke + conduit streaks
-        new BukkitRunnable() {
+        new WheelTask() {
             private double currentRadius = 1.0;
 
             @Override
@@ -400,7 +320,7 @@ setCooldown(tier2Cooldown, id, totalCD);
                     Location loc = center.clone().add(x, 0.4, z);
 
                     // Main wave mist
-                    center.getWorld().spawnParticle(
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                             Particle.CLOUD,
                             loc,
                             2, 0.18, 0.12, 0.18, 0.01
@@ -408,7 +328,7 @@ setCooldown(tier2Cooldown, id, totalCD);
 
                     // Magic water streaks
                     if (random.nextDouble() < 0.4) {
-                        center.getWorld().spawnParticle(
+                        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                                 Particle.NAUTILUS,
                                 loc.clone().add(0, 0.05, 0),
                                 1, 0.06, 0.06, 0.06, 0.0
@@ -417,7 +337,7 @@ setCooldown(tier2Cooldown, id, totalCD);
 
                     // Occasional soul-flame crackle at edge
                     if (random.nextDouble() < 0.25) {
-                        center.getWorld().spawnParticle(
+                        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                                 Particle.SOUL_FIRE_FLAME,
                                 loc.clone().add(0, 0.1, 0),
                                 1, 0.02, 0.03, 0.02, 0.0
@@ -426,7 +346,7 @@ setCooldown(tier2Cooldown, id, totalCD);
 
                     // Very small splash hints so it still feels like water
                     if (random.nextDouble() < 0.15) {
-                        center.getWorld().spawnParticle(
+                        plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                                 Particle.SPLASH,
                                 loc,
                                 1, 0.04, 0.04, 0.04, 0.0
@@ -454,28 +374,23 @@ setCooldown(tier2Cooldown, id, totalCD);
 
     @Override
     public void applyTier1Passives(final Player player) {
-        // Conduit Power (dev doc)
-        if (!player.hasPotionEffect(PotionEffectType.CONDUIT_POWER)) {
-            player.addPotionEffect(new PotionEffect(
-                    PotionEffectType.CONDUIT_POWER, 100, 0, true, false));
-        }
+        // Conduit Power (dev doc) is leased by PassiveEffectManager
     }
 
     @Override
     public void applyTier2Passives(final Player player) {
         // Wet passive:
         // - While in water: become "wet" (no fire damage)
-        // - After leaving, stay immune 5s via metadata
+        // - After leaving, stay immune 5s
 
         boolean inWater = player.getLocation().getBlock().getType() == Material.WATER
                 || player.getLocation().add(0, 1, 0).getBlock().getType() == Material.WATER;
 
         if (inWater) {
-            player.setMetadata("water_wet",
-                    new FixedMetadataValue(this.plugin, System.currentTimeMillis() + 5000));
+            this.states.setUntil(player, PlayerState.WATER_WET, System.currentTimeMillis() + 5000);
 
             // Visual wet drip
-            player.getWorld().spawnParticle(Particle.DRIPPING_WATER,
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.DRIPPING_WATER,
                     player.getLocation().add(0, 0.1, 0),
                     3, 0.3, 0.1, 0.3, 0.0);
         }
@@ -504,7 +419,7 @@ setCooldown(tier2Cooldown, id, totalCD);
             victim.getWorld().strikeLightningEffect(victim.getLocation());
             victim.damage(2.0, attacker); // 1 heart
 
-            victim.getWorld().spawnParticle(Particle.ELECTRIC_SPARK,
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.ELECTRIC_SPARK,
                     victim.getLocation().add(0, 1, 0),
                     15, 0.5, 1, 0.5, 0.1);
 
@@ -516,26 +431,10 @@ setCooldown(tier2Cooldown, id, totalCD);
     }
 
     public boolean canJump(final Player player) {
-        if (player.hasMetadata("water_jump_disabled")) {
-            final long disabledUntil = player.getMetadata("water_jump_disabled").get(0).asLong();
-            if (System.currentTimeMillis() < disabledUntil) {
-                return false;
-            } else {
-                player.removeMetadata("water_jump_disabled", this.plugin);
-            }
-        }
-        return true;
+        return !this.states.has(player, PlayerState.WATER_JUMP_DISABLED);
     }
 
     public boolean isWet(final Player player) {
-        if (player.hasMetadata("water_wet")) {
-            final long wetUntil = player.getMetadata("water_wet").get(0).asLong();
-            if (System.currentTimeMillis() < wetUntil) {
-                return true;
-            } else {
-                player.removeMetadata("water_wet", this.plugin);
-            }
-        }
-        return false;
+        return this.states.has(player, PlayerState.WATER_WET);
     }
 }
@@ -2,17 +2,14 @@ package com.bootstier.boots.abilities.impl;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.abilities.BootAbility;
-import com.bootstier.boots.BootType;
-import com.bootstier.boots.BootsData;
-import com.bootstier.player.PlayerData;
+import com.bootstier.boots.abilities.PlayerState;
+import com.bootstier.boots.abilities.PlayerStateStore;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.scheduler.WheelTask;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.List;
@@ -20,39 +17,11 @@ import java.util.List;
 public class WindAbility implements BootAbility {
 
     private final BootsTierPlugin plugin;
+    private final PlayerStateStore states;
 
     public WindAbility(final BootsTierPlugin plugin) {
         this.plugin = plugin;
-    }
-
-    /* ---------------------------------------------------
-       DRAGON EGG CHECK
-    --------------------------------------------------- */
-    private boolean hasDragonEgg(Player p) {
-        return p.getInventory().contains(Material.DRAGON_EGG);
-    }
-
-    private long getTotalCD(Player p, int tier) {
-        PlayerData pd = plugin.getPlayerManager().getPlayerData(p);
-        BootType type = pd.getBootsData().getBootType();
-        return plugin.getActionBarManager().getTotalAbilityCooldown(type, tier, hasDragonEgg(p));
-    }
-
-    /* ---------------------------------------------------
-       COOLDOWN SETTER (REAL SYSTEM!)
-    --------------------------------------------------- */
-    private void applyCooldown(Player p, int tier) {
-        PlayerData pd = plugin.getPlayerManager().getPlayerData(p);
-        BootsData bd = pd.getBootsData();
-        long now = System.currentTimeMillis();
-
-        if (tier == 1) {
-            bd.setLastAbilityUse(now);
-        } else {
-            bd.setLastTier2AbilityUse(now);
-        }
-
-        plugin.getPlayerManager().savePlayerData(pd);
+        this.states = plugin.getPlayerStateStore();
     }
 
     /* ---------------------------------------------------
@@ -61,14 +30,12 @@ public class WindAbility implements BootAbility {
     @Override
     public boolean executeTier1(final Player player) {
 
-        applyCooldown(player, 1);
-
         Vector dir = player.getLocation().getDirection().normalize();
         Vector dash = dir.multiply(1.4);
         dash.setY(0.35);
         player.setVelocity(dash);
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -77,7 +44,7 @@ public class WindAbility implements BootAbility {
                     return;
                 }
                 Location loc = player.getLocation().subtract(dir.clone().multiply(ticks * 0.25));
-                player.getWorld().spawnParticle(org.bukkit.Particle.CLOUD, loc, 6, 0.2, 0.1, 0.2, 0.05);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.CLOUD, loc, 6, 0.2, 0.1, 0.2, 0.05);
                 ticks++;
             }
         }.runTaskTimer(plugin, 0L, 1L);
@@ -91,15 +58,13 @@ public class WindAbility implements BootAbility {
     @Override
     public boolean executeTier2(final Player player) {
 
-        applyCooldown(player, 2);
-
         final Location center = player.getLocation();
         final ArmorStand tornado = plugin.getUnifiedDisplayManager().createTornado(center, 200);
 
         player.playSound(center, org.bukkit.Sound.ITEM_ELYTRA_FLYING, 1.5f, 0.6f);
         player.sendMessage("§b🌪 §lTornado! §7A vortex forms around you!");
 
-        new BukkitRunnable() {
+        new WheelTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -111,15 +76,10 @@ public class WindAbility implements BootAbility {
 
                 handleTornadoParticles(center, ticks);
 
-                List<Entity> ents = center.getWorld()
-                        .getNearbyEntities(center, 8, 8, 8)
-                        .stream()
-                        .filter(e -> e instanceof LivingEntity)
-                        .filter(e -> !e.equals(player))
-                        .toList();
+                List<LivingEntity> ents = plugin.getAreaQueryService().getNearbyLiving(center, 8, 8, 8);
 
-                for (Entity e : ents) {
-                    LivingEntity l = (LivingEntity) e;
+                for (LivingEntity l : ents) {
+                    if (l.equals(player)) continue;
 
                     if (l instanceof Player p &&
                             plugin.getTrustManager().isTrusted(player, p))
@@ -151,7 +111,7 @@ public class WindAbility implements BootAbility {
                 double z = Math.sin(ang + offset) * r;
                 double y = 0.5 + ((ticks % 20) * 0.15);
 
-                center.getWorld().spawnParticle(
+                this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
                         org.bukkit.Particle.CLOUD,
                         center.clone().add(x, y, z),
                         1, 0.1, 0.1, 0.1, 0.01
@@ -178,32 +138,28 @@ public class WindAbility implements BootAbility {
 
         long now = System.currentTimeMillis();
 
-        if (!player.hasMetadata("wind_jump_tap")) {
-            player.setMetadata("wind_jump_tap", new FixedMetadataValue(plugin, now));
-            return;
-        }
-
-        long lastTap = player.getMetadata("wind_jump_tap").get(0).asLong();
-        player.setMetadata("wind_jump_tap", new FixedMetadataValue(plugin, now));
+        // Still running means the previous tap was within the window
+        boolean doubleTap = states.has(player, PlayerState.WIND_JUMP_TAP);
+        states.setUntil(player, PlayerState.WIND_JUMP_TAP, now + DOUBLE_TAP_WINDOW);
 
-        if (now - lastTap > DOUBLE_TAP_WINDOW) return;
+        if (!doubleTap) return;
         if (player.isOnGround()) return;
-        if (player.hasMetadata("wind_jumped")) return;
+        if (states.has(player, PlayerState.WIND_JUMPED)) return;
 
         Vector v = player.getLocation().getDirection().multiply(0.25);
         v.setY(0.95);
         player.setVelocity(v);
 
-        player.getWorld().spawnParticle(
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT,
                 org.bukkit.Particle.CLOUD,
                 player.getLocation(),
                 20, 0.4, 0.2, 0.4, 0.1
         );
 
-        player.setMetadata("wind_jumped", new FixedMetadataValue(plugin, true));
+        states.set(player, PlayerState.WIND_JUMPED);
     }
 
     public void resetDoubleJump(Player p) {
-        p.removeMetadata("wind_jumped", plugin);
+        states.clear(p, PlayerState.WIND_JUMPED);
     }
 }
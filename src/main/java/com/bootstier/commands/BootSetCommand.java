@@ -3,6 +3,7 @@ package com.bootstier.commands;
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
 import com.bootstier.boots.BootsTier;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -74,7 +75,7 @@ public class BootSetCommand implements CommandExecutor {
         this.plugin.getUnifiedDisplayManager().refreshPlayerDisplays(target);
 
         // Premium effects
-        target.getWorld().spawnParticle(org.bukkit.Particle.FIREWORK, target.getLocation(), 
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.FIREWORK, target.getLocation(), 
             20, 1, 1, 1, 0.1);
         target.playSound(target.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
 
@@ -2,6 +2,7 @@ package com.bootstier.commands;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
+import com.bootstier.boots.abilities.CooldownService;
 import com.bootstier.player.PlayerData;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -80,16 +81,14 @@ public class CooldownsCommand implements CommandExecutor, Listener {
             return;
         }
 
-        /* ===== Get actual cooldown values from metadata ===== */
-
-        Map<String, Long> cds = getCooldownMap(viewer, bootType);
+        final CooldownService cooldowns = plugin.getCooldownService();
 
         // Ability 1
-        long cd1 = cds.getOrDefault("t1", 0L);
+        long cd1 = cooldowns.getRemaining(viewer, bootType, 1);
         gui.setItem(11, createCooldownItem(getAbilityName(bootType, 1), cd1));
 
         // Ability 2
-        long cd2 = cds.getOrDefault("t2", 0L);
+        long cd2 = cooldowns.getRemaining(viewer, bootType, 2);
         gui.setItem(15, createCooldownItem(getAbilityName(bootType, 2), cd2));
 
         // Back button
@@ -152,85 +151,6 @@ public class CooldownsCommand implements CommandExecutor, Listener {
         };
     }
 
-    /* ========================================================
-               READ COOLDOWNS FROM METADATA PER BOOT
-     ======================================================== */
-    private Map<String, Long> getCooldownMap(Player p, BootType type) {
-        long now = System.currentTimeMillis();
-        Map<String, Long> map = new HashMap<>();
-
-        /* ----- SPEED / BLUR ----- */
-        if (type == BootType.SPEED) {
-            map.put("t1", getCD(p, "blur_until", now));
-            map.put("t2", getCD(p, "quickstep_until", now));
-        }
-
-        /* ----- STRENGTH ----- */
-        if (type == BootType.STRENGTH) {
-            map.put("t1", getCD(p, "strength_critical_active", now));
-            map.put("t2", getCD(p, "damage_link_active", now));
-        }
-
-        /* ----- WARD ----- */
-        if (type == BootType.WARD) {
-            map.put("t1", getCD(p, "ward_invisible_until", now));
-            map.put("t2", getCD(p, "ward_sensor_active_until", now));
-        }
-
-        /* ----- SPIDER ----- */
-        if (type == BootType.SPIDER) {
-            map.put("t1", getCD(p, "spider_summon_until", now));
-            map.put("t2", getCD(p, "spider_web_until", now));
-        }
-
-        /* ----- FROST ----- */
-        if (type == BootType.FROST) {
-            map.put("t1", getCD(p, "frost_shield_until", now));
-            map.put("t2", getCD(p, "frost_circle_until", now));
-        }
-
-        /* ----- WIND ----- */
-        if (type == BootType.WIND) {
-            map.put("t1", getCD(p, "wind_dash_until", now));
-            map.put("t2", getCD(p, "wind_tornado_until", now));
-        }
-
-        /* ----- ASTRAL ----- */
-        if (type == BootType.ASTRAL) {
-            map.put("t1", getCD(p, "astral_rewind_until", now));
-            map.put("t2", getCD(p, "astral_disable_until", now));
-        }
-
-        /* ----- LIFE ----- */
-        if (type == BootType.LIFE) {
-            map.put("t1", getCD(p, "life_reverse_until", now));
-            map.put("t2", getCD(p, "life_weak_until", now));
-        }
-
-        /* ----- WATER ----- */
-        if (type == BootType.WATER) {
-            map.put("t1", getCD(p, "water_whirlpool_until", now));
-            map.put("t2", getCD(p, "water_wave_until", now));
-        }
-
-        /* ----- FIRE ----- */
-        if (type == BootType.FIRE) {
-            map.put("t1", getCD(p, "fire_rings_until", now));
-            map.put("t2", getCD(p, "fire_dash_until", now));
-        }
-
-        return map;
-    }
-
-    /* ========================================================
-                    HELPER — METADATA COOLDOWN
-     ======================================================== */
-    private long getCD(Player p, String key, long now) {
-        if (!p.hasMetadata(key)) return 0;
-        long until = p.getMetadata(key).get(0).asLong();
-        return Math.max(0, until - now);
-    }
-
     /* ========================================================
                 Inventory Click Event Handler
      ======================================================== */
@@ -1,6 +1,7 @@
 package com.bootstier.commands;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.utils.MessageUtils;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.command.Command;
@@ -74,7 +75,7 @@ public class PedestalCommand implements CommandExecutor {
         this.plugin.getPedestalManager().setPedestalLocation(player.getLocation());
         
         // Premium effects
-        player.getWorld().spawnParticle(org.bukkit.Particle.TOTEM_OF_UNDYING, player.getLocation(), 20, 1, 1, 1, 0.1);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.TOTEM_OF_UNDYING, player.getLocation(), 20, 1, 1, 1, 0.1);
         player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.2f);
         
         MessageUtils.sendMessage(player, "§5✦ §lPedestal anchored! §7The sacred ground has been marked at your location.");
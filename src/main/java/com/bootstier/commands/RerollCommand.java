@@ -1,6 +1,7 @@
 package com.bootstier.commands;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -49,9 +50,9 @@ public class RerollCommand implements CommandExecutor {
         this.plugin.getBootsManager().giveBoots(target, data.getBootsData().getBootType());
 
         // Premium reroll effects
-        target.getWorld().spawnParticle(org.bukkit.Particle.ENCHANTED_HIT, target.getLocation(), 
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.ENCHANTED_HIT, target.getLocation(), 
             30, 1, 1, 1, 0.1);
-        target.getWorld().spawnParticle(org.bukkit.Particle.FIREWORK, target.getLocation(), 
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.FIREWORK, target.getLocation(), 
             15, 0.5, 0.5, 0.5, 0.1);
         target.playSound(target.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 0.8f);
 
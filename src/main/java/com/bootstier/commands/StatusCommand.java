@@ -0,0 +1,131 @@
+package com.bootstier.commands;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.boots.abilities.AreaQueryService;
+import com.bootstier.boots.abilities.ProtectiveZoneRegistry;
+import com.bootstier.effects.EffectEngine;
+import com.bootstier.effects.ParticleDispatcher;
+import com.bootstier.nms.ParticleBatcher;
+import com.bootstier.player.PlayerSaveQueue;
+import com.bootstier.player.storage.PlayerDataStore;
+import com.bootstier.player.storage.SegmentPlayerDataStore;
+import com.bootstier.scheduler.PlayerTaskBuckets;
+import com.bootstier.scheduler.TickScheduler;
+import com.bootstier.utils.MessageUtils;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import java.io.IOException;
+
+/**
+ * Admin command showing internal performance statistics
+ */
+public class StatusCommand implements CommandExecutor {
+
+    private final BootsTierPlugin plugin;
+
+    public StatusCommand(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(final CommandSender sender, final Command command, final String label, final String[] args) {
+        if (!sender.hasPermission("boots.admin")) {
+            sender.sendMessage(MessageUtils.colorize("&cYou don't have permission to use this command!"));
+            return true;
+        }
+
+        this.send(sender, "§8▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬");
+        this.send(sender, "§5§l✦ BOOTS STATUS ✦");
+        this.send(sender, "§8▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬");
+        this.showPersistence(sender);
+        this.showScheduler(sender);
+        this.showParticles(sender);
+        this.showEffects(sender);
+        this.send(sender, "§8▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬▬");
+        return true;
+    }
+
+    private void showPersistence(final CommandSender sender) {
+        final PlayerSaveQueue queue = this.plugin.getPlayerManager().getSaveQueue();
+        final PlayerDataStore store = this.plugin.getPlayerManager().getStore();
+
+        this.send(sender, "§6Persistence §7(backend: §e" + store.getName() + "§7)");
+        if (store instanceof SegmentPlayerDataStore segmentStore) {
+            try {
+                this.send(sender, "§7  Records: §e" + segmentStore.getRecordCount()
+                        + " §7| Segment: §e" + (segmentStore.getSegmentSize() / 1024) + " KB"
+                        + " §7(live §e" + (segmentStore.getLiveBytes() / 1024) + " KB§7)");
+            } catch (final IOException e) {
+                this.send(sender, "§7  Records: §cunavailable (" + e.getMessage() + ")");
+            }
+        }
+        this.send(sender, "§7  Online records: §e" + this.plugin.getPlayerManager().getPlayerDataMap().size()
+                + " §7| Cached offline: §e" + this.plugin.getPlayerManager().getOfflineCache().size());
+        this.send(sender, "§7  Queue depth: §e" + queue.getQueueDepth());
+        this.send(sender, "§7  Save requests: §e" + queue.getRequestedSaves()
+                + " §7→ writes: §e" + queue.getWrittenSaves()
+                + (queue.getFailedSaves() > 0 ? " §7(§c" + queue.getFailedSaves() + " failed§7)" : ""));
+        this.send(sender, "§7  Coalesced: §e" + queue.getCoalescedSaves()
+                + " §7(§a" + String.format("%.1f", queue.getCoalescingRatio() * 100.0) + "%§7)");
+    }
+
+    private void showScheduler(final CommandSender sender) {
+        final TickScheduler scheduler = this.plugin.getTickScheduler();
+
+        this.send(sender, "§6Scheduler");
+        this.send(sender, "§7  Active tasks: §e" + scheduler.getActiveTasks()
+                + " §7| Runs: §e" + scheduler.getExecutedTasks()
+                + " §7| Tick: §e" + scheduler.getCurrentTick());
+
+        for (final PlayerTaskBuckets.Job job : this.plugin.getPlayerTaskBuckets().getJobs()) {
+            this.send(sender, "§7  " + job.getName() + ": §e" + job.getPlayerCount() + " players"
+                    + " §7over §e" + job.getPeriod() + "t"
+                    + " §7| avg §e" + this.micros(job.getAverageBucketNanos())
+                    + " §7| worst §e" + this.micros(job.getWorstBucketNanos()) + " §7per tick");
+        }
+    }
+
+    private void showParticles(final CommandSender sender) {
+        final ParticleDispatcher dispatcher = this.plugin.getParticleDispatcher();
+
+        this.send(sender, "§6Particles");
+        this.send(sender, "§7  Last tick: §e" + dispatcher.getLastTickUsed() + "§7/§e" + dispatcher.getBudget()
+                + " §7| Peak: §e" + dispatcher.getPeakUsed());
+        this.send(sender, "§7  Density: §e" + String.format("%.0f", dispatcher.getDensity() * 100.0) + "%"
+                + " §7| MSPT: §e" + String.format("%.1f", dispatcher.getAverageMspt()));
+        this.send(sender, "§7  Emissions: §e" + dispatcher.getEmitted()
+                + (dispatcher.getDropped() > 0 ? " §7(§c" + dispatcher.getDropped() + " dropped§7)" : ""));
+        this.send(sender, "§7  Viewer sends: §e" + dispatcher.getSent()
+                + " §7| Culled by distance: §e" + dispatcher.getCulled());
+        final ParticleBatcher batcher = this.plugin.getParticleBatcher();
+        this.send(sender, "§7  Bundles: " + (batcher.isEnabled() ? "§e" + batcher.getBundlesSent()
+                + " §7(§e" + batcher.getPacketsBundled() + " §7packets)" : "§coff"));
+    }
+
+    private void showEffects(final CommandSender sender) {
+        final EffectEngine engine = this.plugin.getEffectEngine();
+
+        this.send(sender, "§6Effects");
+        this.send(sender, "§7  Active: §e" + engine.getActiveEffects() + " §7| Peak: §e" + engine.getPeak());
+        this.send(sender, "§7  Played: §e" + engine.getPlayed()
+                + (engine.getRefused() > 0 ? " §7(§c" + engine.getRefused() + " refused by caps§7)" : ""));
+
+        final ProtectiveZoneRegistry zones = this.plugin.getProtectiveZoneRegistry();
+        this.send(sender, "§7  Protective zones: §e" + zones.getActiveZones()
+                + " §7| Checks: §e" + zones.getChecks() + " §7→ hits: §e" + zones.getHits());
+
+        final AreaQueryService areas = this.plugin.getAreaQueryService();
+        this.send(sender, "§7  Area queries: §e" + areas.getQueries()
+                + " §7| Chunk scans: §e" + areas.getChunkScans() + " §7(reused §e" + areas.getChunkReuses() + "§7)");
+    }
+
+    private String micros(final long nanos) {
+        return String.format("%.1fµs", nanos / 1000.0);
+    }
+
+    private void send(final CommandSender sender, final String message) {
+        sender.sendMessage(MessageUtils.colorize(message));
+    }
+}
@@ -34,6 +34,26 @@ public class ConfigManager {
     @Getter
     private final double particleRadius;
     @Getter
+    private final int particleBudget;
+    @Getter
+    private final double particleMsptThreshold;
+    @Getter
+    private final double particleMinDensity;
+    @Getter
+    private final double particleFullDistance;
+    @Getter
+    private final double particleCutoffDistance;
+    @Getter
+    private final double particleThinnedDensity;
+    @Getter
+    private final boolean particleViewDirection;
+    @Getter
+    private final boolean particleBundling;
+    @Getter
+    private final int effectsPerPlayer;
+    @Getter
+    private final int effectsPerWorld;
+    @Getter
     private final double dragonEggReduction;
     @Getter
     private final boolean showActionBar;
@@ -51,6 +71,26 @@ public class ConfigManager {
     private final boolean lowLifeWarningEnabled;
     @Getter
     private final int warningInterval;
+    @Getter
+    private final int passiveEffectsInterval;
+    @Getter
+    private final int bootsCheckInterval;
+    @Getter
+    private final int bootBreakingInterval;
+    @Getter
+    private final String storageBackend;
+    @Getter
+    private final String storageCodec;
+    @Getter
+    private final double compactionGarbageRatio;
+    @Getter
+    private final int compactionMinSize;
+    @Getter
+    private final long writeBehindDelay;
+    @Getter
+    private final int cacheMaxSize;
+    @Getter
+    private final int cacheExpireMinutes;
 
     public ConfigManager(final BootsTierPlugin plugin) {
         this.plugin = plugin;
@@ -68,6 +108,16 @@ public class ConfigManager {
         this.particleUpdateFrequency = this.config.getInt("particles.update-frequency", 5);
         this.particleCount = this.config.getInt("particles.particle-count", 3);
         this.particleRadius = this.config.getDouble("particles.radius", 0.8);
+        this.particleBudget = this.config.getInt("particles.budget-per-tick", 1500);
+        this.particleMsptThreshold = this.config.getDouble("particles.mspt-threshold", 40.0);
+        this.particleMinDensity = this.config.getDouble("particles.min-density", 0.25);
+        this.particleFullDistance = this.config.getDouble("particles.lod.full-distance", 12.0);
+        this.particleCutoffDistance = this.config.getDouble("particles.lod.cutoff-distance", 32.0);
+        this.particleThinnedDensity = this.config.getDouble("particles.lod.thinned-density", 0.5);
+        this.particleViewDirection = this.config.getBoolean("particles.lod.view-direction", true);
+        this.particleBundling = this.config.getBoolean("particles.bundle-packets", true);
+        this.effectsPerPlayer = this.config.getInt("effects.max-per-player", 16);
+        this.effectsPerWorld = this.config.getInt("effects.max-per-world", 256);
         this.dragonEggReduction = this.config.getDouble("cooldowns.dragon-egg-reduction", 0.5);
         this.showActionBar = this.config.getBoolean("cooldowns.show-action-bar", true);
         this.actionBarFrequency = this.config.getInt("cooldowns.action-bar-frequency", 20);
@@ -77,6 +127,16 @@ public class ConfigManager {
         this.breakingAnimationEnabled = this.config.getBoolean("boot-breaking.breaking-animation", true);
         this.lowLifeWarningEnabled = this.config.getBoolean("boot-breaking.low-life-warning", true);
         this.warningInterval = this.config.getInt("boot-breaking.warning-interval", 30);
+        this.passiveEffectsInterval = this.config.getInt("scheduling.passive-effects-interval", 20);
+        this.bootsCheckInterval = this.config.getInt("scheduling.boots-check-interval", 200);
+        this.bootBreakingInterval = this.config.getInt("scheduling.boot-breaking-interval", 20);
+        this.storageBackend = this.config.getString("storage.backend", "json");
+        this.storageCodec = this.config.getString("storage.codec", "binary");
+        this.compactionGarbageRatio = this.config.getDouble("storage.compaction.garbage-ratio", 0.5);
+        this.compactionMinSize = this.config.getInt("storage.compaction.min-size-kb", 1024);
+        this.writeBehindDelay = this.config.getLong("storage.write-behind-delay", 2000L);
+        this.cacheMaxSize = this.config.getInt("storage.cache.max-size", 500);
+        this.cacheExpireMinutes = this.config.getInt("storage.cache.expire-minutes", 30);
     }
 
     public String getMessage(final String key) {
@@ -113,5 +173,8 @@ public class ConfigManager {
 
     public void reloadConfig() {
         this.plugin.reloadConfig();
+        if (this.plugin.getActionBarManager() != null) {
+            this.plugin.getActionBarManager().rebuildComponents();
+        }
     }
 }
@@ -5,84 +5,180 @@ import com.bootstier.boots.BootType;
 import com.bootstier.boots.BootsData;
 import com.bootstier.boots.BootsTier;
 import com.bootstier.player.PlayerData;
-import com.bootstier.utils.MessageUtils;
-import org.bukkit.Material;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
 
 /**
- * FIXED VERSION — cooldown halving now applies to *real* cooldown timers
- * All abilities must use getTotalAbilityCooldown() for real cooldown logic.
+ * Shows each player's ability cooldowns in the action bar, read from the CooldownService.
+ *
+ * The displayed values only change once a second, so each update first packs what would be
+ * shown into a single long and only builds and sends the text when that differs from the
+ * last one sent, or when the client is about to fade the bar out. The text itself comes from
+ * components pre-rendered for every (boot type, tier, seconds left) so sending never builds
+ * or parses strings.
  */
 public class ActionBarManager {
 
     private final BootsTierPlugin plugin;
     private static final int COOLDOWN_BAR_LENGTH = 15;
 
+    /** The client shows an action bar for 60 ticks and fades it over the last 20 */
+    private static final long RESEND_TICKS = 40L;
+
+    private static final long NO_STATE = Long.MIN_VALUE;
+    private static final long BROKEN_STATE = -1L;
+    private static final long SECONDS_MASK = 0xFFFFFFL;
+
+    private static final int TIERS = 2;
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+    private static final Component BROKEN = LEGACY.deserialize("§c§lBROKEN");
+    private static final Component SEPARATOR = LEGACY.deserialize(" §8│ ");
+
+    /* Status per (boot type, tier), indexed by secondsLeft: [0] is Ready, [n] shows n - 1 seconds */
+    private Component[][] statusComponents;
+
+    /* Last sent state and the tick it was sent at, indexed by session slot */
+    private long[] lastState = new long[16];
+    private long[] lastSentTick = new long[16];
+
     public ActionBarManager(final BootsTierPlugin plugin) {
         this.plugin = plugin;
+        plugin.getSessionRegistry().addReleaseListener(this::forget);
+        this.rebuildComponents();
     }
 
-    public void updateAllActionBars() {
-        if (!this.plugin.getConfigManager().isShowActionBar()) return;
-
-        for (Player player : this.plugin.getServer().getOnlinePlayers()) {
-            this.updatePlayerActionBar(player);
+    /**
+     * Pre-renders every status component. Runs at enable and on config reload.
+     */
+    public void rebuildComponents() {
+        final Component[][] components = new Component[BootType.values().length * TIERS][];
+
+        for (final BootType type : BootType.values()) {
+            for (int tier = 1; tier <= TIERS; tier++) {
+                final int maxSeconds = (int) (this.plugin.getCooldownService().getBaseCooldown(type, tier) / 1000);
+                final Component[] byTime = new Component[maxSeconds + 2];
+
+                for (int i = 0; i < byTime.length; i++) {
+                    byTime[i] = LEGACY.deserialize(this.formatStatus(type, tier, i));
+                }
+                components[key(type, tier)] = byTime;
+            }
         }
+
+        this.statusComponents = components;
+        Arrays.fill(this.lastState, NO_STATE);
     }
 
-    private void updatePlayerActionBar(final Player player) {
+    public void updatePlayerActionBar(final Player player) {
         final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
 
-        if (data.getBootsData() == null) return;
+        final int slot = this.plugin.getSessionRegistry().slotIfOnline(player);
+        if (slot < 0) {
+            return;
+        }
+        this.ensureCapacity(slot);
 
-        final String actionBarText = this.buildActionBarText(player, data);
-        MessageUtils.sendActionBar(player, actionBarText);
+        if (data.getBootsData() == null) {
+            this.lastState[slot] = NO_STATE;
+            return;
+        }
+
+        final long state = this.computeState(player, data);
+        final long now = this.plugin.getTickScheduler().getCurrentTick();
+        if (state == this.lastState[slot] && now - this.lastSentTick[slot] < RESEND_TICKS) {
+            return;
+        }
+
+        this.lastState[slot] = state;
+        this.lastSentTick[slot] = now;
+        player.sendActionBar(this.render(state));
     }
 
-    private String buildActionBarText(final Player player, final PlayerData data) {
-        final BootsData bootsData = data.getBootsData();
+    /* ---------------------------------------------
+       STATE
+    --------------------------------------------- */
 
-        if (data.areBootsBroken()) return "§c§lBROKEN";
+    /**
+     * Packs everything the bar shows into one value: boot type, whether tier 2 is shown and
+     * the whole seconds left on each ability (0 when ready).
+     */
+    private long computeState(final Player player, final PlayerData data) {
+        if (data.areBootsBroken()) return BROKEN_STATE;
 
-        final StringBuilder sb = new StringBuilder();
-        final boolean hasDragonEgg = hasDragonEgg(player);
+        final BootsData bootsData = data.getBootsData();
         final BootType type = bootsData.getBootType();
+        final boolean tier2 = bootsData.getTier() == BootsTier.TIER_2;
 
-        sb.append(getAbilityStatus(type, 1, bootsData, hasDragonEgg));
-
-        if (bootsData.getTier() == BootsTier.TIER_2) {
-            sb.append(" §8│ ");
-            sb.append(getAbilityStatus(type, 2, bootsData, hasDragonEgg));
+        long state = ((long) type.ordinal() << 50) | (tier2 ? 1L << 49 : 0L);
+        state |= this.secondsLeft(player, type, 1) << 24;
+        if (tier2) {
+            state |= this.secondsLeft(player, type, 2);
         }
+        return state;
+    }
+
+    private long secondsLeft(final Player player, final BootType type, final int tier) {
+        final long remaining = this.plugin.getCooldownService().getRemaining(player, type, tier);
+        return remaining <= 0 ? 0L : Math.min(remaining / 1000 + 1, SECONDS_MASK);
+    }
 
-        return sb.toString();
+    private void ensureCapacity(final int slot) {
+        if (slot < this.lastState.length) return;
+
+        final int size = Math.max(this.lastState.length * 2, slot + 1);
+        final int oldSize = this.lastState.length;
+        this.lastState = Arrays.copyOf(this.lastState, size);
+        this.lastSentTick = Arrays.copyOf(this.lastSentTick, size);
+        Arrays.fill(this.lastState, oldSize, size, NO_STATE);
+    }
+
+    private void forget(final int slot) {
+        if (slot < this.lastState.length) {
+            this.lastState[slot] = NO_STATE;
+        }
     }
 
-    private String getAbilityStatus(
-            final BootType type,
-            final int tier,
-            final BootsData bootsData,
-            final boolean hasDragonEgg
-    ) {
-        final String abilityName = getAbilityName(type, tier);
-        final String colored = getColoredAbilityName(type, abilityName);
+    /* ---------------------------------------------
+       RENDERING
+    --------------------------------------------- */
+
+    private Component render(final long state) {
+        if (state == BROKEN_STATE) return BROKEN;
+
+        final BootType type = BootType.values()[(int) (state >>> 50)];
+        final Component first = this.status(type, 1, (int) ((state >>> 24) & SECONDS_MASK));
 
-        final long totalCooldown = getTotalAbilityCooldown(type, tier, hasDragonEgg);
+        if ((state & (1L << 49)) == 0) return first;
 
-        boolean ready = (tier == 1)
-                ? bootsData.isAbilityReady(totalCooldown)
-                : bootsData.isTier2AbilityReady(totalCooldown);
+        return Component.text()
+                .append(first, SEPARATOR, this.status(type, 2, (int) (state & SECONDS_MASK)))
+                .build();
+    }
+
+    private Component status(final BootType type, final int tier, final int secondsLeft) {
+        final Component[] byTime = this.statusComponents[key(type, tier)];
+        if (secondsLeft < byTime.length) {
+            return byTime[secondsLeft];
+        }
+        // Longer than any base cooldown, should not happen but render it anyway
+        return LEGACY.deserialize(this.formatStatus(type, tier, secondsLeft));
+    }
+
+    private String formatStatus(final BootType type, final int tier, final int secondsLeft) {
+        final String colored = getColoredAbilityName(type, getAbilityName(type, tier));
 
-        if (ready) {
+        if (secondsLeft == 0) {
             return colored + ": §aReady";
         }
 
-        long remaining = (tier == 1)
-                ? bootsData.getRemainingCooldown(totalCooldown)
-                : bootsData.getTier2RemainingCooldown(totalCooldown);
+        return colored + ": §c" + (secondsLeft - 1) + "s";
+    }
 
-        return colored + ": §c" + (remaining / 1000) + "s";
+    private static int key(final BootType type, final int tier) {
+        return type.ordinal() * TIERS + (tier - 1);
     }
 
     private String getColoredAbilityName(final BootType bootType, final String abilityName) {
@@ -116,38 +212,4 @@ public class ActionBarManager {
             default: return "Ability " + tier;
         }
     }
-
-    private long getBaseCooldown(final BootType type, final int tier) {
-        switch (type) {
-            case SPEED: return (tier == 1) ? 45000 : 90000;
-            case STRENGTH: return (tier == 1) ? 90000 : 180000;
-            case WARD: return (tier == 1) ? 90000 : 120000;
-            case SPIDER: return (tier == 1) ? 120000 : 60000;
-            case FROST: return (tier == 1) ? 60000 : 95000;
-            case WIND: return (tier == 1) ? 40000 : 60000;
-            case ASTRAL: return (tier == 1) ? 90000 : 120000;
-            case LIFE: return (tier == 1) ? 120000 : 75000;
-            case WATER: return (tier == 1) ? 75000 : 0;
-            case FIRE: return 0;
-        }
-        return 0;
-    }
-
-    /**
-     * FIXED:
-     * This method is now the ONE TRUE source of cooldown duration.
-     * Abilities MUST use this value instead of hardcoding their own.
-     */
-    public long getTotalAbilityCooldown(final BootType type, final int tier, final boolean hasDragonEgg) {
-        long base = getBaseCooldown(type, tier);
-        return hasDragonEgg ? (base / 2) : base;
-    }
-
-    private boolean hasDragonEgg(final Player player) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.DRAGON_EGG)
-                return true;
-        }
-        return false;
-    }
 }
@@ -0,0 +1,31 @@
+package com.bootstier.effects;
+
+/**
+ * A visual effect run by the {@link EffectEngine}.
+ *
+ * Instances are pooled and reused, so an implementation sets all of its state up in
+ * the method that configures it before it is played, and must not keep references
+ * to it after {@link #finish()}.
+ */
+public interface Effect {
+
+    /**
+     * Called once when the engine accepts the effect, before its first tick.
+     */
+    default void start() {
+    }
+
+    /**
+     * @param elapsed game ticks since the effect started
+     * @return false to end the effect before its duration runs out
+     */
+    boolean tick(int elapsed);
+
+    /**
+     * Called exactly once when the effect ends, whether it ran out, stopped itself,
+     * lost its owner or the plugin is disabling. Also called without {@link #start()}
+     * when the engine refuses the effect. Entities the effect spawned are removed here.
+     */
+    default void finish() {
+    }
+}
@@ -0,0 +1,247 @@
+package com.bootstier.effects;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.player.PlayerSessionRegistry;
+import com.bootstier.scheduler.WheelTask;
+import lombok.Getter;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Runs every pooled visual {@link Effect} from one task on the {@link com.bootstier.scheduler.TickScheduler}.
+ *
+ * Running effects are kept packed in parallel arrays, so ticking them walks plain arrays
+ * and ending one swaps the last effect into its place. Each effect may belong to a player
+ * and always belongs to a world; both have a cap, and effects past it are refused instead
+ * of queued. An owner leaving or the plugin disabling ends their effects with
+ * {@link Effect#finish()} like any other end. Main thread only.
+ */
+public class EffectEngine {
+
+    private static final int NO_OWNER = -1;
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+    private final int maxPerPlayer;
+    private final int maxPerWorld;
+
+    /* Running effects, indexes 0..size-1 */
+    private Effect[] effects = new Effect[64];
+    private EffectPool<?>[] pools = new EffectPool<?>[64];
+    private UUID[] worlds = new UUID[64];
+    private int[] owners = new int[64];
+    private int[] elapsed = new int[64];
+    private int[] durations = new int[64];
+    private int[] intervals = new int[64];
+    private int size;
+
+    /* Running effects per session slot and per world */
+    private int[] perPlayer = new int[16];
+    private final Map<UUID, int[]> perWorld = new HashMap<>();
+
+    private WheelTask driver;
+
+    @Getter private long played;
+    @Getter private long refused;
+    @Getter private int peak;
+
+    public EffectEngine(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        this.maxPerPlayer = plugin.getConfigManager().getEffectsPerPlayer();
+        this.maxPerWorld = plugin.getConfigManager().getEffectsPerWorld();
+        sessionRegistry.addReleaseListener(this::endOwnedBy);
+    }
+
+    public void start() {
+        if (this.driver == null) {
+            this.driver = this.plugin.getTickScheduler().runTimer(this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Ends every running effect, called on disable.
+     */
+    public void shutdown() {
+        if (this.driver != null) {
+            this.driver.cancel();
+            this.driver = null;
+        }
+        while (this.size > 0) {
+            this.end(this.size - 1);
+        }
+    }
+
+    public int getActiveEffects() {
+        return this.size;
+    }
+
+    /* ---------------------------------------------
+       PLAY
+    --------------------------------------------- */
+
+    /**
+     * Starts an effect taken from {@code pool} and already configured by the caller.
+     *
+     * @param owner player the effect belongs to, or null for effects tied to a place
+     * @param durationTicks game ticks until the effect ends, or 0 to run until it stops itself
+     * @param interval game ticks between two {@link Effect#tick} calls
+     * @return false if a cap refused the effect, its owner is offline or it failed to start;
+     *         the effect is then finished and goes straight back to its pool
+     */
+    public <E extends Effect> boolean play(final EffectPool<E> pool, final E effect, final Player owner,
+                                           final World world, final int durationTicks, final int interval) {
+        final int ownerSlot = owner == null ? NO_OWNER : this.sessionRegistry.slotIfOnline(owner);
+        if (ownerSlot >= 0) {
+            this.ensurePlayerCapacity(ownerSlot);
+        }
+
+        final int[] worldCount = this.perWorld.computeIfAbsent(world.getUID(), k -> new int[1]);
+        if (worldCount[0] >= this.maxPerWorld || (owner != null && ownerSlot < 0)
+                || (ownerSlot >= 0 && this.perPlayer[ownerSlot] >= this.maxPerPlayer)) {
+            this.refused++;
+            this.finish(effect, pool);
+            return false;
+        }
+
+        this.ensureCapacity();
+        final int i = this.size++;
+        this.effects[i] = effect;
+        this.pools[i] = pool;
+        this.worlds[i] = world.getUID();
+        this.owners[i] = ownerSlot;
+        this.elapsed[i] = 0;
+        this.durations[i] = durationTicks;
+        this.intervals[i] = Math.max(1, interval);
+
+        worldCount[0]++;
+        if (ownerSlot != NO_OWNER) {
+            this.perPlayer[ownerSlot]++;
+        }
+        this.played++;
+        this.peak = Math.max(this.peak, this.size);
+
+        try {
+            effect.start();
+        } catch (final Throwable t) {
+            this.plugin.getLogger().log(Level.WARNING, "Effect " + effect.getClass().getSimpleName() + " failed to start", t);
+            this.end(i);
+            return false;
+        }
+        return true;
+    }
+
+    /* ---------------------------------------------
+       TICK
+    --------------------------------------------- */
+
+    private void tick() {
+        int i = 0;
+        while (i < this.size) {
+            final Effect effect = this.effects[i];
+            final int ticks = this.elapsed[i];
+
+            boolean running = this.durations[i] <= 0 || ticks < this.durations[i];
+            if (running && ticks % this.intervals[i] == 0) {
+                try {
+                    running = effect.tick(ticks);
+                } catch (final Throwable t) {
+                    this.plugin.getLogger().log(Level.WARNING, "Effect " + effect.getClass().getSimpleName() + " threw", t);
+                    running = false;
+                }
+            }
+
+            // Effects played from tick() are appended, so index i is still this effect
+            if (running) {
+                this.elapsed[i]++;
+                i++;
+            } else {
+                this.end(i);
+            }
+        }
+    }
+
+    /**
+     * Finishes the effect at {@code i} and moves the last running effect into its place.
+     */
+    private void end(final int i) {
+        final Effect effect = this.effects[i];
+        final EffectPool<?> pool = this.pools[i];
+
+        final int[] worldCount = this.perWorld.get(this.worlds[i]);
+        if (worldCount != null) {
+            worldCount[0]--;
+        }
+        if (this.owners[i] != NO_OWNER && this.owners[i] < this.perPlayer.length) {
+            this.perPlayer[this.owners[i]]--;
+        }
+
+        final int last = --this.size;
+        this.effects[i] = this.effects[last];
+        this.pools[i] = this.pools[last];
+        this.worlds[i] = this.worlds[last];
+        this.owners[i] = this.owners[last];
+        this.elapsed[i] = this.elapsed[last];
+        this.durations[i] = this.durations[last];
+        this.intervals[i] = this.intervals[last];
+        this.effects[last] = null;
+        this.pools[last] = null;
+        this.worlds[last] = null;
+
+        this.finish(effect, pool);
+    }
+
+    /**
+     * Lets the effect drop its state and entities, then hands it back to its pool.
+     */
+    private void finish(final Effect effect, final EffectPool<?> pool) {
+        try {
+            effect.finish();
+        } catch (final Throwable t) {
+            this.plugin.getLogger().log(Level.WARNING, "Effect " + effect.getClass().getSimpleName() + " failed to finish", t);
+        }
+        pool.release(effect);
+    }
+
+    private void endOwnedBy(final int slot) {
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.owners[i] == slot) {
+                this.end(i);
+            }
+        }
+        if (slot < this.perPlayer.length) {
+            this.perPlayer[slot] = 0;
+        }
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private void ensureCapacity() {
+        if (this.size < this.effects.length) {
+            return;
+        }
+
+        final int capacity = this.effects.length * 2;
+        this.effects = Arrays.copyOf(this.effects, capacity);
+        this.pools = Arrays.copyOf(this.pools, capacity);
+        this.worlds = Arrays.copyOf(this.worlds, capacity);
+        this.owners = Arrays.copyOf(this.owners, capacity);
+        this.elapsed = Arrays.copyOf(this.elapsed, capacity);
+        this.durations = Arrays.copyOf(this.durations, capacity);
+        this.intervals = Arrays.copyOf(this.intervals, capacity);
+    }
+
+    private void ensurePlayerCapacity(final int slot) {
+        if (slot >= this.perPlayer.length) {
+            this.perPlayer = Arrays.copyOf(this.perPlayer, Math.max(this.perPlayer.length * 2, slot + 1));
+        }
+    }
+}
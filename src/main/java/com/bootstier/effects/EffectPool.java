@@ -0,0 +1,46 @@
+package com.bootstier.effects;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Keeps finished effect instances of one kind around so playing the effect again does
+ * not allocate a new one. The {@link EffectEngine} hands instances back once they finish.
+ */
+public final class EffectPool<E extends Effect> {
+
+    private static final int DEFAULT_MAX_IDLE = 32;
+
+    private final Supplier<E> factory;
+    private final int maxIdle;
+    private final ArrayDeque<E> idle = new ArrayDeque<>();
+
+    @Getter private int created;
+
+    public EffectPool(final Supplier<E> factory) {
+        this(factory, DEFAULT_MAX_IDLE);
+    }
+
+    public EffectPool(final Supplier<E> factory, final int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    public E acquire() {
+        final E effect = this.idle.poll();
+        if (effect != null) {
+            return effect;
+        }
+        this.created++;
+        return this.factory.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(final Effect effect) {
+        if (this.idle.size() < this.maxIdle) {
+            this.idle.push((E) effect);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.bootstier.effects;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.nms.ParticleBatcher;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.function.Consumer;
+
+/**
+ * Single entry point for every particle the plugin spawns.
+ *
+ * Emissions are counted against a global per-tick budget, where each {@link ParticlePriority}
+ * may only use its share, so ambient effects are cut before ability visuals and telegraphs.
+ * When the server's average tick time goes over the configured threshold, the budget and
+ * the particle counts of non-telegraph emissions are scaled down with it.
+ *
+ * Emissions are then sent to each viewer separately. Viewers come from a radius query on
+ * the {@link com.bootstier.player.PlayerSpatialIndex} bounded by the cutoff distance, so
+ * players far away cost nothing; within it the level of detail is picked from the viewer's
+ * distance: everything up close, a thinned version mid-range (skipped entirely when it is
+ * behind the viewer) and nothing past the cutoff. Telegraphs are
+ * never thinned. What each viewer gets is handed to the {@link ParticleBatcher}, which
+ * delivers it at the end of the tick. Main thread only.
+ */
+public class ParticleDispatcher {
+
+    private static final int MSPT_SAMPLE_TICKS = 20;
+    private static final double TARGET_MSPT = 50.0;
+
+    private static final int LOD_FULL = 0;
+    private static final int LOD_THINNED = 1;
+    private static final int LOD_NONE = 2;
+    /** Blocks added to the viewer query, which measures from the feet while LOD measures from the eyes */
+    private static final double EYE_MARGIN = 2.0;
+    /* cos of the angle past which a point counts as behind the viewer */
+    private static final double BEHIND_COS = -0.2;
+
+    private final BootsTierPlugin plugin;
+    private final ParticleBatcher batcher;
+    private final int baseBudget;
+    private final double msptThreshold;
+    private final double minDensity;
+    private final double cutoffDistance;
+    private final double fullDistanceSquared;
+    private final double cutoffDistanceSquared;
+    private final double thinnedDensity;
+    private final int thinnedStride;
+    private final boolean viewDirection;
+
+    /* Reused for viewer positions */
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    /* World-wide emission being handed to viewers, so the query callback captures nothing */
+    private final Consumer<Player> emitToViewer = this::emitTo;
+    private ParticlePriority emitPriority;
+    private long emitSequence;
+    private Particle emitParticle;
+    private Location emitLocation;
+    private int emitCount;
+    private double emitOffsetX;
+    private double emitOffsetY;
+    private double emitOffsetZ;
+    private double emitSpeed;
+    private Object emitData;
+
+    private long tick = Long.MIN_VALUE;
+    private long lastSampleTick = Long.MIN_VALUE;
+    private int used;
+    /* Carries fractional particles between thinned single-particle emissions */
+    private double thinning;
+    /* Numbers emissions so thinned viewers consistently get every n-th point of a shape */
+    private long sequence;
+
+    @Getter private double density = 1.0;
+    @Getter private double averageMspt;
+    @Getter private int budget;
+    @Getter private int lastTickUsed;
+    @Getter private int peakUsed;
+    @Getter private long emitted;
+    @Getter private long dropped;
+    @Getter private long sent;
+    @Getter private long culled;
+
+    public ParticleDispatcher(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+        this.batcher = plugin.getParticleBatcher();
+        this.baseBudget = plugin.getConfigManager().getParticleBudget();
+        this.msptThreshold = plugin.getConfigManager().getParticleMsptThreshold();
+        this.minDensity = plugin.getConfigManager().getParticleMinDensity();
+
+        final double fullDistance = plugin.getConfigManager().getParticleFullDistance();
+        final double cutoffDistance = plugin.getConfigManager().getParticleCutoffDistance();
+        this.cutoffDistance = cutoffDistance;
+        this.fullDistanceSquared = fullDistance * fullDistance;
+        this.cutoffDistanceSquared = cutoffDistance * cutoffDistance;
+        this.thinnedDensity = Math.max(0.01, Math.min(1.0, plugin.getConfigManager().getParticleThinnedDensity()));
+        this.thinnedStride = Math.max(1, (int) Math.round(1.0 / this.thinnedDensity));
+        this.viewDirection = plugin.getConfigManager().isParticleViewDirection();
+        this.budget = this.baseBudget;
+    }
+
+    /* ---------------------------------------------
+       EMIT
+    --------------------------------------------- */
+
+    public void spawn(final ParticlePriority priority, final Particle particle, final Location location,
+                      final int count) {
+        this.spawn(priority, particle, location, count, 0.0, 0.0, 0.0, 0.0, null);
+    }
+
+    public void spawn(final ParticlePriority priority, final Particle particle, final Location location,
+                      final int count, final double offsetX, final double offsetY, final double offsetZ,
+                      final double speed) {
+        this.spawn(priority, particle, location, count, offsetX, offsetY, offsetZ, speed, null);
+    }
+
+    /**
+     * World-wide emission, same arguments as {@link World#spawnParticle}.
+     */
+    public <T> void spawn(final ParticlePriority priority, final Particle particle, final Location location,
+                          final int count, final double offsetX, final double offsetY, final double offsetZ,
+                          final double speed, final T data) {
+        final World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+
+        final int allowed = this.acquire(priority, count);
+        if (allowed < 0) {
+            return;
+        }
+
+        this.emitPriority = priority;
+        this.emitSequence = this.sequence++;
+        this.emitParticle = particle;
+        this.emitLocation = location;
+        this.emitCount = allowed;
+        this.emitOffsetX = offsetX;
+        this.emitOffsetY = offsetY;
+        this.emitOffsetZ = offsetZ;
+        this.emitSpeed = speed;
+        this.emitData = data;
+        try {
+            this.plugin.getPlayerSpatialIndex().forEachInRadius(location, this.cutoffDistance + EYE_MARGIN, this.emitToViewer);
+        } finally {
+            this.emitLocation = null;
+            this.emitData = null;
+        }
+    }
+
+    public void spawnFor(final Player viewer, final ParticlePriority priority, final Particle particle,
+                         final Location location, final int count, final double offsetX, final double offsetY,
+                         final double offsetZ, final double speed) {
+        this.spawnFor(viewer, priority, particle, location, count, offsetX, offsetY, offsetZ, speed, null);
+    }
+
+    /**
+     * Emission only one player sees, same arguments as {@link Player#spawnParticle}.
+     */
+    public <T> void spawnFor(final Player viewer, final ParticlePriority priority, final Particle particle,
+                             final Location location, final int count, final double offsetX, final double offsetY,
+                             final double offsetZ, final double speed, final T data) {
+        if (viewer.getWorld() != location.getWorld()) {
+            return;
+        }
+
+        final int allowed = this.acquire(priority, count);
+        if (allowed < 0) {
+            return;
+        }
+        this.send(viewer, priority, this.sequence++, particle, location, allowed, offsetX, offsetY, offsetZ, speed, data);
+    }
+
+    /* ---------------------------------------------
+       LEVEL OF DETAIL
+    --------------------------------------------- */
+
+    private void emitTo(final Player viewer) {
+        this.send(viewer, this.emitPriority, this.emitSequence, this.emitParticle, this.emitLocation, this.emitCount,
+                this.emitOffsetX, this.emitOffsetY, this.emitOffsetZ, this.emitSpeed, this.emitData);
+    }
+
+    private <T> void send(final Player viewer, final ParticlePriority priority, final long emission,
+                          final Particle particle, final Location location, final int count, final double offsetX,
+                          final double offsetY, final double offsetZ, final double speed, final T data) {
+        final int lod = this.lod(viewer, priority, location);
+        if (lod == LOD_NONE) {
+            this.culled++;
+            return;
+        }
+
+        int viewerCount = count;
+        if (lod == LOD_THINNED) {
+            if (count > 1) {
+                viewerCount = Math.max(1, (int) Math.round(count * this.thinnedDensity));
+            } else if (emission % this.thinnedStride != 0) {
+                this.culled++;
+                return;
+            }
+        }
+
+        this.batcher.queue(viewer, particle, location, viewerCount, offsetX, offsetY, offsetZ, speed, data);
+        this.sent++;
+    }
+
+    private int lod(final Player viewer, final ParticlePriority priority, final Location location) {
+        viewer.getLocation(this.scratch);
+        final double dx = location.getX() - this.scratch.getX();
+        final double dy = location.getY() - (this.scratch.getY() + viewer.getEyeHeight());
+        final double dz = location.getZ() - this.scratch.getZ();
+        final double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+        if (distanceSquared > this.cutoffDistanceSquared) {
+            return LOD_NONE;
+        }
+        if (distanceSquared <= this.fullDistanceSquared || priority == ParticlePriority.TELEGRAPH) {
+            return LOD_FULL;
+        }
+        if (this.viewDirection && this.isBehind(dx, dy, dz, distanceSquared)) {
+            return LOD_NONE;
+        }
+        return LOD_THINNED;
+    }
+
+    /**
+     * Whether the offset from the viewer's eyes points away from where they are looking,
+     * using the yaw and pitch left in {@link #scratch}.
+     */
+    private boolean isBehind(final double dx, final double dy, final double dz, final double distanceSquared) {
+        final double yaw = Math.toRadians(this.scratch.getYaw());
+        final double pitch = Math.toRadians(this.scratch.getPitch());
+        final double horizontal = Math.cos(pitch);
+
+        final double dot = -Math.sin(yaw) * horizontal * dx - Math.sin(pitch) * dy + Math.cos(yaw) * horizontal * dz;
+        return dot < BEHIND_COS * Math.sqrt(distanceSquared);
+    }
+
+    /* ---------------------------------------------
+       BUDGET
+    --------------------------------------------- */
+
+    /**
+     * Takes budget for an emission.
+     *
+     * @return the particle count to actually send, or -1 to skip the emission
+     */
+    private int acquire(final ParticlePriority priority, final int count) {
+        this.rollOver();
+
+        // count 0 is a single directional particle, it costs the same as one
+        int scaled = count;
+        if (priority != ParticlePriority.TELEGRAPH && this.density < 1.0) {
+            if (count > 1) {
+                scaled = Math.max(1, (int) Math.round(count * this.density));
+            } else {
+                this.thinning += this.density;
+                if (this.thinning < 1.0) {
+                    this.dropped++;
+                    return -1;
+                }
+                this.thinning -= 1.0;
+            }
+        }
+
+        final int cost = Math.max(1, scaled);
+        if (this.used + cost > this.budget * priority.getBudgetShare()) {
+            this.dropped++;
+            return -1;
+        }
+
+        this.used += cost;
+        this.emitted++;
+        return scaled;
+    }
+
+    private void rollOver() {
+        final long now = this.plugin.getTickScheduler().getCurrentTick();
+        if (now == this.tick) {
+            return;
+        }
+
+        this.lastTickUsed = this.used;
+        this.peakUsed = Math.max(this.peakUsed, this.used);
+        this.used = 0;
+        this.tick = now;
+
+        if (now - this.lastSampleTick >= MSPT_SAMPLE_TICKS) {
+            this.lastSampleTick = now;
+            this.updateDensity();
+        }
+    }
+
+    /**
+     * Scales density linearly from full at the threshold down to the configured minimum
+     * as the average tick time approaches the 50ms a tick is allowed to take.
+     */
+    private void updateDensity() {
+        this.averageMspt = this.plugin.getServer().getAverageTickTime();
+
+        if (this.averageMspt <= this.msptThreshold || this.msptThreshold >= TARGET_MSPT) {
+            this.density = 1.0;
+        } else {
+            final double overload = Math.min(1.0, (this.averageMspt - this.msptThreshold) / (TARGET_MSPT - this.msptThreshold));
+            this.density = 1.0 - overload * (1.0 - this.minDensity);
+        }
+        this.budget = (int) Math.round(this.baseBudget * this.density);
+    }
+}
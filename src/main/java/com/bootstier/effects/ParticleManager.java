@@ -2,6 +2,7 @@ package com.bootstier.effects;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
+import com.bootstier.boots.abilities.PlayerState;
 import com.bootstier.player.PlayerData;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -15,8 +16,14 @@ import java.util.Random;
  */
 public class ParticleManager {
 
+    /** 12 points, turning about 0.13 rad per update */
+    private static final ParticleShape AURA = ParticleShape.ring(12, 4);
+    private static final ParticleShape DAMAGE_LINK_RING = ParticleShape.circle(16);
+
     private final BootsTierPlugin plugin;
-    private double angle = 0.0;
+    private final Location base = new Location(null, 0, 0, 0);
+    private final Location cursor = new Location(null, 0, 0, 0);
+    private int phase = 0;
     private final Random random = new Random();
 
     public ParticleManager(BootsTierPlugin plugin) {
@@ -27,8 +34,7 @@ public class ParticleManager {
     public void updateAllParticles() {
         if (!plugin.getConfigManager().isParticlesEnabled()) return;
 
-        angle += 0.15;
-        if (angle >= Math.PI * 2) angle = 0;
+        phase++;
 
         for (Player player : plugin.getServer().getOnlinePlayers()) {
             updatePlayerParticles(player);
@@ -50,18 +56,12 @@ public class ParticleManager {
     private void spawnRotatingAura(Player player, BootType type) {
         Particle particle = type.getParticle();
 
-        Location base = player.getLocation().add(0, 0.3, 0);
+        player.getLocation(this.base);
         double radius = plugin.getConfigManager().getParticleRadius();
-        int points = 12;
-
-        for (int i = 0; i < points; i++) {
-            double a = angle + (i * (2 * Math.PI / points));
-            double x = Math.cos(a) * radius;
-            double z = Math.sin(a) * radius;
 
-            Location loc = base.clone().add(x, 0, z);
-
-            base.getWorld().spawnParticle(particle, loc, 1, 0, 0, 0, 0);
+        for (int i = 0; i < AURA.getPoints(); i++) {
+            AURA.place(this.cursor, this.base, 0.3, phase, i, radius, 0);
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, particle, this.cursor, 1, 0, 0, 0, 0);
         }
     }
 
@@ -83,8 +83,8 @@ public class ParticleManager {
 
             case STRENGTH:
                 if ("critical".equals(abilityType)) {
-                    loc.getWorld().spawnParticle(Particle.CRIT, loc, 15, 0.5, 0.5, 0.5, 0.1);
-                    loc.getWorld().spawnParticle(Particle.ENCHANTED_HIT, loc, 10, 0.3, 0.3, 0.3, 0.1);
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.CRIT, loc, 15, 0.5, 0.5, 0.5, 0.1);
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.ENCHANTED_HIT, loc, 10, 0.3, 0.3, 0.3, 0.1);
                 }
                 break;
 
@@ -96,7 +96,7 @@ public class ParticleManager {
 
             case FROST:
                 if ("shield".equals(abilityType)) {
-                    loc.getWorld().spawnParticle(Particle.SNOWFLAKE, loc, 20, 1, 1, 1, 0.1);
+                    this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SNOWFLAKE, loc, 20, 1, 1, 1, 0.1);
                 } else if ("ice_circle".equals(abilityType)) {
                     plugin.getAdvancedEffects().createIceCircle(loc, 10, 300);
                 }
@@ -127,25 +127,18 @@ public class ParticleManager {
 
     public void spawnAbilityEffect(Player player, String effectType, int durationTicks) {
         if ("damage_link".equalsIgnoreCase(effectType)) {
-            double radius = player.hasMetadata("damage_link_radius")
-                    ? player.getMetadata("damage_link_radius").get(0).asDouble()
-                    : 1.0;
+            double radius = plugin.getPlayerStateStore().getNumber(player, PlayerState.DAMAGE_LINK_RADIUS, 1.0);
 
             createDamageLinkRing(player, radius);
         }
     }
 
     private void createDamageLinkRing(Player player, double radius) {
-        Location center = player.getLocation().add(0, 0.1, 0);
-        int points = 16;
-
-        for (int i = 0; i < points; i++) {
-            double a = 2 * Math.PI * i / points;
-            double x = Math.cos(a) * radius;
-            double z = Math.sin(a) * radius;
+        player.getLocation(this.base);
 
-            Location ring = center.clone().add(x, 0, z);
-            center.getWorld().spawnParticle(Particle.CRIMSON_SPORE, ring, 1, 0, 0, 0, 0);
+        for (int i = 0; i < DAMAGE_LINK_RING.getPoints(); i++) {
+            DAMAGE_LINK_RING.place(this.cursor, this.base, 0.1, 0, i, radius, 0);
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.CRIMSON_SPORE, this.cursor, 1, 0, 0, 0, 0);
         }
     }
 }
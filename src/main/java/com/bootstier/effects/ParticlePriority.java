@@ -0,0 +1,25 @@
+package com.bootstier.effects;
+
+import lombok.Getter;
+
+/**
+ * How important a particle emission is when the per-tick particle budget runs short.
+ * Each priority may only fill the budget up to its share, so lower priorities are cut
+ * first and always leave room for the ones above them.
+ */
+@Getter
+public enum ParticlePriority {
+
+    /** Shows where an ability hits or what area it covers: ice circles, tornados, rings */
+    TELEGRAPH(1.0),
+    /** Regular ability visuals: bursts, trails, hit feedback */
+    EFFECT(0.8),
+    /** Decoration with no gameplay meaning: auras, orbits, drips */
+    AMBIENT(0.4);
+
+    private final double budgetShare;
+
+    ParticlePriority(final double budgetShare) {
+        this.budgetShare = budgetShare;
+    }
+}
@@ -0,0 +1,175 @@
+package com.bootstier.effects;
+
+import lombok.Getter;
+import org.bukkit.Location;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precomputed unit offsets for the circles, rings, spheres and helices effects draw every tick.
+ *
+ * A shape holds one frame of points per phase, each rotated a little further around the
+ * Y axis, so animating a shape is a table lookup instead of a cos/sin pair per point.
+ * {@link #place} writes a point into a Location the caller keeps and reuses, so drawing
+ * a shape allocates nothing. Shapes are built once and cached. Main thread only.
+ */
+public final class ParticleShape {
+
+    private static final double TAU = Math.PI * 2;
+    private static final Map<Key, ParticleShape> CACHE = new HashMap<>();
+
+    /** Points per frame */
+    @Getter private final int points;
+    /** Frames in one rotation cycle */
+    @Getter private final int phases;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    /**
+     * @param turn how far the shape rotates over all phases, in radians
+     */
+    private ParticleShape(final double[] x, final double[] y, final double[] z, final int phases, final double turn) {
+        this.points = x.length;
+        this.phases = phases;
+        this.xs = new double[this.points * phases];
+        this.ys = new double[this.points * phases];
+        this.zs = new double[this.points * phases];
+
+        for (int phase = 0; phase < phases; phase++) {
+            final double angle = turn * phase / phases;
+            final double cos = Math.cos(angle);
+            final double sin = Math.sin(angle);
+            for (int i = 0; i < this.points; i++) {
+                final int slot = phase * this.points + i;
+                this.xs[slot] = x[i] * cos - z[i] * sin;
+                this.ys[slot] = y[i];
+                this.zs[slot] = x[i] * sin + z[i] * cos;
+            }
+        }
+    }
+
+    /* ---------------------------------------------
+       SHAPES
+    --------------------------------------------- */
+
+    /**
+     * Flat circle of evenly spaced points.
+     */
+    public static ParticleShape circle(final int points) {
+        return ring(points, 1);
+    }
+
+    /**
+     * Flat circle that rotates by one point spacing over its phases, which looks the same
+     * as a full turn since the points are evenly spaced.
+     */
+    public static ParticleShape ring(final int points, final int phases) {
+        return CACHE.computeIfAbsent(new Key(0, points, phases, 0, 0L), k -> {
+            final double[] x = new double[points];
+            final double[] z = new double[points];
+            for (int i = 0; i < points; i++) {
+                final double angle = TAU * i / points;
+                x[i] = Math.cos(angle);
+                z[i] = Math.sin(angle);
+            }
+            return new ParticleShape(x, new double[points], z, phases, TAU / points);
+        });
+    }
+
+    /**
+     * Fibonacci sphere, points spread evenly over the surface.
+     */
+    public static ParticleShape sphere(final int points) {
+        return CACHE.computeIfAbsent(new Key(1, points, 1, 0, 0L), k -> {
+            final double[] x = new double[points];
+            final double[] y = new double[points];
+            final double[] z = new double[points];
+            for (int i = 0; i < points; i++) {
+                final double phi = Math.acos(1 - 2 * (i + 0.5) / points);
+                final double theta = Math.PI * (1 + Math.sqrt(5)) * i;
+                x[i] = Math.cos(theta) * Math.sin(phi);
+                y[i] = Math.sin(theta) * Math.sin(phi);
+                z[i] = Math.cos(phi);
+            }
+            return new ParticleShape(x, y, z, 1, 0.0);
+        });
+    }
+
+    /**
+     * Helix of unit height climbing {@code turns} times around the Y axis.
+     */
+    public static ParticleShape helix(final int turns, final int pointsPerTurn) {
+        return CACHE.computeIfAbsent(new Key(2, turns, pointsPerTurn, 0, 0L), k -> {
+            final int points = turns * pointsPerTurn;
+            final double[] x = new double[points];
+            final double[] y = new double[points];
+            final double[] z = new double[points];
+            for (int i = 0; i < points; i++) {
+                final double angle = TAU * i / pointsPerTurn;
+                x[i] = Math.cos(angle);
+                y[i] = (double) i / points;
+                z[i] = Math.sin(angle);
+            }
+            return new ParticleShape(x, y, z, 1, 0.0);
+        });
+    }
+
+    /**
+     * Tornado-like cone of unit height: {@code strands} spirals that each make one turn while
+     * narrowing from full radius at the bottom to nothing at the top, rotating a full turn
+     * over the phases.
+     *
+     * @param strandAngle angle between the start of two neighbouring strands
+     */
+    public static ParticleShape vortex(final int strands, final int pointsPerStrand, final double strandAngle,
+                                       final int phases) {
+        final Key key = new Key(3, strands, pointsPerStrand, phases, Double.doubleToLongBits(strandAngle));
+        return CACHE.computeIfAbsent(key, k -> {
+            final int points = strands * pointsPerStrand;
+            final double[] x = new double[points];
+            final double[] y = new double[points];
+            final double[] z = new double[points];
+            for (int strand = 0; strand < strands; strand++) {
+                for (int i = 0; i < pointsPerStrand; i++) {
+                    final double progress = (double) i / pointsPerStrand;
+                    final double angle = strand * strandAngle + progress * TAU;
+                    final int slot = strand * pointsPerStrand + i;
+                    x[slot] = Math.cos(angle) * (1 - progress);
+                    y[slot] = progress;
+                    z[slot] = Math.sin(angle) * (1 - progress);
+                }
+            }
+            return new ParticleShape(x, y, z, phases, TAU);
+        });
+    }
+
+    /* ---------------------------------------------
+       PLACEMENT
+    --------------------------------------------- */
+
+    /**
+     * Moves {@code out} to a point of the shape, scaled by {@code radius} horizontally and
+     * {@code height} vertically around {@code center}.
+     *
+     * @param phase animation step, wraps around the shape's phases
+     * @return {@code out}
+     */
+    public Location place(final Location out, final Location center, final double yOffset,
+                          final int phase, final int index, final double radius, final double height) {
+        final int slot = Math.floorMod(phase, this.phases) * this.points + index;
+        out.setWorld(center.getWorld());
+        out.setX(center.getX() + this.xs[slot] * radius);
+        out.setY(center.getY() + yOffset + this.ys[slot] * height);
+        out.setZ(center.getZ() + this.zs[slot] * radius);
+        return out;
+    }
+
+    /**
+     * Cache key holding every parameter in full, so no two shapes can collide.
+     */
+    private record Key(int kind, int a, int b, int c, long angleBits) {
+    }
+}
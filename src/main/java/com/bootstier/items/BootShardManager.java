@@ -1,6 +1,7 @@
 package com.bootstier.items;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.player.PlayerData;
 import com.bootstier.utils.MessageUtils;
 import lombok.Getter;
@@ -102,9 +103,9 @@ public class BootShardManager {
         this.plugin.getBootsManager().updateBootsEnchantments(player, data.getLives());
         
         // Premium consumption effects
-        player.getWorld().spawnParticle(org.bukkit.Particle.HEART, player.getLocation().add(0, 2, 0), 
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.HEART, player.getLocation().add(0, 2, 0), 
             10, 0.5, 0.5, 0.5, 0.1);
-        player.getWorld().spawnParticle(org.bukkit.Particle.ENCHANTED_HIT, player.getLocation().add(0, 1, 0), 
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.ENCHANTED_HIT, player.getLocation().add(0, 1, 0), 
             15, 0.5, 0.5, 0.5, 0.1);
         player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
         
@@ -159,7 +160,7 @@ public class BootShardManager {
         this.plugin.getBootsManager().updateBootsEnchantments(player, data.getLives());
         
         // Premium withdrawal effects
-        player.getWorld().spawnParticle(org.bukkit.Particle.ENCHANTED_HIT, player.getLocation().add(0, 1, 0), 
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.ENCHANTED_HIT, player.getLocation().add(0, 1, 0), 
             amount * 2, 0.5, 0.5, 0.5, 0.1);
         player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 0.8f);
         
@@ -177,7 +178,7 @@ public class BootShardManager {
             player.getWorld().dropItemNaturally(player.getLocation(), shard);
             
             // Premium death drop effects
-            player.getWorld().spawnParticle(org.bukkit.Particle.SOUL, player.getLocation().add(0, 1, 0), 
+            this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, org.bukkit.Particle.SOUL, player.getLocation().add(0, 1, 0), 
                 10, 0.5, 0.5, 0.5, 0.1);
         }
     }
@@ -2,8 +2,10 @@ package com.bootstier.listeners;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
+import com.bootstier.boots.abilities.PlayerState;
 import com.bootstier.boots.abilities.impl.*;
 import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSession;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -30,15 +32,17 @@ public class EntityDamageListener implements Listener {
         final Player attacker = (Player) event.getDamager();
         final Player victim = (Player) event.getEntity();
         
-        final PlayerData attackerData = this.plugin.getPlayerManager().getPlayerData(attacker);
-        final PlayerData victimData = this.plugin.getPlayerManager().getPlayerData(victim);
+        final PlayerSession attackerSession = this.plugin.getPlayerManager().getSession(attacker);
+        final PlayerSession victimSession = this.plugin.getPlayerManager().getSession(victim);
+        final PlayerData attackerData = attackerSession.getData();
+        final PlayerData victimData = victimSession.getData();
         
         if (attackerData.getBootsData() == null || attackerData.areBootsBroken()) {
             return;
         }
 
         // Handle boot-specific damage events
-        final BootType attackerBootType = attackerData.getBootsData().getBootType();
+        final BootType attackerBootType = attackerSession.getBootType();
         
         switch (attackerBootType) {
             case SPEED:
@@ -50,7 +54,7 @@ public class EntityDamageListener implements Listener {
                 strengthAbility.handlePlayerHit(attacker, victim, event.getDamage());
                 
                 // Handle critical hits if ability is active
-                if (attacker.hasMetadata("strength_critical_active")) {
+                if (this.plugin.getPlayerStateStore().has(attacker, PlayerState.STRENGTH_CRITICAL)) {
                     event.setDamage(event.getDamage() * 1.5); // 50% more damage
                 }
                 break;
@@ -67,7 +71,7 @@ public class EntityDamageListener implements Listener {
         
         // Handle victim's boot passives
         if (victimData.getBootsData() != null && !victimData.areBootsBroken()) {
-            final BootType victimBootType = victimData.getBootsData().getBootType();
+            final BootType victimBootType = victimSession.getBootType();
             
             switch (victimBootType) {
                 case FROST:
@@ -77,7 +81,7 @@ public class EntityDamageListener implements Listener {
                     // Increment hit counter for Tier 2 passive
                     if (victimData.getBootsData().getTier().getLevel() == 2) {
                         victimData.getBootsData().incrementHitCounter();
-                        this.plugin.getPlayerManager().savePlayerData(victimData);
+                        this.plugin.getPlayerManager().markDirty(victimData);
                     }
                     break;
                 case FIRE:
@@ -95,13 +99,14 @@ public class EntityDamageListener implements Listener {
         }
         
         final Player player = (Player) event.getEntity();
-        final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
+        final PlayerSession session = this.plugin.getPlayerManager().getSession(player);
+        final PlayerData data = session.getData();
         
         if (data.getBootsData() == null || data.areBootsBroken()) {
             return;
         }
         
-        final BootType bootType = data.getBootsData().getBootType();
+        final BootType bootType = session.getBootType();
         
         // Handle boot-specific damage prevention
         switch (bootType) {
@@ -2,6 +2,7 @@ package com.bootstier.listeners;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
+import com.bootstier.boots.abilities.PlayerState;
 import com.bootstier.boots.abilities.impl.LifeAbility;
 import com.bootstier.boots.abilities.impl.SpeedAbility;
 import com.bootstier.items.CustomItemManager;
@@ -25,6 +26,7 @@ import org.bukkit.inventory.ItemStack;
 public class PlayerInteractListener implements Listener {
 
     private final BootsTierPlugin plugin;
+    private RerollerGuiListener rerollerGui;
 
     public PlayerInteractListener(final BootsTierPlugin plugin) {
         this.plugin = plugin;
@@ -60,7 +62,7 @@ public class PlayerInteractListener implements Listener {
             final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
             if (data.getBootsData() != null && !data.areBootsBroken() && 
                 data.getBootsData().getBootType() == BootType.SPEED &&
-                player.hasMetadata("speed_blur_active")) {
+                this.plugin.getPlayerStateStore().has(player, PlayerState.SPEED_BLUR)) {
                 
                 final SpeedAbility speedAbility = (SpeedAbility) this.plugin.getAbilityManager().getAbilities().get(BootType.SPEED);
                 speedAbility.handleInstaGapUse(player);
@@ -125,9 +127,12 @@ public class PlayerInteractListener implements Listener {
                     + data.getBootsData().getBootType().getColoredName() + ChatColor.GREEN + "!");
         } else if (event.getAction() == Action.LEFT_CLICK_AIR || event.getAction() == Action.LEFT_CLICK_BLOCK) {
             // Open elimination GUI
-            RerollerGuiListener listener = new RerollerGuiListener(plugin);
-            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
-            listener.openRerollerGUI(player);
+            // One GUI listener for everyone, its sessions live in a slot-indexed array
+            if (this.rerollerGui == null) {
+                this.rerollerGui = new RerollerGuiListener(this.plugin);
+                this.plugin.getServer().getPluginManager().registerEvents(this.rerollerGui, this.plugin);
+            }
+            this.rerollerGui.openRerollerGUI(player);
         }
     }
 
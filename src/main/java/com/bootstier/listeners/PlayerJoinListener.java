@@ -2,6 +2,7 @@ package com.bootstier.listeners;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSession;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -24,14 +25,14 @@ public class PlayerJoinListener implements Listener {
     @EventHandler
     public void onPlayerJoin(final PlayerJoinEvent event) {
         final org.bukkit.entity.Player player = event.getPlayer();
-        final PlayerData data = this.plugin.getPlayerManager().getPlayerData(player);
+        final PlayerSession session = this.plugin.getPlayerManager().getSession(player);
+        PlayerData data = session.getData();
         
         // Remove any existing boots that aren't ability boots
         final ItemStack existingBoots = player.getInventory().getBoots();
-        if (existingBoots != null && existingBoots.getType() == Material.DIAMOND_BOOTS) {
-            if (!ItemUtils.hasCustomLore(existingBoots, "Tier:")) {
-                player.getInventory().setBoots(null);
-            }
+        if (existingBoots != null && existingBoots.getType() == Material.DIAMOND_BOOTS
+                && !ItemUtils.isValidBootsItem(existingBoots)) {
+            player.getInventory().setBoots(null);
         }
         
         // Update login time
@@ -40,6 +41,7 @@ public class PlayerJoinListener implements Listener {
         // Give boots if first join and config allows
         if (data.isFirstJoin() && this.plugin.getConfigManager().isGiveBootsOnJoin()) {
             this.plugin.getPlayerManager().createNewPlayer(player);
+            data = session.getData();
             
             // Give boots item
             this.plugin.getBootsManager().giveBoots(player, data.getBootsData().getBootType());
@@ -55,12 +57,14 @@ public class PlayerJoinListener implements Listener {
         } else if (data.getBootsData() == null) {
             // Player has no boots data, create new
             this.plugin.getPlayerManager().createNewPlayer(player);
+            data = session.getData();
             this.plugin.getBootsManager().giveBoots(player, data.getBootsData().getBootType());
             
             MessageUtils.sendMessage(player, "&a&lYou have been given " + 
                 data.getBootsData().getBootType().getColoredName() + "&a!");
         }
         
+        this.plugin.getCooldownService().restore(player, data.getBootsData());
         this.plugin.getPlayerManager().savePlayerData(data);
     }
 }
@@ -0,0 +1,33 @@
+package com.bootstier.listeners;
+
+import com.bootstier.BootsTierPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+
+/**
+ * Loads player data off the main thread before the player joins
+ */
+public class PlayerPreLoginListener implements Listener {
+
+    private final BootsTierPlugin plugin;
+
+    public PlayerPreLoginListener(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        try {
+            this.plugin.getPlayerManager().preloadPlayerData(event.getUniqueId());
+        } catch (final RuntimeException e) {
+            // The join falls back to a synchronous load
+            this.plugin.getLogger().warning("Failed to preload player data for " + event.getName() + ": " + e.getMessage());
+        }
+    }
+}
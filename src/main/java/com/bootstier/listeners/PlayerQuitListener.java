@@ -2,6 +2,7 @@ package com.bootstier.listeners;
 
 import com.bootstier.BootsTierPlugin;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
@@ -16,7 +17,8 @@ public class PlayerQuitListener implements Listener {
         this.plugin = plugin;
     }
 
-    @EventHandler
+    // MONITOR so other quit handlers still see the record before it leaves the online map
+    @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(final PlayerQuitEvent event) {
         final var player = event.getPlayer();
         final var playerId = player.getUniqueId();
@@ -25,8 +27,8 @@ public class PlayerQuitListener implements Listener {
         
         this.plugin.getRitualManager().cleanupPlayer(player);
         
-        // Save player data
-        final var data = this.plugin.getPlayerManager().getPlayerData(player);
-        this.plugin.getPlayerManager().savePlayerData(data);
+        // Stamp last seen and push the record to disk without waiting for the write-behind delay
+        this.plugin.getPlayerManager().unloadPlayer(player);
+        this.plugin.getSessionRegistry().release(playerId);
     }
 }
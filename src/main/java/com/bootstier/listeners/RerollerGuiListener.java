@@ -29,11 +29,12 @@ public class RerollerGuiListener implements Listener {
 
     private final BootsTierPlugin plugin;
 
-    // Track open reroller sessions per player
-    private final Map<UUID, RerollerSession> activeSessions = new HashMap<>();
+    // Track open reroller sessions, indexed by player session slot
+    private RerollerSession[] activeSessions = new RerollerSession[16];
 
     public RerollerGuiListener(final BootsTierPlugin plugin) {
         this.plugin = plugin;
+        plugin.getSessionRegistry().addReleaseListener(this::removeSession);
     }
 
     /* ======================================================================
@@ -61,7 +62,11 @@ public class RerollerGuiListener implements Listener {
 
         // Create session for this player
         RerollerSession session = new RerollerSession(player.getUniqueId(), maxEliminations);
-        activeSessions.put(player.getUniqueId(), session);
+        int slot = plugin.getSessionRegistry().slot(player);
+        if (slot >= activeSessions.length) {
+            activeSessions = Arrays.copyOf(activeSessions, Math.max(activeSessions.length * 2, slot + 1));
+        }
+        activeSessions[slot] = session;
 
         // Open the GUI
         Inventory gui = createRerollerGUI(session);
@@ -203,7 +208,8 @@ public class RerollerGuiListener implements Listener {
         // Prevent item movement/stealing
         event.setCancelled(true);
 
-        RerollerSession session = activeSessions.get(player.getUniqueId());
+        int slot = plugin.getSessionRegistry().find(player.getUniqueId());
+        RerollerSession session = slot >= 0 && slot < activeSessions.length ? activeSessions[slot] : null;
         if (session == null) {
             player.closeInventory();
             return;
@@ -307,7 +313,7 @@ public class RerollerGuiListener implements Listener {
 
         // Close GUI and clear session
         player.closeInventory();
-        activeSessions.remove(player.getUniqueId());
+        removeSession(plugin.getSessionRegistry().find(player.getUniqueId()));
 
         player.sendMessage("§a§l✦ REROLL SUCCESSFUL!");
         player.sendMessage("§7Your new boots: " + newBoot.getColoredName());
@@ -325,7 +331,13 @@ public class RerollerGuiListener implements Listener {
         String title = event.getView().getTitle();
         if (title.equals("§6§lBoot Reroller - Elimination")) {
             // Session is cancelled on close
-            activeSessions.remove(player.getUniqueId());
+            removeSession(plugin.getSessionRegistry().find(player.getUniqueId()));
+        }
+    }
+
+    private void removeSession(int slot) {
+        if (slot >= 0 && slot < activeSessions.length) {
+            activeSessions[slot] = null;
         }
     }
 
@@ -1,30 +1,56 @@
 package com.bootstier.nms;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.Effect;
+import com.bootstier.effects.EffectPool;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.effects.ParticleShape;
+import com.bootstier.scheduler.WheelTask;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.Vector;
 
 import java.util.*;
 
 /**
  * Advanced visual effects using entities and animations.
  * Also manages temporary animated visuals for cleanup.
+ *
+ * Animations are pooled {@link Effect}s run by the plugin's EffectEngine; the create
+ * methods only configure an instance and hand it over.
  */
 public class AdvancedEffects {
 
+    private static final ParticleShape EXPANDING_RING = ParticleShape.circle(63);
+    /** 32 points, turning 0.05 rad per update */
+    private static final ParticleShape ICE_CIRCLE = ParticleShape.ring(32, 4);
+    /** 3 evenly spaced strands of 20 points, turning 0.1 rad per tick */
+    private static final ParticleShape TORNADO = ParticleShape.vortex(3, 20, 2 * Math.PI / 3, 63);
+    /** 16 points, turning 0.05 rad per update */
+    private static final ParticleShape SHADOW_AURA = ParticleShape.ring(16, 8);
+
     private final BootsTierPlugin plugin;
 
     // Track active particle/entity visuals (like orbiting items, displays, etc.)
     private final Map<UUID, TrackedEffect> activeEffects = new HashMap<>();
 
+    private final EffectPool<CirclingItem> circlingItems = new EffectPool<>(CirclingItem::new);
+    private final EffectPool<ExpandingRing> expandingRings = new EffectPool<>(ExpandingRing::new);
+    private final EffectPool<Trail> trails = new EffectPool<>(Trail::new);
+    private final EffectPool<Spiral> spirals = new EffectPool<>(Spiral::new);
+    private final EffectPool<LightningBolt> lightningBolts = new EffectPool<>(LightningBolt::new);
+    private final EffectPool<FireRings> fireRings = new EffectPool<>(FireRings::new);
+    private final EffectPool<IceCircle> iceCircles = new EffectPool<>(IceCircle::new);
+    private final EffectPool<Tornado> tornados = new EffectPool<>(Tornado::new);
+    private final EffectPool<ShadowAura> shadowAuras = new EffectPool<>(ShadowAura::new);
+    private final EffectPool<Whirlpool> whirlpools = new EffectPool<>(Whirlpool::new);
+
     public AdvancedEffects(final BootsTierPlugin plugin) {
         this.plugin = plugin;
     }
@@ -43,28 +69,10 @@ public class AdvancedEffects {
         TrackedEffect effect = new TrackedEffect(itemEntity, System.currentTimeMillis() + (durationTicks * 50L));
         activeEffects.put(itemEntity.getUniqueId(), effect);
 
-        new BukkitRunnable() {
-            private int ticks = 0;
-            private double angle = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= durationTicks || itemEntity.isDead()) {
-                    itemEntity.remove();
-                    activeEffects.remove(itemEntity.getUniqueId());
-                    cancel();
-                    return;
-                }
-
-                angle += 0.2;
-                double x = Math.cos(angle) * radius;
-                double z = Math.sin(angle) * radius;
-                Location newLoc = player.getLocation().add(x, 1.5, z);
-                itemEntity.teleport(newLoc);
-
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        final CirclingItem circling = this.circlingItems.acquire();
+        circling.set(player, itemEntity, radius);
+        // A refused effect is finished, which removes the item
+        this.plugin.getEffectEngine().play(this.circlingItems, circling, player, player.getWorld(), durationTicks, 1);
     }
 
     public ArmorStand createFloatingDisplay(final Location location, final String displayName, final int durationTicks) {
@@ -80,7 +88,7 @@ public class AdvancedEffects {
         activeEffects.put(armorStand.getUniqueId(), new TrackedEffect(armorStand, System.currentTimeMillis() + (durationTicks * 50L)));
 
         if (durationTicks > 0) {
-            new BukkitRunnable() {
+            new WheelTask() {
                 @Override
                 public void run() {
                     armorStand.remove();
@@ -92,69 +100,21 @@ public class AdvancedEffects {
     }
 
     public void createExpandingRing(final Location center, final double maxRadius, final int steps, final Material blockType) {
-        new BukkitRunnable() {
-            private int currentStep = 0;
-            @Override
-            public void run() {
-                if (currentStep >= steps) {
-                    cancel();
-                    return;
-                }
-                double radius = (maxRadius / steps) * (currentStep + 1);
-                for (double angle = 0; angle < 2 * Math.PI; angle += 0.1) {
-                    double x = Math.cos(angle) * radius;
-                    double z = Math.sin(angle) * radius;
-                    Location particleLoc = center.clone().add(x, 0.5, z);
-                    center.getWorld().spawnParticle(
-                        org.bukkit.Particle.BLOCK_CRUMBLE,
-                        particleLoc,
-                        3, 0.1, 0.1, 0.1, 0.1, blockType.createBlockData());
-                }
-                currentStep++;
-            }
-        }.runTaskTimer(plugin, 0L, 10L);
+        final ExpandingRing ring = this.expandingRings.acquire();
+        ring.set(center, maxRadius, steps, blockType.createBlockData());
+        this.plugin.getEffectEngine().play(this.expandingRings, ring, null, center.getWorld(), steps * 10, 10);
     }
 
     public void createTrailEffect(final Location start, final Location end, final org.bukkit.Particle particle, final int steps) {
-        final Vector direction = end.toVector().subtract(start.toVector()).normalize();
-        final double distance = start.distance(end);
-        final double stepSize = distance / steps;
-
-        new BukkitRunnable() {
-            private int currentStep = 0;
-            @Override
-            public void run() {
-                if (currentStep >= steps) {
-                    cancel();
-                    return;
-                }
-                Location particleLoc = start.clone().add(direction.clone().multiply(stepSize * currentStep));
-                start.getWorld().spawnParticle(particle, particleLoc, 1, 0, 0, 0, 0);
-                currentStep++;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        final Trail trail = this.trails.acquire();
+        trail.set(start, end, start.distance(end) / steps, particle, ParticlePriority.EFFECT, 1, false);
+        this.plugin.getEffectEngine().play(this.trails, trail, null, start.getWorld(), steps, 1);
     }
 
     public void createSpiralEffect(final Location center, final double radius, final double height, final org.bukkit.Particle particle, final int durationTicks) {
-        new BukkitRunnable() {
-            private int ticks = 0;
-            private double angle = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= durationTicks) {
-                    cancel();
-                    return;
-                }
-                angle += 0.3;
-                double currentHeight = (height / durationTicks) * ticks;
-                double x = Math.cos(angle) * radius;
-                double z = Math.sin(angle) * radius;
-                Location particleLoc = center.clone().add(x, currentHeight, z);
-                center.getWorld().spawnParticle(particle, particleLoc, 1, 0, 0, 0, 0);
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        final Spiral spiral = this.spirals.acquire();
+        spiral.set(center, radius, height / durationTicks, particle);
+        this.plugin.getEffectEngine().play(this.spirals, spiral, null, center.getWorld(), durationTicks, 1);
     }
 
     public List<Entity> createEntityRing(final Location center, final double radius, final int entityCount, final Material itemType) {
@@ -209,6 +169,18 @@ public class AdvancedEffects {
         }
     }
 
+    /**
+     * Removes every tracked entity (called on plugin disable)
+     */
+    public void cleanupAll() {
+        for (final TrackedEffect effect : activeEffects.values()) {
+            if (effect.entity() != null && !effect.entity().isDead()) {
+                effect.entity().remove();
+            }
+        }
+        activeEffects.clear();
+    }
+
 
     /* --------------------------------------------------
        LIGHTNING EFFECTS
@@ -218,25 +190,13 @@ public class AdvancedEffects {
      * Creates a lightning strike effect at location (visual only)
      */
     public void createLightningEffect(final Location location) {
-        location.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, location, 30, 0.5, 2, 0.5, 0.2);
-        location.getWorld().spawnParticle(Particle.FLASH, location, 1, 0, 0, 0, 0);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.ELECTRIC_SPARK, location, 30, 0.5, 2, 0.5, 0.2);
+        this.plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.FLASH, location, 1, 0, 0, 0, 0);
         
-        // Upward bolt animation
-        new BukkitRunnable() {
-            private double y = 0;
-            
-            @Override
-            public void run() {
-                if (y >= 3) {
-                    cancel();
-                    return;
-                }
-                
-                final Location boltLoc = location.clone().add(0, y, 0);
-                location.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, boltLoc, 5, 0.2, 0.2, 0.2, 0.1);
-                y += 0.3;
-            }
-        }.runTaskTimer(this.plugin, 0L, 1L);
+        // Upward bolt animation, 0.3 blocks per tick up to 3 blocks
+        final LightningBolt bolt = this.lightningBolts.acquire();
+        bolt.set(location);
+        this.plugin.getEffectEngine().play(this.lightningBolts, bolt, null, location.getWorld(), 10, 1);
     }
 
     /* --------------------------------------------------
@@ -247,36 +207,9 @@ public class AdvancedEffects {
      * Creates expanding fire rings for Fire Boots Tier 1
      */
     public void createFireRings(final Location center, final int ringCount, final double maxRadius) {
-        new BukkitRunnable() {
-            private int currentRing = 0;
-            private double radius = 0.5;
-            
-            @Override
-            public void run() {
-                if (currentRing >= ringCount) {
-                    cancel();
-                    return;
-                }
-                
-                // Draw fire ring at current radius
-                final int points = (int) (radius * 20);
-                for (int i = 0; i < points; i++) {
-                    final double angle = 2 * Math.PI * i / points;
-                    final double x = center.getX() + Math.cos(angle) * radius;
-                    final double z = center.getZ() + Math.sin(angle) * radius;
-                    final Location ringLoc = new Location(center.getWorld(), x, center.getY(), z);
-                    
-                    center.getWorld().spawnParticle(Particle.FLAME, ringLoc, 3, 0.1, 0.1, 0.1, 0.02);
-                    center.getWorld().spawnParticle(Particle.SMOKE, ringLoc, 1, 0.1, 0.1, 0.1, 0.01);
-                }
-                
-                radius += 1.5;
-                if (radius >= maxRadius) {
-                    currentRing++;
-                    radius = 0.5;
-                }
-            }
-        }.runTaskTimer(this.plugin, 0L, 2L);
+        final FireRings rings = this.fireRings.acquire();
+        rings.set(center, ringCount, maxRadius);
+        this.plugin.getEffectEngine().play(this.fireRings, rings, null, center.getWorld(), 0, 2);
     }
 
     /* --------------------------------------------------
@@ -285,39 +218,13 @@ public class AdvancedEffects {
 
     /**
      * Creates ice circle boundary effect for Frost Boots Tier 2
+     *
+     * @param durationTicks number of updates, one every 2 ticks
      */
     public void createIceCircle(final Location center, final double radius, final int durationTicks) {
-        new BukkitRunnable() {
-            private int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (ticks >= durationTicks) {
-                    cancel();
-                    return;
-                }
-                
-                // Rotating ice particle ring
-                final int points = 32;
-                final double rotation = ticks * 0.05;
-                for (int i = 0; i < points; i++) {
-                    final double angle = (2 * Math.PI * i / points) + rotation;
-                    final double x = center.getX() + Math.cos(angle) * radius;
-                    final double z = center.getZ() + Math.sin(angle) * radius;
-                    final Location ringLoc = new Location(center.getWorld(), x, center.getY() + 0.1, z);
-                    
-                    center.getWorld().spawnParticle(Particle.SNOWFLAKE, ringLoc, 2, 0.1, 0.1, 0.1, 0);
-                    
-                    // Occasional ice spikes
-                    if (ticks % 20 == 0 && i % 4 == 0) {
-                        center.getWorld().spawnParticle(Particle.BLOCK, ringLoc.clone().add(0, 0.5, 0), 
-                            5, 0.1, 0.5, 0.1, 0, Material.PACKED_ICE.createBlockData());
-                    }
-                }
-                
-                ticks++;
-            }
-        }.runTaskTimer(this.plugin, 0L, 2L);
+        final IceCircle circle = this.iceCircles.acquire();
+        circle.set(center, radius);
+        this.plugin.getEffectEngine().play(this.iceCircles, circle, null, center.getWorld(), durationTicks * 2, 2);
     }
 
     /* --------------------------------------------------
@@ -328,40 +235,9 @@ public class AdvancedEffects {
      * Creates tornado effect at location for Wind Boots Tier 2
      */
     public void createTornado(final Location center, final int durationTicks) {
-        new BukkitRunnable() {
-            private int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (ticks >= durationTicks) {
-                    cancel();
-                    return;
-                }
-                
-                // Spiral wind effect
-                final double height = 5.0;
-                final int spirals = 3;
-                final int pointsPerSpiral = 20;
-                
-                for (int spiral = 0; spiral < spirals; spiral++) {
-                    for (int i = 0; i < pointsPerSpiral; i++) {
-                        final double progress = (double) i / pointsPerSpiral;
-                        final double angle = (2 * Math.PI * spiral / spirals) + (progress * 2 * Math.PI) + (ticks * 0.1);
-                        final double radius = 2.0 * (1 - progress);
-                        final double y = center.getY() + (height * progress);
-                        
-                        final double x = center.getX() + Math.cos(angle) * radius;
-                        final double z = center.getZ() + Math.sin(angle) * radius;
-                        final Location spiralLoc = new Location(center.getWorld(), x, y, z);
-                        
-                        center.getWorld().spawnParticle(Particle.CLOUD, spiralLoc, 1, 0, 0, 0, 0);
-                        center.getWorld().spawnParticle(Particle.SWEEP_ATTACK, spiralLoc, 1, 0, 0, 0, 0);
-                    }
-                }
-                
-                ticks++;
-            }
-        }.runTaskTimer(this.plugin, 0L, 1L);
+        final Tornado tornado = this.tornados.acquire();
+        tornado.set(center);
+        this.plugin.getEffectEngine().play(this.tornados, tornado, null, center.getWorld(), durationTicks, 1);
     }
 
     /* --------------------------------------------------
@@ -370,36 +246,13 @@ public class AdvancedEffects {
 
     /**
      * Creates shadow aura around player for Ward Boots
+     *
+     * @param durationTicks number of updates, one every 2 ticks
      */
     public void createShadowAura(final Player player, final int durationTicks) {
-        new BukkitRunnable() {
-            private int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (ticks >= durationTicks || !player.isOnline()) {
-                    cancel();
-                    return;
-                }
-                
-                final Location loc = player.getLocation();
-                
-                // Shadow particles orbiting player
-                for (double angle = 0; angle < 2 * Math.PI; angle += 0.4) {
-                    final double radius = 1.5 + Math.sin(ticks * 0.1) * 0.5;
-                    final double x = Math.cos(angle + ticks * 0.05) * radius;
-                    final double z = Math.sin(angle + ticks * 0.05) * radius;
-                    final Location particleLoc = loc.clone().add(x, 1, z);
-                    player.getWorld().spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-                }
-                
-                // Dark portal effect at feet
-                player.getWorld().spawnParticle(Particle.PORTAL, loc.clone().add(0, 0.1, 0), 
-                    3, 0.3, 0.1, 0.3, 0);
-                
-                ticks++;
-            }
-        }.runTaskTimer(this.plugin, 0L, 2L);
+        final ShadowAura aura = this.shadowAuras.acquire();
+        aura.set(player);
+        this.plugin.getEffectEngine().play(this.shadowAuras, aura, player, player.getWorld(), durationTicks * 2, 2);
     }
 
     /* --------------------------------------------------
@@ -408,38 +261,13 @@ public class AdvancedEffects {
 
     /**
      * Creates whirlpool effect for Water Boots Tier 1
+     *
+     * @param durationTicks number of updates, one every 2 ticks
      */
     public void createWhirlpool(final Location center, final double radius, final int durationTicks) {
-        new BukkitRunnable() {
-            private int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (ticks >= durationTicks) {
-                    cancel();
-                    return;
-                }
-                
-                // Spiral water particles
-                final int spirals = 5;
-                for (int spiral = 0; spiral < spirals; spiral++) {
-                    final double spiralRadius = radius * (1 - ((double) spiral / spirals));
-                    final double angle = (ticks * 0.2) + (2 * Math.PI * spiral / spirals);
-                    
-                    final double x = center.getX() + Math.cos(angle) * spiralRadius;
-                    final double z = center.getZ() + Math.sin(angle) * spiralRadius;
-                    final Location spiralLoc = new Location(center.getWorld(), x, center.getY(), z);
-                    
-                    center.getWorld().spawnParticle(Particle.DRIPPING_WATER, spiralLoc, 2, 0.1, 0.1, 0.1, 0);
-                    center.getWorld().spawnParticle(Particle.BUBBLE_POP, spiralLoc, 1, 0.1, 0.1, 0.1, 0);
-                }
-                
-                // Center vortex
-                center.getWorld().spawnParticle(Particle.SPLASH, center, 5, 0.3, 0.3, 0.3, 0.1);
-                
-                ticks++;
-            }
-        }.runTaskTimer(this.plugin, 0L, 2L);
+        final Whirlpool whirlpool = this.whirlpools.acquire();
+        whirlpool.set(center, radius);
+        this.plugin.getEffectEngine().play(this.whirlpools, whirlpool, null, center.getWorld(), durationTicks * 2, 2);
     }
 
     /* --------------------------------------------------
@@ -450,29 +278,367 @@ public class AdvancedEffects {
      * Creates astral teleport trail effect for Astral Boots
      */
     public void createAstralTrail(final Location start, final Location end) {
-        final Vector direction = end.toVector().subtract(start.toVector());
-        final double distance = start.distance(end);
-        final int steps = (int) (distance * 5);
-        
-        new BukkitRunnable() {
-            private int currentStep = 0;
-            
-            @Override
-            public void run() {
-                if (currentStep >= steps) {
-                    cancel();
-                    return;
+        final int steps = (int) (start.distance(end) * 5);
+        if (steps <= 0) {
+            return;
+        }
+
+        final Trail trail = this.trails.acquire();
+        trail.set(start, end, start.distance(end) / steps, Particle.PORTAL, ParticlePriority.EFFECT, 3, true);
+        this.plugin.getEffectEngine().play(this.trails, trail, null, start.getWorld(), steps, 1);
+    }
+
+    /* --------------------------------------------------
+       EFFECTS
+    -------------------------------------------------- */
+
+    private final class CirclingItem implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Player player;
+        private Item item;
+        private double radius;
+
+        void set(final Player player, final Item item, final double radius) {
+            this.player = player;
+            this.item = item;
+            this.radius = radius;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            if (this.item.isDead()) {
+                return false;
+            }
+
+            final double angle = 0.2 * (elapsed + 1);
+            this.player.getLocation(this.cursor).add(Math.cos(angle) * this.radius, 1.5, Math.sin(angle) * this.radius);
+            this.item.teleport(this.cursor);
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.item.remove();
+            activeEffects.remove(this.item.getUniqueId());
+            this.player = null;
+            this.item = null;
+        }
+    }
+
+    private final class ExpandingRing implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location center;
+        private double maxRadius;
+        private int steps;
+        private BlockData blockData;
+
+        void set(final Location center, final double maxRadius, final int steps, final BlockData blockData) {
+            this.center = center;
+            this.maxRadius = maxRadius;
+            this.steps = steps;
+            this.blockData = blockData;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final double radius = (this.maxRadius / this.steps) * (elapsed / 10 + 1);
+            for (int i = 0; i < EXPANDING_RING.getPoints(); i++) {
+                EXPANDING_RING.place(this.cursor, this.center, 0.5, 0, i, radius, 0);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
+                    org.bukkit.Particle.BLOCK_CRUMBLE,
+                    this.cursor,
+                    3, 0.1, 0.1, 0.1, 0.1, this.blockData);
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.center = null;
+            this.blockData = null;
+        }
+    }
+
+    /**
+     * One point per tick moving along a straight line, optionally with the astral enchant sparkle.
+     */
+    private final class Trail implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location start;
+        private double stepX;
+        private double stepY;
+        private double stepZ;
+        private Particle particle;
+        private ParticlePriority priority;
+        private int count;
+        private boolean astral;
+
+        void set(final Location start, final Location end, final double stepSize, final Particle particle,
+                 final ParticlePriority priority, final int count, final boolean astral) {
+            final double distance = start.distance(end);
+            final double scale = distance == 0 ? 0 : stepSize / distance;
+            this.start = start;
+            this.stepX = (end.getX() - start.getX()) * scale;
+            this.stepY = (end.getY() - start.getY()) * scale;
+            this.stepZ = (end.getZ() - start.getZ()) * scale;
+            this.particle = particle;
+            this.priority = priority;
+            this.count = count;
+            this.astral = astral;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            this.cursor.setWorld(this.start.getWorld());
+            this.cursor.set(this.start.getX() + this.stepX * elapsed,
+                    this.start.getY() + this.stepY * elapsed,
+                    this.start.getZ() + this.stepZ * elapsed);
+
+            if (this.astral) {
+                plugin.getParticleDispatcher().spawn(this.priority, this.particle, this.cursor, this.count, 0.1, 0.1, 0.1, 0.02);
+                plugin.getParticleDispatcher().spawn(this.priority, Particle.ENCHANT, this.cursor, 2, 0.1, 0.1, 0.1, 0.1);
+            } else {
+                plugin.getParticleDispatcher().spawn(this.priority, this.particle, this.cursor, this.count, 0, 0, 0, 0);
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.start = null;
+        }
+    }
+
+    private final class Spiral implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location center;
+        private double radius;
+        private double heightPerTick;
+        private Particle particle;
+
+        void set(final Location center, final double radius, final double heightPerTick, final Particle particle) {
+            this.center = center;
+            this.radius = radius;
+            this.heightPerTick = heightPerTick;
+            this.particle = particle;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final double angle = 0.3 * (elapsed + 1);
+            this.cursor.setWorld(this.center.getWorld());
+            this.cursor.set(this.center.getX() + Math.cos(angle) * this.radius,
+                    this.center.getY() + this.heightPerTick * elapsed,
+                    this.center.getZ() + Math.sin(angle) * this.radius);
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, this.particle, this.cursor, 1, 0, 0, 0, 0);
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.center = null;
+        }
+    }
+
+    private final class LightningBolt implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location location;
+
+        void set(final Location location) {
+            this.location = location;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            this.cursor.setWorld(this.location.getWorld());
+            this.cursor.set(this.location.getX(), this.location.getY() + 0.3 * elapsed, this.location.getZ());
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.ELECTRIC_SPARK, this.cursor, 5, 0.2, 0.2, 0.2, 0.1);
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.location = null;
+        }
+    }
+
+    private final class FireRings implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location center;
+        private int ringCount;
+        private double maxRadius;
+        private int currentRing;
+        private double radius;
+
+        void set(final Location center, final int ringCount, final double maxRadius) {
+            this.center = center;
+            this.ringCount = ringCount;
+            this.maxRadius = maxRadius;
+            this.currentRing = 0;
+            this.radius = 0.5;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            if (this.currentRing >= this.ringCount) {
+                return false;
+            }
+
+            // Draw fire ring at current radius
+            final ParticleShape ring = ParticleShape.circle((int) (this.radius * 20));
+            for (int i = 0; i < ring.getPoints(); i++) {
+                ring.place(this.cursor, this.center, 0, 0, i, this.radius, 0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.FLAME, this.cursor, 3, 0.1, 0.1, 0.1, 0.02);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SMOKE, this.cursor, 1, 0.1, 0.1, 0.1, 0.01);
+            }
+
+            this.radius += 1.5;
+            if (this.radius >= this.maxRadius) {
+                this.currentRing++;
+                this.radius = 0.5;
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.center = null;
+        }
+    }
+
+    private final class IceCircle implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private final BlockData packedIce = Material.PACKED_ICE.createBlockData();
+        private Location center;
+        private double radius;
+
+        void set(final Location center, final double radius) {
+            this.center = center;
+            this.radius = radius;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final int step = elapsed / 2;
+
+            // Rotating ice particle ring
+            for (int i = 0; i < ICE_CIRCLE.getPoints(); i++) {
+                ICE_CIRCLE.place(this.cursor, this.center, 0.1, step, i, this.radius, 0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SNOWFLAKE, this.cursor, 2, 0.1, 0.1, 0.1, 0);
+
+                // Occasional ice spikes
+                if (step % 20 == 0 && i % 4 == 0) {
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.BLOCK, this.cursor.add(0, 0.5, 0),
+                        5, 0.1, 0.5, 0.1, 0, this.packedIce);
                 }
-                
-                final double progress = (double) currentStep / steps;
-                final Location particleLoc = start.clone().add(direction.clone().multiply(progress));
-                
-                start.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 3, 0.1, 0.1, 0.1, 0.02);
-                start.getWorld().spawnParticle(Particle.ENCHANT, particleLoc, 2, 0.1, 0.1, 0.1, 0.1);
-                
-                currentStep++;
             }
-        }.runTaskTimer(this.plugin, 0L, 1L);
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.center = null;
+        }
+    }
+
+    private final class Tornado implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location center;
+
+        void set(final Location center) {
+            this.center = center;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            // Spiral wind effect
+            for (int i = 0; i < TORNADO.getPoints(); i++) {
+                TORNADO.place(this.cursor, this.center, 0, elapsed, i, 2.0, 5.0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.CLOUD, this.cursor, 1, 0, 0, 0, 0);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SWEEP_ATTACK, this.cursor, 1, 0, 0, 0, 0);
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.center = null;
+        }
+    }
+
+    private final class ShadowAura implements Effect {
+        private final Location base = new Location(null, 0, 0, 0);
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Player player;
+
+        void set(final Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final int step = elapsed / 2;
+            this.player.getLocation(this.base);
+
+            // Shadow particles orbiting player
+            final double radius = 1.5 + Math.sin(step * 0.1) * 0.5;
+            for (int i = 0; i < SHADOW_AURA.getPoints(); i++) {
+                SHADOW_AURA.place(this.cursor, this.base, 1, step, i, radius, 0);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SMOKE, this.cursor, 1, 0, 0, 0, 0);
+            }
+
+            // Dark portal effect at feet
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.PORTAL, this.base.add(0, 0.1, 0),
+                3, 0.3, 0.1, 0.3, 0);
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.player = null;
+        }
+    }
+
+    private final class Whirlpool implements Effect {
+        private final Location cursor = new Location(null, 0, 0, 0);
+        private Location center;
+        private double radius;
+
+        void set(final Location center, final double radius) {
+            this.center = center;
+            this.radius = radius;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final int step = elapsed / 2;
+
+            // Spiral water particles
+            final int spirals = 5;
+            for (int spiral = 0; spiral < spirals; spiral++) {
+                final double spiralRadius = this.radius * (1 - ((double) spiral / spirals));
+                final double angle = (step * 0.2) + (2 * Math.PI * spiral / spirals);
+
+                this.cursor.setWorld(this.center.getWorld());
+                this.cursor.set(this.center.getX() + Math.cos(angle) * spiralRadius, this.center.getY(),
+                        this.center.getZ() + Math.sin(angle) * spiralRadius);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.DRIPPING_WATER, this.cursor, 2, 0.1, 0.1, 0.1, 0);
+                plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.BUBBLE_POP, this.cursor, 1, 0.1, 0.1, 0.1, 0);
+            }
+
+            // Center vortex
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.SPLASH, this.center, 5, 0.3, 0.3, 0.3, 0.1);
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            this.center = null;
+        }
     }
 
     /* --------------------------------------------------
@@ -1,6 +1,8 @@
 package com.bootstier.nms;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.Effect;
+import com.bootstier.effects.EffectPool;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.*;
@@ -19,6 +21,8 @@ public class DisplayEntityManager {
 
     private final BootsTierPlugin plugin;
     private final Map<UUID, List<Display>> activeDisplays = new HashMap<>();
+    private final EffectPool<ExpandingRing> expandingRings = new EffectPool<>(ExpandingRing::new);
+    private final EffectPool<RotatingRing> rotatingRings = new EffectPool<>(RotatingRing::new);
 
     public DisplayEntityManager(final BootsTierPlugin plugin) {
         this.plugin = plugin;
@@ -105,33 +109,9 @@ public class DisplayEntityManager {
      */
     public void animateExpandingRing(final List<? extends Display> displays, final Location center, 
                                       final double targetRadius, final int durationTicks) {
-        final double startRadius = 0.5;
-        final double radiusPerTick = (targetRadius - startRadius) / durationTicks;
-        
-        this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, task -> {
-            final int elapsed = task.getTaskId();
-            
-            if (elapsed >= durationTicks) {
-                task.cancel();
-                this.removeDisplays(displays);
-                return;
-            }
-            
-            final double currentRadius = startRadius + (radiusPerTick * elapsed);
-            final int count = displays.size();
-            
-            for (int i = 0; i < count; i++) {
-                final Display display = displays.get(i);
-                if (display.isDead()) continue;
-                
-                final double angle = (2 * Math.PI * i) / count;
-                final double x = Math.cos(angle) * currentRadius;
-                final double z = Math.sin(angle) * currentRadius;
-                final Location newLoc = center.clone().add(x, 0.5, z);
-                
-                display.teleport(newLoc);
-            }
-        }, 0L, 1L);
+        final ExpandingRing ring = this.expandingRings.acquire();
+        ring.set(displays, center, targetRadius, durationTicks);
+        this.plugin.getEffectEngine().play(this.expandingRings, ring, null, center.getWorld(), durationTicks, 1);
     }
 
     /**
@@ -139,35 +119,9 @@ public class DisplayEntityManager {
      */
     public void animateRotatingRing(final List<? extends Display> displays, final Location center, 
                                      final double radius, final int durationTicks) {
-        this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, task -> {
-            final int elapsed = task.getTaskId();
-            
-            if (elapsed >= durationTicks) {
-                task.cancel();
-                this.removeDisplays(displays);
-                return;
-            }
-            
-            final double rotation = elapsed * 0.1;
-            final int count = displays.size();
-            
-            for (int i = 0; i < count; i++) {
-                final Display display = displays.get(i);
-                if (display.isDead()) continue;
-                
-                final double angle = (2 * Math.PI * i / count) + rotation;
-                final double x = Math.cos(angle) * radius;
-                final double z = Math.sin(angle) * radius;
-                final Location newLoc = center.clone().add(x, center.getY() + 0.5, z);
-                
-                display.teleport(newLoc);
-                
-                // Rotate the display itself
-                final Transformation transform = display.getTransformation();
-                transform.getLeftRotation().set(new AxisAngle4f((float) angle, 0, 1, 0));
-                display.setTransformation(transform);
-            }
-        }, 0L, 2L);
+        final RotatingRing ring = this.rotatingRings.acquire();
+        ring.set(displays, center, radius);
+        this.plugin.getEffectEngine().play(this.rotatingRings, ring, null, center.getWorld(), durationTicks, 2);
     }
 
     /**
@@ -180,7 +134,7 @@ public class DisplayEntityManager {
         
         // Schedule cleanup
         if (durationTicks > 0) {
-            this.plugin.getServer().getScheduler().runTaskLater(this.plugin, () -> {
+            this.plugin.getTickScheduler().runLater(() -> {
                 if (!display.isDead()) {
                     display.remove();
                 }
@@ -232,4 +186,91 @@ public class DisplayEntityManager {
             }
         }
     }
+
+    /* ---------------------------------------------
+       EFFECTS
+    --------------------------------------------- */
+
+    /**
+     * Removes its displays once it ends.
+     */
+    private abstract class DisplayRing implements Effect {
+        protected final Location cursor = new Location(null, 0, 0, 0);
+        protected List<? extends Display> displays;
+        protected Location center;
+
+        @Override
+        public void finish() {
+            removeDisplays(this.displays);
+            this.displays = null;
+            this.center = null;
+        }
+    }
+
+    private final class ExpandingRing extends DisplayRing {
+        private static final double START_RADIUS = 0.5;
+        private double radiusPerTick;
+
+        void set(final List<? extends Display> displays, final Location center, final double targetRadius,
+                 final int durationTicks) {
+            this.displays = displays;
+            this.center = center;
+            this.radiusPerTick = (targetRadius - START_RADIUS) / durationTicks;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final double currentRadius = START_RADIUS + (this.radiusPerTick * elapsed);
+            final int count = this.displays.size();
+
+            for (int i = 0; i < count; i++) {
+                final Display display = this.displays.get(i);
+                if (display.isDead()) continue;
+
+                final double angle = (2 * Math.PI * i) / count;
+                this.cursor.setWorld(this.center.getWorld());
+                this.cursor.set(this.center.getX() + Math.cos(angle) * currentRadius,
+                        this.center.getY() + 0.5,
+                        this.center.getZ() + Math.sin(angle) * currentRadius);
+
+                display.teleport(this.cursor);
+            }
+            return true;
+        }
+    }
+
+    private final class RotatingRing extends DisplayRing {
+        private double radius;
+
+        void set(final List<? extends Display> displays, final Location center, final double radius) {
+            this.displays = displays;
+            this.center = center;
+            this.radius = radius;
+        }
+
+        @Override
+        public boolean tick(final int elapsed) {
+            final double rotation = elapsed * 0.1;
+            final int count = this.displays.size();
+
+            for (int i = 0; i < count; i++) {
+                final Display display = this.displays.get(i);
+                if (display.isDead()) continue;
+
+                final double angle = (2 * Math.PI * i / count) + rotation;
+                this.cursor.setWorld(this.center.getWorld());
+                this.cursor.set(this.center.getX() + Math.cos(angle) * this.radius,
+                        this.center.getY() + this.center.getY() + 0.5,
+                        this.center.getZ() + Math.sin(angle) * this.radius);
+
+                display.teleport(this.cursor);
+
+                // Rotate the display itself
+                final Transformation transform = display.getTransformation();
+                transform.getLeftRotation().set(new AxisAngle4f((float) angle, 0, 1, 0));
+                display.setTransformation(transform);
+            }
+            return true;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.bootstier.nms;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -64,7 +65,7 @@ public class NMSHandler {
     public void sendCustomParticles(final Player player, final Location location, final String particleType, final int count) {
         try {
             Particle particle = Particle.valueOf(particleType.toUpperCase());
-            player.spawnParticle(particle, location, count, 0.3, 0.3, 0.3, 0.01);
+            this.plugin.getParticleDispatcher().spawnFor(player, ParticlePriority.EFFECT, particle, location, count, 0.3, 0.3, 0.3, 0.01);
         } catch (Exception e) {
             plugin.getLogger().warning("[NMS] Particle error: " + e.getMessage());
         }
@@ -96,7 +97,7 @@ public class NMSHandler {
         try {
             Location loc = player.getLocation();
             player.playSound(loc, sound, 1.0f, 1.0f);
-            player.spawnParticle(particle, loc, 20, 1, 1, 1, 0.1);
+            this.plugin.getParticleDispatcher().spawnFor(player, ParticlePriority.EFFECT, particle, loc, 20, 1, 1, 1, 0.1);
         } catch (Exception e) {
             plugin.getLogger().warning("[NMS] Screen effect failed: " + e.getMessage());
         }
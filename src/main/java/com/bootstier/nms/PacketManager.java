@@ -1,6 +1,8 @@
 package com.bootstier.nms;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.effects.ParticleShape;
 import com.comphenix.protocol.PacketType;
 import com.comphenix.protocol.ProtocolLibrary;
 import com.comphenix.protocol.ProtocolManager;
@@ -26,12 +28,14 @@ public class PacketManager {
 
     private final BootsTierPlugin plugin;
     private final ProtocolManager protocolManager;
-    private final Map<UUID, Set<UUID>> hiddenPlayers; // viewer -> hidden players
+    /* Hidden player slots, indexed by viewer session slot */
+    private BitSet[] hiddenPlayers = new BitSet[16];
+    private final Location cursor = new Location(null, 0, 0, 0); // reused for shape points
 
     public PacketManager(final BootsTierPlugin plugin) {
         this.plugin = plugin;
         this.protocolManager = ProtocolLibrary.getProtocolManager();
-        this.hiddenPlayers = new HashMap<>();
+        plugin.getSessionRegistry().addReleaseListener(this::clearSlot);
     }
 
     /* ---------------------------------------------
@@ -44,7 +48,10 @@ public class PacketManager {
      * - This is true invis: entity + armor + cosmetics gone for those viewers.
      */
     public void hidePlayerFromUntrusted(final Player player) {
-        final UUID playerUUID = player.getUniqueId();
+        final int playerSlot = this.plugin.getSessionRegistry().slotIfOnline(player);
+        if (playerSlot < 0) {
+            return;
+        }
 
         for (final Player viewer : Bukkit.getOnlinePlayers()) {
             if (viewer.equals(player)) continue;
@@ -56,9 +63,7 @@ public class PacketManager {
                 viewer.hidePlayer(this.plugin, player);
 
                 // Track hidden
-                this.hiddenPlayers
-                        .computeIfAbsent(viewer.getUniqueId(), k -> new HashSet<>())
-                        .add(playerUUID);
+                this.hiddenFor(this.plugin.getSessionRegistry().slot(viewer)).set(playerSlot);
             }
         }
 
@@ -69,15 +74,18 @@ public class PacketManager {
      * Restores visibility to everyone that had this player hidden.
      */
     public void showPlayerToAll(final Player player) {
-        final UUID playerUUID = player.getUniqueId();
+        final int playerSlot = this.plugin.getSessionRegistry().find(player.getUniqueId());
+        if (playerSlot < 0) {
+            return;
+        }
 
         for (final Player viewer : Bukkit.getOnlinePlayers()) {
             if (viewer.equals(player)) continue;
 
-            final Set<UUID> viewerHidden = this.hiddenPlayers.get(viewer.getUniqueId());
-            if (viewerHidden != null && viewerHidden.contains(playerUUID)) {
+            final BitSet viewerHidden = this.hiddenBy(this.plugin.getSessionRegistry().find(viewer.getUniqueId()));
+            if (viewerHidden != null && viewerHidden.get(playerSlot)) {
                 viewer.showPlayer(this.plugin, player);
-                viewerHidden.remove(playerUUID);
+                viewerHidden.clear(playerSlot);
             } else {
                 // Safety: ensure they're visible even if not tracked
                 viewer.showPlayer(this.plugin, player);
@@ -176,47 +184,31 @@ public class PacketManager {
                                    final Particle particle, final int count,
                                    final double offsetX, final double offsetY, final double offsetZ,
                                    final double speed) {
-        viewer.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed);
+        this.plugin.getParticleDispatcher().spawnFor(viewer, ParticlePriority.EFFECT, particle, location, count, offsetX, offsetY, offsetZ, speed);
     }
 
     public void sendParticleCircle(final Player viewer, final Location center,
                                    final Particle particle, final double radius, final int points) {
+        final ParticleShape shape = ParticleShape.circle(points);
         for (int i = 0; i < points; i++) {
-            final double angle = 2 * Math.PI * i / points;
-            final double x = center.getX() + Math.cos(angle) * radius;
-            final double z = center.getZ() + Math.sin(angle) * radius;
-            final Location loc = new Location(center.getWorld(), x, center.getY(), z);
-            this.sendParticlePacket(viewer, loc, particle, 1);
+            this.sendParticlePacket(viewer, shape.place(this.cursor, center, 0, 0, i, radius, 0), particle, 1);
         }
     }
 
     public void sendParticleSphere(final Player viewer, final Location center,
                                    final Particle particle, final double radius, final int points) {
+        final ParticleShape shape = ParticleShape.sphere(points);
         for (int i = 0; i < points; i++) {
-            final double phi = Math.acos(1 - 2 * (i + 0.5) / points);
-            final double theta = Math.PI * (1 + Math.sqrt(5)) * i;
-
-            final double x = center.getX() + radius * Math.cos(theta) * Math.sin(phi);
-            final double y = center.getY() + radius * Math.sin(theta) * Math.sin(phi);
-            final double z = center.getZ() + radius * Math.cos(phi);
-
-            final Location loc = new Location(center.getWorld(), x, y, z);
-            this.sendParticlePacket(viewer, loc, particle, 1);
+            this.sendParticlePacket(viewer, shape.place(this.cursor, center, 0, 0, i, radius, radius), particle, 1);
         }
     }
 
     public void sendParticleHelix(final Player viewer, final Location start,
                                   final Particle particle, final double height,
                                   final double radius, final int rotations) {
-        final int points = rotations * 20;
-        for (int i = 0; i < points; i++) {
-            final double angle = 2 * Math.PI * rotations * i / points;
-            final double y = start.getY() + (height * i / points);
-            final double x = start.getX() + Math.cos(angle) * radius;
-            final double z = start.getZ() + Math.sin(angle) * radius;
-
-            final Location loc = new Location(start.getWorld(), x, y, z);
-            this.sendParticlePacket(viewer, loc, particle, 1);
+        final ParticleShape shape = ParticleShape.helix(rotations, 20);
+        for (int i = 0; i < shape.getPoints(); i++) {
+            this.sendParticlePacket(viewer, shape.place(this.cursor, start, 0, 0, i, radius, height), particle, 1);
         }
     }
 
@@ -238,7 +230,7 @@ public class PacketManager {
     --------------------------------------------- */
 
     public void sendDamageIndicator(final Player viewer, final Location location, final double damage) {
-        viewer.spawnParticle(Particle.DAMAGE_INDICATOR, location, (int) (damage * 2), 0.2, 0.5, 0.2, 0.1);
+        this.plugin.getParticleDispatcher().spawnFor(viewer, ParticlePriority.EFFECT, Particle.DAMAGE_INDICATOR, location, (int) (damage * 2), 0.2, 0.5, 0.2, 0.1);
     }
 
     /* ---------------------------------------------
@@ -254,17 +246,37 @@ public class PacketManager {
        CLEANUP
     --------------------------------------------- */
 
-    public void cleanup(final Player player) {
-        this.hiddenPlayers.remove(player.getUniqueId());
-
-        final UUID playerUUID = player.getUniqueId();
-        for (final Set<UUID> hiddenSet : this.hiddenPlayers.values()) {
-            hiddenSet.remove(playerUUID);
+    /**
+     * Forgets a quitting player both as a viewer and as someone hidden from others.
+     */
+    private void clearSlot(final int slot) {
+        if (slot < this.hiddenPlayers.length) {
+            this.hiddenPlayers[slot] = null;
+        }
+        for (final BitSet hidden : this.hiddenPlayers) {
+            if (hidden != null) {
+                hidden.clear(slot);
+            }
         }
     }
 
     public boolean isHiddenFrom(final Player target, final Player viewer) {
-        final Set<UUID> viewerHidden = this.hiddenPlayers.get(viewer.getUniqueId());
-        return viewerHidden != null && viewerHidden.contains(target.getUniqueId());
+        final BitSet viewerHidden = this.hiddenBy(this.plugin.getSessionRegistry().find(viewer.getUniqueId()));
+        final int targetSlot = this.plugin.getSessionRegistry().find(target.getUniqueId());
+        return viewerHidden != null && targetSlot >= 0 && viewerHidden.get(targetSlot);
+    }
+
+    private BitSet hiddenBy(final int viewerSlot) {
+        return viewerSlot >= 0 && viewerSlot < this.hiddenPlayers.length ? this.hiddenPlayers[viewerSlot] : null;
+    }
+
+    private BitSet hiddenFor(final int viewerSlot) {
+        if (viewerSlot >= this.hiddenPlayers.length) {
+            this.hiddenPlayers = Arrays.copyOf(this.hiddenPlayers, Math.max(this.hiddenPlayers.length * 2, viewerSlot + 1));
+        }
+        if (this.hiddenPlayers[viewerSlot] == null) {
+            this.hiddenPlayers[viewerSlot] = new BitSet();
+        }
+        return this.hiddenPlayers[viewerSlot];
     }
 }
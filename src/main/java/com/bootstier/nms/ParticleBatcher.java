@@ -0,0 +1,290 @@
+package com.bootstier.nms;
+
+import com.bootstier.BootsTierPlugin;
+import com.bootstier.player.PlayerSessionRegistry;
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.WrappedParticle;
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the particles sent to each viewer during a tick and delivers them at the end
+ * of the tick as one bundle packet, so a dense effect costs the client connection one
+ * write and flush instead of one per point.
+ *
+ * Whether ProtocolLib can build the particle and bundle packets on this server version is
+ * probed once at start; if not, particles go out through Player#spawnParticle instead.
+ * A single particle that cannot be built or spawned (for example one missing its data)
+ * is dropped and logged on its own, without affecting the rest of the batch.
+ * Main thread only.
+ */
+public class ParticleBatcher implements Listener {
+
+    /** Most packets the client accepts in one bundle */
+    private static final int BUNDLE_LIMIT = 4096;
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+    private final ProtocolManager protocolManager;
+
+    /* Indexed by session slot */
+    private Batch[] batches = new Batch[16];
+    /* Batches holding particles this tick */
+    private final List<Batch> pending = new ArrayList<>();
+    /* Reused while building a bundle */
+    private final List<PacketContainer> packets = new ArrayList<>();
+    /* Particle types a drop was already logged for */
+    private final Set<Particle> loggedDrops = EnumSet.noneOf(Particle.class);
+
+    @Getter private boolean enabled;
+    @Getter private long bundlesSent;
+    @Getter private long packetsBundled;
+    @Getter private long dropped;
+
+    public ParticleBatcher(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        this.enabled = plugin.getConfigManager().isParticleBundling();
+        sessionRegistry.addReleaseListener(this::clearSlot);
+    }
+
+    public void start() {
+        if (this.enabled) {
+            this.enabled = this.probe();
+        }
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+    }
+
+    /**
+     * Builds one particle packet and one bundle to find out whether this server supports them.
+     */
+    private boolean probe() {
+        try {
+            final PacketContainer particle = this.protocolManager.createPacket(PacketType.Play.Server.WORLD_PARTICLES);
+            particle.getNewParticles().write(0, WrappedParticle.create(Particle.FLAME, null));
+            final PacketContainer bundle = new PacketContainer(PacketType.Play.Server.BUNDLE);
+            bundle.getPacketBundles().write(0, new ArrayList<>(List.of(particle)));
+            return true;
+        } catch (final RuntimeException | LinkageError e) {
+            this.plugin.getLogger().warning("Particle bundling is not supported here, sending particles directly: " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Queues a particle for the viewer, same arguments as {@link Player#spawnParticle}.
+     */
+    public <T> void queue(final Player viewer, final Particle particle, final Location location, final int count,
+                          final double offsetX, final double offsetY, final double offsetZ, final double speed,
+                          final T data) {
+        if (!this.enabled) {
+            viewer.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed, data);
+            return;
+        }
+
+        final int slot = this.sessionRegistry.slotIfOnline(viewer);
+        if (slot < 0) {
+            return;
+        }
+        this.ensureCapacity(slot);
+
+        Batch batch = this.batches[slot];
+        if (batch == null) {
+            batch = new Batch();
+            this.batches[slot] = batch;
+        }
+        if (batch.size == 0) {
+            batch.viewer = viewer;
+            this.pending.add(batch);
+        }
+        batch.add(particle, location, count, offsetX, offsetY, offsetZ, speed, data);
+    }
+
+    /* ---------------------------------------------
+       FLUSH
+    --------------------------------------------- */
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(final ServerTickEndEvent event) {
+        this.flush();
+    }
+
+    public void flush() {
+        try {
+            for (int i = 0; i < this.pending.size(); i++) {
+                final Batch batch = this.pending.get(i);
+                try {
+                    if (batch.viewer.isOnline()) {
+                        this.send(batch);
+                    }
+                } catch (final RuntimeException e) {
+                    this.plugin.getLogger().warning("Failed to deliver particles to " + batch.viewer.getName() + ": " + e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            this.pending.clear();
+        }
+    }
+
+    private void send(final Batch batch) {
+        if (!this.enabled) {
+            this.spawnDirect(batch);
+            return;
+        }
+
+        try {
+            for (int i = 0; i < batch.size; i++) {
+                final PacketContainer packet = this.createPacket(batch, i);
+                if (packet != null) {
+                    this.packets.add(packet);
+                }
+                if (this.packets.size() == BUNDLE_LIMIT) {
+                    this.sendBundle(batch.viewer);
+                }
+            }
+            if (!this.packets.isEmpty()) {
+                this.sendBundle(batch.viewer);
+            }
+        } finally {
+            this.packets.clear();
+        }
+    }
+
+    private void spawnDirect(final Batch batch) {
+        final Location location = new Location(batch.viewer.getWorld(), 0, 0, 0);
+        for (int i = 0; i < batch.size; i++) {
+            location.set(batch.coords[i * 3], batch.coords[i * 3 + 1], batch.coords[i * 3 + 2]);
+            try {
+                batch.viewer.spawnParticle(batch.particles[i], location, batch.counts[i],
+                        batch.spread[i * 4], batch.spread[i * 4 + 1], batch.spread[i * 4 + 2], batch.spread[i * 4 + 3],
+                        batch.data[i]);
+            } catch (final RuntimeException e) {
+                this.drop(batch.particles[i], e);
+            }
+        }
+    }
+
+    private void sendBundle(final Player viewer) {
+        if (this.packets.size() == 1) {
+            this.protocolManager.sendServerPacket(viewer, this.packets.get(0));
+        } else {
+            final PacketContainer bundle = new PacketContainer(PacketType.Play.Server.BUNDLE);
+            bundle.getPacketBundles().write(0, new ArrayList<>(this.packets));
+            this.protocolManager.sendServerPacket(viewer, bundle);
+            this.bundlesSent++;
+            this.packetsBundled += this.packets.size();
+        }
+        this.packets.clear();
+    }
+
+    /**
+     * @return the packet for particle {@code i}, or null when it cannot be built and was dropped
+     */
+    private PacketContainer createPacket(final Batch batch, final int i) {
+        final PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.WORLD_PARTICLES);
+        try {
+            packet.getNewParticles().write(0, WrappedParticle.create(batch.particles[i], batch.data[i]));
+        } catch (final RuntimeException e) {
+            this.drop(batch.particles[i], e);
+            return null;
+        }
+        packet.getDoubles()
+                .write(0, batch.coords[i * 3])
+                .write(1, batch.coords[i * 3 + 1])
+                .write(2, batch.coords[i * 3 + 2]);
+        packet.getFloat()
+                .write(0, batch.spread[i * 4])
+                .write(1, batch.spread[i * 4 + 1])
+                .write(2, batch.spread[i * 4 + 2])
+                .write(3, batch.spread[i * 4 + 3]);
+        packet.getIntegers().write(0, batch.counts[i]);
+        return packet;
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private void drop(final Particle particle, final RuntimeException e) {
+        this.dropped++;
+        if (this.loggedDrops.add(particle)) {
+            this.plugin.getLogger().warning("Dropping " + particle + " particles that cannot be sent: " + e);
+        }
+    }
+
+    private void clearSlot(final int slot) {
+        if (slot < this.batches.length && this.batches[slot] != null) {
+            // Already queued batches are skipped at flush since the viewer is offline
+            this.batches[slot] = null;
+        }
+    }
+
+    private void ensureCapacity(final int slot) {
+        if (slot >= this.batches.length) {
+            this.batches = Arrays.copyOf(this.batches, Math.max(this.batches.length * 2, slot + 1));
+        }
+    }
+
+    /**
+     * Particles queued for one viewer, kept in flat arrays that are reused every tick.
+     */
+    private static final class Batch {
+
+        private Player viewer;
+        private int size;
+
+        private Particle[] particles = new Particle[64];
+        private Object[] data = new Object[64];
+        private int[] counts = new int[64];
+        private double[] coords = new double[64 * 3];
+        private float[] spread = new float[64 * 4];
+
+        void add(final Particle particle, final Location location, final int count, final double offsetX,
+                 final double offsetY, final double offsetZ, final double speed, final Object extra) {
+            if (this.size == this.particles.length) {
+                final int capacity = this.size * 2;
+                this.particles = Arrays.copyOf(this.particles, capacity);
+                this.data = Arrays.copyOf(this.data, capacity);
+                this.counts = Arrays.copyOf(this.counts, capacity);
+                this.coords = Arrays.copyOf(this.coords, capacity * 3);
+                this.spread = Arrays.copyOf(this.spread, capacity * 4);
+            }
+
+            final int i = this.size++;
+            this.particles[i] = particle;
+            this.data[i] = extra;
+            this.counts[i] = count;
+            this.coords[i * 3] = location.getX();
+            this.coords[i * 3 + 1] = location.getY();
+            this.coords[i * 3 + 2] = location.getZ();
+            this.spread[i * 4] = (float) offsetX;
+            this.spread[i * 4 + 1] = (float) offsetY;
+            this.spread[i * 4 + 2] = (float) offsetZ;
+            this.spread[i * 4 + 3] = (float) speed;
+        }
+
+        void clear() {
+            Arrays.fill(this.data, 0, this.size, null);
+            this.size = 0;
+            this.viewer = null;
+        }
+    }
+}
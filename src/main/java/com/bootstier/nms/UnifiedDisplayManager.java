@@ -2,13 +2,17 @@ package com.bootstier.nms;
 
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
+import com.bootstier.effects.Effect;
+import com.bootstier.effects.EffectPool;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.effects.ParticleShape;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -22,27 +26,24 @@ import java.util.*;
  */
 public class UnifiedDisplayManager {
 
+    private static final ParticleShape EXPANDING_RING = ParticleShape.circle(18);
+    /** 3 strands of 20 points, turning about 0.25 rad per tick */
+    private static final ParticleShape TORNADO = ParticleShape.vortex(3, 20, 1.2, 25);
+    /** 12 points, turning about 0.13 rad per update */
+    private static final ParticleShape PEDESTAL_ORBIT = ParticleShape.ring(12, 4);
+
     private final BootsTierPlugin plugin;
 
     // Track holograms / tornado marker entities
     private final Map<UUID, Entity> temporaryEntities = new HashMap<>();
 
-    // Rotation angle for particle rings
-    private double rotation = 0;
+    private final EffectPool<AbilityRing> abilityRings = new EffectPool<>(AbilityRing::new);
+    private final EffectPool<ExpandingRing> expandingRings = new EffectPool<>(ExpandingRing::new);
+    private final EffectPool<Tornado> tornados = new EffectPool<>(Tornado::new);
+    private final EffectPool<PedestalOrbit> pedestalOrbits = new EffectPool<>(PedestalOrbit::new);
 
     public UnifiedDisplayManager(BootsTierPlugin plugin) {
         this.plugin = plugin;
-        startTickLoop();
-    }
-
-    /* =====================================================
-       UPDATE LOOP (ONLY USED FOR PEDESTAL ORBIT)
-    ===================================================== */
-    private void startTickLoop() {
-        plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            rotation += 0.15;
-            if (rotation > Math.PI * 2) rotation = 0;
-        }, 0L, 1L);
     }
 
     /* =====================================================
@@ -63,35 +64,10 @@ public class UnifiedDisplayManager {
     ===================================================== */
 
     public void createAbilityRing(Location center, double radius, int count, Material material, int durationTicks) {
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= durationTicks) {
-                    cancel();
-                    return;
-                }
-
-                for (int i = 0; i < count; i++) {
-                    double ang = (2 * Math.PI * i) / count;
-                    double x = Math.cos(ang) * radius;
-                    double z = Math.sin(ang) * radius;
-
-                    Location loc = center.clone().add(x, 0.1, z);
-
-                    center.getWorld().spawnParticle(
-                            Particle.BLOCK,
-                            loc,
-                            2, 0.05, 0.05, 0.05,
-                            0,
-                            material.createBlockData()
-                    );
-                }
-
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 2L);
+        AbilityRing ring = abilityRings.acquire();
+        ring.set(center, ParticleShape.circle(count), radius, material.createBlockData());
+        // durationTicks counts updates, one every 2 ticks
+        plugin.getEffectEngine().play(abilityRings, ring, null, center.getWorld(), durationTicks * 2, 2);
     }
 
     /* =====================================================
@@ -99,37 +75,9 @@ public class UnifiedDisplayManager {
     ===================================================== */
 
     public void animateExpandingRing(Location center, Material material, double maxRadius, int durationTicks) {
-        int points = 18;
-
-        new BukkitRunnable() {
-            double radius = 0.5;
-
-            @Override
-            public void run() {
-                if (radius >= maxRadius) {
-                    cancel();
-                    return;
-                }
-
-                for (int i = 0; i < points; i++) {
-                    double ang = (2 * Math.PI * i) / points;
-                    double x = Math.cos(ang) * radius;
-                    double z = Math.sin(ang) * radius;
-
-                    Location loc = center.clone().add(x, 0.1, z);
-
-                    center.getWorld().spawnParticle(
-                            Particle.BLOCK,
-                            loc,
-                            2, 0.05, 0.05, 0.05,
-                            0,
-                            material.createBlockData()
-                    );
-                }
-
-                radius += 0.3;
-            }
-        }.runTaskTimer(plugin, 0L, 2L);
+        ExpandingRing ring = expandingRings.acquire();
+        ring.set(center, maxRadius, material.createBlockData());
+        plugin.getEffectEngine().play(expandingRings, ring, null, center.getWorld(), 0, 2);
     }
 
     /* =====================================================
@@ -146,46 +94,10 @@ public class UnifiedDisplayManager {
         UUID id = UUID.randomUUID();
         temporaryEntities.put(id, marker);
 
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= durationTicks || marker.isDead()) {
-                    marker.remove();
-                    temporaryEntities.remove(id);
-                    cancel();
-                    return;
-                }
-
-                double height = 5.0;
-                int layers = 3;
-                int points = 20;
-
-                for (int layer = 0; layer < layers; layer++) {
-                    for (int i = 0; i < points; i++) {
-
-                        double progress = i / (double) points;
-                        double ang = (progress * 2 * Math.PI) + (ticks * 0.25) + (layer * 1.2);
-                        double radius = 2.2 * (1 - progress);
-                        double y = center.getY() + height * progress;
-
-                        double x = center.getX() + Math.cos(ang) * radius;
-                        double z = center.getZ() + Math.sin(ang) * radius;
-
-                        Location loc = new Location(center.getWorld(), x, y, z);
-
-                        center.getWorld().spawnParticle(Particle.CLOUD, loc, 2, 0.05, 0.05, 0.05, 0.01);
-
-                        if (ticks % 5 == 0) {
-                            center.getWorld().spawnParticle(Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
-                        }
-                    }
-                }
-
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        Tornado tornado = tornados.acquire();
+        tornado.set(center, marker, id);
+        // A refused tornado is finished, which removes the marker
+        plugin.getEffectEngine().play(tornados, tornado, null, center.getWorld(), durationTicks, 1);
 
         return marker;
     }
@@ -195,33 +107,10 @@ public class UnifiedDisplayManager {
     ===================================================== */
 
     public void createPedestalOrbit(Location center, int durationTicks) {
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= durationTicks) {
-                    cancel();
-                    return;
-                }
-
-                double radius = 3.0;
-                int points = 12;
-                rotation += 0.12;
-
-                for (int i = 0; i < points; i++) {
-                    double ang = rotation + ((2 * Math.PI * i) / points);
-                    double x = Math.cos(ang) * radius;
-                    double z = Math.sin(ang) * radius;
-
-                    Location loc = center.clone().add(0.5 + x, 1.4, 0.5 + z);
-
-                    center.getWorld().spawnParticle(Particle.END_ROD, loc, 1, 0, 0, 0, 0);
-                }
-
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 3L);
+        PedestalOrbit orbit = pedestalOrbits.acquire();
+        orbit.set(center);
+        // durationTicks counts updates, one every 3 ticks
+        plugin.getEffectEngine().play(pedestalOrbits, orbit, null, center.getWorld(), durationTicks * 3, 3);
     }
 
     /* =====================================================
@@ -238,4 +127,153 @@ public class UnifiedDisplayManager {
     public void cleanupPlayer(UUID playerId) {
         // No player-based displays anymore
     }
+
+    /* =====================================================
+       EFFECTS
+    ===================================================== */
+
+    private final class AbilityRing implements Effect {
+        final Location cursor = new Location(null, 0, 0, 0);
+        Location center;
+        ParticleShape shape;
+        double radius;
+        BlockData blockData;
+
+        void set(Location center, ParticleShape shape, double radius, BlockData blockData) {
+            this.center = center;
+            this.shape = shape;
+            this.radius = radius;
+            this.blockData = blockData;
+        }
+
+        @Override
+        public boolean tick(int elapsed) {
+            for (int i = 0; i < shape.getPoints(); i++) {
+                shape.place(cursor, center, 0.1, 0, i, radius, 0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
+                        Particle.BLOCK,
+                        cursor,
+                        2, 0.05, 0.05, 0.05,
+                        0,
+                        blockData
+                );
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            center = null;
+            blockData = null;
+        }
+    }
+
+    private final class ExpandingRing implements Effect {
+        final Location cursor = new Location(null, 0, 0, 0);
+        Location center;
+        double maxRadius;
+        double radius;
+        BlockData blockData;
+
+        void set(Location center, double maxRadius, BlockData blockData) {
+            this.center = center;
+            this.maxRadius = maxRadius;
+            this.radius = 0.5;
+            this.blockData = blockData;
+        }
+
+        @Override
+        public boolean tick(int elapsed) {
+            if (radius >= maxRadius) {
+                return false;
+            }
+
+            for (int i = 0; i < EXPANDING_RING.getPoints(); i++) {
+                EXPANDING_RING.place(cursor, center, 0.1, 0, i, radius, 0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH,
+                        Particle.BLOCK,
+                        cursor,
+                        2, 0.05, 0.05, 0.05,
+                        0,
+                        blockData
+                );
+            }
+
+            radius += 0.3;
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            center = null;
+            blockData = null;
+        }
+    }
+
+    private final class Tornado implements Effect {
+        final Location cursor = new Location(null, 0, 0, 0);
+        Location center;
+        ArmorStand marker;
+        UUID id;
+
+        void set(Location center, ArmorStand marker, UUID id) {
+            this.center = center;
+            this.marker = marker;
+            this.id = id;
+        }
+
+        @Override
+        public boolean tick(int elapsed) {
+            if (marker.isDead()) {
+                return false;
+            }
+
+            for (int i = 0; i < TORNADO.getPoints(); i++) {
+                TORNADO.place(cursor, center, 0, elapsed, i, 2.2, 5.0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.CLOUD, cursor, 2, 0.05, 0.05, 0.05, 0.01);
+
+                if (elapsed % 5 == 0) {
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.TELEGRAPH, Particle.SWEEP_ATTACK, cursor, 1, 0, 0, 0, 0);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            marker.remove();
+            temporaryEntities.remove(id);
+            center = null;
+            marker = null;
+            id = null;
+        }
+    }
+
+    private final class PedestalOrbit implements Effect {
+        final Location middle = new Location(null, 0, 0, 0);
+        final Location cursor = new Location(null, 0, 0, 0);
+
+        void set(Location center) {
+            middle.setWorld(center.getWorld());
+            middle.set(center.getX() + 0.5, center.getY(), center.getZ() + 0.5);
+        }
+
+        @Override
+        public boolean tick(int elapsed) {
+            for (int i = 0; i < PEDESTAL_ORBIT.getPoints(); i++) {
+                PEDESTAL_ORBIT.place(cursor, middle, 1.4, elapsed / 3, i, 3.0, 0);
+
+                plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.END_ROD, cursor, 1, 0, 0, 0, 0);
+            }
+            return true;
+        }
+
+        @Override
+        public void finish() {
+            middle.setWorld(null);
+        }
+    }
 }
@@ -26,6 +26,9 @@ public class PlayerData {
     private long lastLogin;
     private long lastSeen;
 
+    /** Set when the record has changes not yet captured in a save snapshot; never serialized */
+    private transient volatile boolean dirty;
+
     public PlayerData(final UUID playerId, final int defaultLives) {
         this.playerId = playerId;
         this.lives = defaultLives;
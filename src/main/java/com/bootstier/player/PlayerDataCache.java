@@ -0,0 +1,91 @@
+package com.bootstier.player;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Size and time bounded cache for records of players that are not online.
+ * Holds pre-login loads until the join promotes them, and recently quit players
+ * until they go unused for the expiry time. Records with unsaved changes are never evicted.
+ */
+public class PlayerDataCache {
+
+    private final int maxSize;
+    private final long expireMillis;
+    private final LinkedHashMap<UUID, Entry> entries;
+
+    public PlayerDataCache(final int maxSize, final long expireMillis) {
+        this.maxSize = Math.max(1, maxSize);
+        this.expireMillis = expireMillis;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, Entry> eldest) {
+                return this.size() > PlayerDataCache.this.maxSize && !eldest.getValue().data.isDirty();
+            }
+        };
+    }
+
+    public synchronized void put(final PlayerData data) {
+        this.entries.put(data.getPlayerId(), new Entry(data, System.currentTimeMillis()));
+    }
+
+    public synchronized PlayerData get(final UUID playerId) {
+        final Entry entry = this.entries.get(playerId);
+        if (entry == null) return null;
+
+        final long now = System.currentTimeMillis();
+        if (this.isExpired(entry, now)) {
+            this.entries.remove(playerId);
+            return null;
+        }
+        entry.lastUsed = now;
+        return entry.data;
+    }
+
+    public synchronized PlayerData remove(final UUID playerId) {
+        final Entry entry = this.entries.remove(playerId);
+        return entry == null ? null : entry.data;
+    }
+
+    /**
+     * Drops expired entries and trims back to the size bound.
+     * @return number of evicted records
+     */
+    public synchronized int evictExpired() {
+        final long now = System.currentTimeMillis();
+        int evicted = 0;
+
+        final Iterator<Entry> it = this.entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next();
+            if (entry.data.isDirty()) continue;
+
+            if (this.isExpired(entry, now) || this.entries.size() > this.maxSize) {
+                it.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    private boolean isExpired(final Entry entry, final long now) {
+        return !entry.data.isDirty() && now - entry.lastUsed > this.expireMillis;
+    }
+
+    private static final class Entry {
+        private final PlayerData data;
+        /* Refreshed on every get, so the expiry counts from the last use */
+        private long lastUsed;
+
+        private Entry(final PlayerData data, final long lastUsed) {
+            this.data = data;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
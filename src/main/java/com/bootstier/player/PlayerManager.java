@@ -3,60 +3,189 @@ package com.bootstier.player;
 import com.bootstier.BootsTierPlugin;
 import com.bootstier.boots.BootType;
 import com.bootstier.boots.BootsData;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.bootstier.player.storage.JsonPlayerDataStore;
+import com.bootstier.player.storage.PlayerDataCodecs;
+import com.bootstier.player.storage.PlayerDataImporter;
+import com.bootstier.player.storage.PlayerDataStore;
+import com.bootstier.player.storage.SegmentPlayerDataStore;
 import lombok.Getter;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Manages player data and operations
+ * Manages player data and operations.
+ * Online players are kept in {@link #playerDataMap} and on their {@link PlayerSession};
+ * everyone else is loaded on demand and held in a bounded cache.
  */
 public class PlayerManager {
 
     private final BootsTierPlugin plugin;
-    private final Gson gson;
     private final File dataFolder;
+    @Getter
+    private final PlayerDataStore store;
     
+    /** Records of online players */
     @Getter
     private final Map<UUID, PlayerData> playerDataMap;
     private final Random random;
 
+    @Getter
+    private final PlayerSaveQueue saveQueue;
+    @Getter
+    private final PlayerDataCache offlineCache;
+
     public PlayerManager(final BootsTierPlugin plugin) {
         this.plugin = plugin;
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
         this.dataFolder = new File(plugin.getDataFolder(), "playerdata");
+        this.store = this.createStore();
         this.playerDataMap = new ConcurrentHashMap<>();
         this.random = new Random();
+        this.saveQueue = new PlayerSaveQueue(plugin, this::writePlayerData,
+                plugin.getConfigManager().getWriteBehindDelay());
+        this.offlineCache = new PlayerDataCache(plugin.getConfigManager().getCacheMaxSize(),
+                TimeUnit.MINUTES.toMillis(plugin.getConfigManager().getCacheExpireMinutes()));
+    }
+
+    /**
+     * Opens the backend selected by storage.backend, importing the legacy JSON files
+     * the first time the segment store is used. Falls back to JSON if it cannot be opened.
+     */
+    private PlayerDataStore createStore() {
+        final String backend = this.plugin.getConfigManager().getStorageBackend();
 
-        if (!this.dataFolder.exists()) {
-            this.dataFolder.mkdirs();
+        if ("segment".equalsIgnoreCase(backend)) {
+            try {
+                final SegmentPlayerDataStore segmentStore = new SegmentPlayerDataStore(
+                        new File(this.plugin.getDataFolder(), "store").toPath(),
+                        PlayerDataCodecs.byName(this.plugin.getConfigManager().getStorageCodec()),
+                        this.plugin.getLogger(),
+                        this.plugin.getConfigManager().getCompactionGarbageRatio(),
+                        this.plugin.getConfigManager().getCompactionMinSize() * 1024L);
+                PlayerDataImporter.importJson(this.dataFolder, segmentStore, this.plugin.getLogger());
+                return segmentStore;
+            } catch (final IOException e) {
+                this.plugin.getLogger().severe("Failed to open segment player store, using JSON files: " + e.getMessage());
+            }
+        } else if (!"json".equalsIgnoreCase(backend)) {
+            this.plugin.getLogger().warning("Unknown storage backend '" + backend + "', using json");
         }
 
-        this.loadAllPlayerData();
+        return new JsonPlayerDataStore(this.dataFolder);
     }
 
+    /**
+     * Returns the record of a player. Online players are served from memory; for an offline
+     * player this falls back to a blocking load on the calling thread, so prefer
+     * {@link #getPlayerDataAsync(UUID)} whenever the player may be offline.
+     */
     public PlayerData getPlayerData(final UUID playerId) {
-        return this.playerDataMap.computeIfAbsent(playerId, id -> {
-            final PlayerData data = this.loadPlayerData(id);
-            if (data != null) {
-                return data;
+        final PlayerData online = this.playerDataMap.get(playerId);
+        if (online != null) {
+            return online;
+        }
+
+        final Player player = Bukkit.getPlayer(playerId);
+        if (player != null) {
+            return this.getPlayerData(player);
+        }
+
+        PlayerData data = this.offlineCache.get(playerId);
+        if (data == null) {
+            if (this.plugin.getConfigManager().isDebug()) {
+                this.plugin.getLogger().warning("Blocking load of offline player data for " + playerId);
             }
-            return new PlayerData(id, this.plugin.getConfigManager().getDefaultLives());
-        });
+            data = this.resolvePlayerData(playerId);
+            this.offlineCache.put(data);
+        }
+        return data;
     }
 
+    /**
+     * Returns an online player's record, cached on their session after the first lookup.
+     */
     public PlayerData getPlayerData(final Player player) {
-        return this.getPlayerData(player.getUniqueId());
+        if (!player.isOnline()) {
+            // Keep stale references from opening a session that quit would never close
+            return this.getPlayerData(player.getUniqueId());
+        }
+        return this.getSession(player).getData();
+    }
+
+    /**
+     * Returns the player's session with its record attached, loading the record if needed.
+     */
+    public PlayerSession getSession(final Player player) {
+        final PlayerSession session = this.plugin.getSessionRegistry().get(player);
+        if (session.getData() == null) {
+            session.setData(this.playerDataMap.computeIfAbsent(player.getUniqueId(), this::resolvePlayerData));
+        }
+        return session;
+    }
+
+    /**
+     * Looks up a record without blocking: completes immediately when the record is in memory,
+     * otherwise loads it on the I/O thread. The future completes off the main thread.
+     */
+    public CompletableFuture<PlayerData> getPlayerDataAsync(final UUID playerId) {
+        PlayerData data = this.playerDataMap.get(playerId);
+        if (data == null) {
+            data = this.offlineCache.get(playerId);
+        }
+        if (data != null) {
+            return CompletableFuture.completedFuture(data);
+        }
+
+        return this.saveQueue.supply(() -> {
+            final PlayerData online = this.playerDataMap.get(playerId);
+            if (online != null) {
+                return online;
+            }
+            final PlayerData loaded = this.resolvePlayerData(playerId);
+            this.offlineCache.put(loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * Loads a joining player's record ahead of the join. Called from AsyncPlayerPreLoginEvent,
+     * so blocking here only holds the login thread.
+     */
+    public void preloadPlayerData(final UUID playerId) {
+        if (this.playerDataMap.containsKey(playerId)) {
+            return;
+        }
+        this.getPlayerDataAsync(playerId).join();
+    }
+
+    /**
+     * Picks the freshest copy of a record: cache, then a write still queued, then disk,
+     * then a brand new record.
+     */
+    private PlayerData resolvePlayerData(final UUID playerId) {
+        PlayerData data = this.offlineCache.remove(playerId);
+        if (data == null) {
+            final PlayerSnapshot queued = this.saveQueue.peek(playerId);
+            if (queued != null) {
+                data = queued.toPlayerData();
+            }
+        }
+        if (data == null) {
+            data = this.loadPlayerData(playerId);
+        }
+        if (data == null) {
+            data = new PlayerData(playerId, this.plugin.getConfigManager().getDefaultLives());
+        }
+        return data;
     }
 
     public void createNewPlayer(final Player player) {
@@ -67,6 +196,7 @@ public class PlayerManager {
         data.setBootsData(new BootsData(randomBootType));
         
         this.playerDataMap.put(player.getUniqueId(), data);
+        this.plugin.getSessionRegistry().get(player).setData(data);
         this.savePlayerData(data);
     }
 
@@ -119,64 +249,106 @@ public class PlayerManager {
     }
 
     private PlayerData loadPlayerData(final UUID playerId) {
-        final File file = new File(this.dataFolder, playerId.toString() + ".json");
-        if (!file.exists()) {
-            return null;
-        }
-
-        try (final FileReader reader = new FileReader(file)) {
-            return this.gson.fromJson(reader, PlayerData.class);
+        try {
+            return this.store.load(playerId);
         } catch (final IOException e) {
             this.plugin.getLogger().warning("Failed to load player data for " + playerId + ": " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Snapshots the record and queues it for a write-behind save.
+     * Must be called on the main thread; never touches the disk.
+     */
     public void savePlayerData(final PlayerData data) {
-        final File file = new File(this.dataFolder, data.getPlayerId().toString() + ".json");
-        
-        try (final FileWriter writer = new FileWriter(file)) {
-            this.gson.toJson(data, writer);
-        } catch (final IOException e) {
-            this.plugin.getLogger().warning("Failed to save player data for " + data.getPlayerId() + ": " + e.getMessage());
+        if (data == null) return;
+        data.setDirty(false);
+        this.saveQueue.enqueue(PlayerSnapshot.of(data));
+    }
+
+    /**
+     * Flags a record as changed without snapshotting it now. Meant for high-frequency
+     * mutations (per-hit counters); the periodic dirty sweep captures it within a few seconds.
+     */
+    public void markDirty(final PlayerData data) {
+        if (data != null) {
+            data.setDirty(true);
         }
     }
 
+    /**
+     * Snapshots and queues every online record with changes that were never queued.
+     * Must be called on the main thread.
+     */
     public void saveAllPlayerData() {
         for (final PlayerData data : this.playerDataMap.values()) {
-            this.savePlayerData(data);
+            if (data.isDirty()) {
+                this.savePlayerData(data);
+            }
         }
     }
 
-    private void loadAllPlayerData() {
-        if (!this.dataFolder.exists()) {
-            return;
-        }
+    /**
+     * Queues all dirty records and blocks until they are written. Only for onDisable.
+     */
+    public void shutdown() {
+        this.saveAllPlayerData();
+        this.saveQueue.shutdown();
 
-        final File[] files = this.dataFolder.listFiles((dir, name) -> name.endsWith(".json"));
-        if (files == null) {
-            return;
+        try {
+            this.store.close();
+        } catch (final IOException e) {
+            this.plugin.getLogger().warning("Failed to close player store: " + e.getMessage());
         }
+    }
 
-        for (final File file : files) {
+    /**
+     * Runs store housekeeping (compaction) on the I/O thread.
+     */
+    public void runStoreMaintenance() {
+        this.saveQueue.supply(() -> {
             try {
-                final String fileName = file.getName();
-                final UUID playerId = UUID.fromString(fileName.substring(0, fileName.length() - 5));
-                final PlayerData data = this.loadPlayerData(playerId);
-                if (data != null) {
-                    this.playerDataMap.put(playerId, data);
-                }
-            } catch (final IllegalArgumentException e) {
-                this.plugin.getLogger().warning("Invalid player data file: " + file.getName());
+                this.store.maintenance();
+            } catch (final IOException e) {
+                this.plugin.getLogger().warning("Player store maintenance failed: " + e.getMessage());
             }
+            return null;
+        });
+    }
+
+    /**
+     * Performs the actual store write. Runs on the save queue's I/O thread.
+     */
+    private void writePlayerData(final PlayerSnapshot snapshot) {
+        try {
+            this.store.save(snapshot);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Moves a quitting player's record out of the online map: stamps last seen, flushes it
+     * through the write queue and parks it in the offline cache until it expires.
+     */
     public void unloadPlayer(final Player player) {
-        final PlayerData data = this.playerDataMap.get(player.getUniqueId());
+        final PlayerData data = this.playerDataMap.remove(player.getUniqueId());
         if (data != null) {
             data.setLastSeen(System.currentTimeMillis());
             this.savePlayerData(data);
+            this.saveQueue.flush(player.getUniqueId());
+            this.offlineCache.put(data);
+        }
+    }
+
+    /**
+     * Drops cached offline records that expired or exceed the cache bound.
+     */
+    public void evictOfflineCache() {
+        final int evicted = this.offlineCache.evictExpired();
+        if (evicted > 0 && this.plugin.getConfigManager().isDebug()) {
+            this.plugin.getLogger().info("Evicted " + evicted + " cached offline player records");
         }
     }
 }
@@ -0,0 +1,177 @@
+package com.bootstier.player;
+
+import com.bootstier.BootsTierPlugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind queue for player data.
+ *
+ * Saves are recorded per UUID as immutable snapshots and written by a single I/O thread
+ * after a short delay, so a burst of saves for the same player collapses into one disk
+ * write, the main thread never blocks on the file system, and the writer never reads
+ * objects the main thread is mutating.
+ */
+public class PlayerSaveQueue {
+
+    private final BootsTierPlugin plugin;
+    private final Consumer<PlayerSnapshot> writer;
+    private final long writeDelayMillis;
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** Latest snapshot waiting to be written, per player */
+    private final Map<UUID, PlayerSnapshot> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public PlayerSaveQueue(final BootsTierPlugin plugin, final Consumer<PlayerSnapshot> writer, final long writeDelayMillis) {
+        this.plugin = plugin;
+        this.writer = writer;
+        this.writeDelayMillis = Math.max(0L, writeDelayMillis);
+
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "BootsTier-DataWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Pending delayed writes are drained by shutdown() itself, not by the executor
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Queues a write for the given snapshot. If a write for the same player is already
+     * pending, the newer snapshot replaces it.
+     */
+    public void enqueue(final PlayerSnapshot snapshot) {
+        if (snapshot == null || snapshot.playerId() == null) return;
+
+        this.requested.incrementAndGet();
+        final UUID playerId = snapshot.playerId();
+
+        if (this.pending.put(playerId, snapshot) != null) {
+            this.coalesced.incrementAndGet();
+            return;
+        }
+
+        if (this.executor.isShutdown()) {
+            // Late save during disable; shutdown() drains whatever is left
+            return;
+        }
+        this.executor.schedule(() -> this.writePending(playerId), this.writeDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending record for a player as soon as the I/O thread is free,
+     * skipping the coalescing delay. Used when a player leaves.
+     */
+    public void flush(final UUID playerId) {
+        if (this.executor.isShutdown()) return;
+        this.executor.execute(() -> this.writePending(playerId));
+    }
+
+    /**
+     * Returns the snapshot waiting to be written for a player, if any. Loads must prefer
+     * this over the file on disk, which may not have caught up yet.
+     */
+    public PlayerSnapshot peek(final UUID playerId) {
+        return this.pending.get(playerId);
+    }
+
+    /**
+     * Runs a read on the I/O thread. Writes are delayed by the write-behind window, so the
+     * read may run before a save queued earlier reaches disk; callers must check
+     * {@link #peek} for a pending snapshot first, as {@link PlayerManager} does when resolving data.
+     */
+    public <T> CompletableFuture<T> supply(final Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this.executor);
+        } catch (final RejectedExecutionException e) {
+            // Disabling; fall back to the caller's thread
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    /**
+     * Stops the I/O thread and synchronously writes everything still pending.
+     * Must be called once from onDisable.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.plugin.getLogger().warning("Player data writer did not stop in time, forcing remaining saves");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (final UUID playerId : this.pending.keySet()) {
+            this.writePending(playerId);
+        }
+    }
+
+    private void writePending(final UUID playerId) {
+        final PlayerSnapshot snapshot = this.pending.remove(playerId);
+        if (snapshot == null) {
+            // Already written by an earlier flush
+            return;
+        }
+
+        try {
+            this.writer.accept(snapshot);
+            this.written.incrementAndGet();
+        } catch (final RuntimeException e) {
+            this.failed.incrementAndGet();
+            this.plugin.getLogger().warning("Failed to write player data for " + playerId + ": " + e.getMessage());
+
+            // Retry later unless a newer snapshot has been queued meanwhile
+            if (this.pending.putIfAbsent(playerId, snapshot) == null && !this.executor.isShutdown()) {
+                this.executor.schedule(() -> this.writePending(playerId), this.writeDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /* ---------------------------------------------
+       METRICS
+    --------------------------------------------- */
+
+    public int getQueueDepth() {
+        return this.pending.size();
+    }
+
+    public long getRequestedSaves() {
+        return this.requested.get();
+    }
+
+    public long getCoalescedSaves() {
+        return this.coalesced.get();
+    }
+
+    public long getWrittenSaves() {
+        return this.written.get();
+    }
+
+    public long getFailedSaves() {
+        return this.failed.get();
+    }
+
+    /**
+     * Fraction of save requests that were absorbed by an already pending write (0..1).
+     */
+    public double getCoalescingRatio() {
+        final long total = this.requested.get();
+        return total == 0L ? 0.0 : (double) this.coalesced.get() / total;
+    }
+}
@@ -0,0 +1,40 @@
+package com.bootstier.player;
+
+import com.bootstier.boots.BootType;
+import com.bootstier.boots.BootsData;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * One online player as seen by the {@link PlayerSessionRegistry}. Holds the player's
+ * slot, which indexes every per-player array in the plugin, and their loaded record.
+ */
+@Getter
+public final class PlayerSession {
+
+    private final int slot;
+    private final UUID playerId;
+    private final Player player;
+
+    /** The online record, set by the PlayerManager on first lookup */
+    @Setter(AccessLevel.PACKAGE)
+    private PlayerData data;
+
+    PlayerSession(final int slot, final Player player) {
+        this.slot = slot;
+        this.playerId = player.getUniqueId();
+        this.player = player;
+    }
+
+    /**
+     * @return the equipped boot type, or null when the player has no boots yet
+     */
+    public BootType getBootType() {
+        final BootsData bootsData = this.data == null ? null : this.data.getBootsData();
+        return bootsData == null ? null : bootsData.getBootType();
+    }
+}
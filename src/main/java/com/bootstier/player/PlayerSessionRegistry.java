@@ -0,0 +1,120 @@
+package com.bootstier.player;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Gives every online player a {@link PlayerSession} and a small dense slot number, so
+ * per-player state can be kept in flat arrays instead of UUID keyed maps. A session is
+ * opened on join (or on first use for players already online at enable) and its slot
+ * is recycled when the player quits. Main thread only.
+ */
+public class PlayerSessionRegistry {
+
+    private final Map<UUID, PlayerSession> byId = new HashMap<>();
+    private final List<IntConsumer> releaseListeners = new ArrayList<>();
+
+    /* Indexed by session slot */
+    private PlayerSession[] sessions = new PlayerSession[16];
+
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int nextSlot;
+
+    /**
+     * @return the player's session, opening one if they have none yet
+     */
+    public PlayerSession get(final Player player) {
+        final PlayerSession session = this.byId.get(player.getUniqueId());
+        if (session != null) {
+            return session;
+        }
+
+        final int slot = this.freeCount > 0 ? this.freeSlots[--this.freeCount] : this.nextSlot++;
+        if (slot >= this.sessions.length) {
+            this.sessions = Arrays.copyOf(this.sessions, Math.max(this.sessions.length * 2, slot + 1));
+        }
+
+        final PlayerSession opened = new PlayerSession(slot, player);
+        this.sessions[slot] = opened;
+        this.byId.put(player.getUniqueId(), opened);
+        return opened;
+    }
+
+    /**
+     * @return the session in this slot, or null when the slot is free
+     */
+    public PlayerSession get(final int slot) {
+        return slot >= 0 && slot < this.sessions.length ? this.sessions[slot] : null;
+    }
+
+    /**
+     * @return the player's slot, opening a session if they have none yet
+     */
+    public int slot(final Player player) {
+        return this.get(player).getSlot();
+    }
+
+    /**
+     * Slot for writers that may run after the player quit, such as delayed tasks. Unlike
+     * {@link #slot(Player)} it never opens a session for someone who is gone, which would
+     * otherwise leak until they rejoin.
+     *
+     * @return the player's slot, or -1 when they are offline
+     */
+    public int slotIfOnline(final Player player) {
+        return player.isOnline() ? this.slot(player) : -1;
+    }
+
+    /**
+     * @return the player's slot, or -1 when they have no session
+     */
+    public int find(final UUID playerId) {
+        final PlayerSession session = this.byId.get(playerId);
+        return session == null ? -1 : session.getSlot();
+    }
+
+    /**
+     * Closes the player's session. Release listeners run first so they can clear
+     * whatever they stored under the slot before it is handed out again.
+     */
+    public void release(final UUID playerId) {
+        final PlayerSession session = this.byId.remove(playerId);
+        if (session == null) {
+            return;
+        }
+
+        final int slot = session.getSlot();
+        for (final IntConsumer listener : this.releaseListeners) {
+            listener.accept(slot);
+        }
+        this.sessions[slot] = null;
+
+        if (this.freeCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeCount * 2);
+        }
+        this.freeSlots[this.freeCount++] = slot;
+    }
+
+    public void addReleaseListener(final IntConsumer listener) {
+        this.releaseListeners.add(listener);
+    }
+
+    /**
+     * @return one past the highest slot ever assigned
+     */
+    public int getCapacity() {
+        return this.nextSlot;
+    }
+
+    public int size() {
+        return this.byId.size();
+    }
+}
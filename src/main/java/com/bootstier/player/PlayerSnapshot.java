@@ -0,0 +1,85 @@
+package com.bootstier.player;
+
+import com.bootstier.boots.BootType;
+import com.bootstier.boots.BootsData;
+import com.bootstier.boots.BootsTier;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a PlayerData record, taken on the main thread and handed to the
+ * I/O thread for serialization. Component names match the PlayerData/BootsData fields,
+ * so Gson writes exactly the same JSON layout as the live objects.
+ */
+public record PlayerSnapshot(UUID playerId,
+                             int lives,
+                             BootsSnapshot bootsData,
+                             Set<UUID> trustedPlayers,
+                             boolean firstJoin,
+                             long lastLogin,
+                             long lastSeen) {
+
+    public static PlayerSnapshot of(final PlayerData data) {
+        final Set<UUID> trusted = data.getTrustedPlayers();
+        return new PlayerSnapshot(
+                data.getPlayerId(),
+                data.getLives(),
+                BootsSnapshot.of(data.getBootsData()),
+                trusted == null || trusted.isEmpty() ? Set.of() : Set.copyOf(trusted),
+                data.isFirstJoin(),
+                data.getLastLogin(),
+                data.getLastSeen());
+    }
+
+    /**
+     * @return a new mutable record with the snapshot's contents
+     */
+    public PlayerData toPlayerData() {
+        final PlayerData data = new PlayerData();
+        data.setPlayerId(this.playerId);
+        data.setLives(this.lives);
+        data.setBootsData(this.bootsData == null ? null : this.bootsData.toBootsData());
+        data.setTrustedPlayers(this.trustedPlayers == null ? new HashSet<>() : new HashSet<>(this.trustedPlayers));
+        data.setFirstJoin(this.firstJoin);
+        data.setLastLogin(this.lastLogin);
+        data.setLastSeen(this.lastSeen);
+        return data;
+    }
+
+    public record BootsSnapshot(BootType bootType,
+                                BootsTier tier,
+                                boolean broken,
+                                long lastAbilityUse,
+                                long abilityActiveUntil,
+                                long lastTier2AbilityUse,
+                                long tier2AbilityActiveUntil,
+                                int hitCounter,
+                                double radius,
+                                boolean lowLifeWarningShown) {
+
+        public static BootsSnapshot of(final BootsData boots) {
+            if (boots == null) {
+                return null;
+            }
+            return new BootsSnapshot(
+                    boots.getBootType(),
+                    boots.getTier(),
+                    boots.isBroken(),
+                    boots.getLastAbilityUse(),
+                    boots.getAbilityActiveUntil(),
+                    boots.getLastTier2AbilityUse(),
+                    boots.getTier2AbilityActiveUntil(),
+                    boots.getHitCounter(),
+                    boots.getRadius(),
+                    boots.isLowLifeWarningShown());
+        }
+
+        public BootsData toBootsData() {
+            return new BootsData(this.bootType, this.tier, this.broken, this.lastAbilityUse, this.abilityActiveUntil,
+                    this.lastTier2AbilityUse, this.tier2AbilityActiveUntil, this.hitCounter, this.radius,
+                    this.lowLifeWarningShown);
+        }
+    }
+}
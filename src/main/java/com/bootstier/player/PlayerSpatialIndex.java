@@ -0,0 +1,413 @@
+package com.bootstier.player;
+
+import com.bootstier.BootsTierPlugin;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Buckets online players into 8x8 block columns per world, so a radius query only looks
+ * at players in the columns the radius touches instead of everyone in the world.
+ *
+ * Buckets follow move, teleport, world change and respawn events, plus a once a second
+ * resync for movement no event reports (riding a vehicle). Candidates are compared by
+ * squared distance against their live location, read into a reused Location, so queries
+ * never allocate. Bucket changes made from inside a query callback are applied once the
+ * query ends. Main thread only.
+ */
+public class PlayerSpatialIndex implements Listener {
+
+    private static final int CELL_SHIFT = 3;
+    private static final long RESYNC_INTERVAL_TICKS = 20L;
+
+    private final BootsTierPlugin plugin;
+    private final PlayerSessionRegistry sessionRegistry;
+    private final Map<UUID, CellTable> worlds = new HashMap<>();
+
+    /* Indexed by session slot; a null player with a world set is a deferred removal */
+    private Player[] players = new Player[16];
+    private UUID[] playerWorlds = new UUID[16];
+    private long[] playerCells = new long[16];
+
+    /* Reused for candidate positions */
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    private int queryDepth;
+    private final BitSet deferred = new BitSet();
+
+    public PlayerSpatialIndex(final BootsTierPlugin plugin, final PlayerSessionRegistry sessionRegistry) {
+        this.plugin = plugin;
+        this.sessionRegistry = sessionRegistry;
+        sessionRegistry.addReleaseListener(this::release);
+    }
+
+    public void start() {
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+        this.plugin.getTickScheduler().runTimer(this::resync, 1L, RESYNC_INTERVAL_TICKS);
+    }
+
+    /* ---------------------------------------------
+       QUERIES
+    --------------------------------------------- */
+
+    /**
+     * Runs {@code action} for every online player within {@code radius} of {@code center},
+     * measured from their feet.
+     */
+    public void forEachInRadius(final Location center, final double radius, final Consumer<Player> action) {
+        this.query(center, radius, action, null);
+    }
+
+    /**
+     * @return the first player within {@code radius} matching {@code filter}, or null
+     */
+    public Player findInRadius(final Location center, final double radius, final Predicate<Player> filter) {
+        return this.query(center, radius, null, filter);
+    }
+
+    /**
+     * Collects the players within {@code radius} into a new list, for callers that keep them.
+     */
+    public List<Player> getPlayersInRadius(final Location center, final double radius) {
+        final List<Player> found = new ArrayList<>();
+        this.forEachInRadius(center, radius, found::add);
+        return found;
+    }
+
+    /**
+     * Visits matches with {@code action}, or stops at the first one {@code filter} accepts.
+     */
+    private Player query(final Location center, final double radius, final Consumer<Player> action,
+                         final Predicate<Player> filter) {
+        final World world = center.getWorld();
+        final CellTable cells = world == null ? null : this.worlds.get(world.getUID());
+        if (cells == null) {
+            return null;
+        }
+
+        final double x = center.getX();
+        final double y = center.getY();
+        final double z = center.getZ();
+        final double radiusSquared = radius * radius;
+        final int minCellX = floor(x - radius) >> CELL_SHIFT;
+        final int maxCellX = floor(x + radius) >> CELL_SHIFT;
+        final int minCellZ = floor(z - radius) >> CELL_SHIFT;
+        final int maxCellZ = floor(z + radius) >> CELL_SHIFT;
+
+        this.queryDepth++;
+        try {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    final Cell cell = cells.get(key(cellX, cellZ));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (int i = 0; i < cell.count; i++) {
+                        final Player player = this.players[cell.slots[i]];
+                        if (player == null) {
+                            continue;
+                        }
+
+                        player.getLocation(this.scratch);
+                        if (this.scratch.getWorld() != world) {
+                            continue;
+                        }
+                        final double dx = this.scratch.getX() - x;
+                        final double dy = this.scratch.getY() - y;
+                        final double dz = this.scratch.getZ() - z;
+                        if (dx * dx + dy * dy + dz * dz > radiusSquared) {
+                            continue;
+                        }
+                        if (filter == null) {
+                            action.accept(player);
+                        } else if (filter.test(player)) {
+                            return player;
+                        }
+                    }
+                }
+            }
+            return null;
+        } finally {
+            if (--this.queryDepth == 0 && !this.deferred.isEmpty()) {
+                this.applyDeferred();
+            }
+        }
+    }
+
+    /* ---------------------------------------------
+       UPDATES
+    --------------------------------------------- */
+
+    private void update(final Player player, final Location location) {
+        final World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+
+        final int slot = this.sessionRegistry.slotIfOnline(player);
+        if (slot < 0) {
+            return;
+        }
+        if (this.queryDepth > 0) {
+            this.deferred.set(slot);
+            return;
+        }
+        this.ensureCapacity(slot);
+
+        final UUID worldId = world.getUID();
+        final long cell = key(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+        if (this.players[slot] == player && this.playerCells[slot] == cell && worldId.equals(this.playerWorlds[slot])) {
+            return;
+        }
+
+        this.remove(slot);
+        this.worlds.computeIfAbsent(worldId, k -> new CellTable()).getOrCreate(cell).add(slot);
+        this.players[slot] = player;
+        this.playerWorlds[slot] = worldId;
+        this.playerCells[slot] = cell;
+    }
+
+    private void remove(final int slot) {
+        final UUID worldId = this.playerWorlds[slot];
+        if (worldId == null) {
+            return;
+        }
+
+        final CellTable cells = this.worlds.get(worldId);
+        if (cells != null) {
+            cells.remove(this.playerCells[slot], slot);
+        }
+        this.players[slot] = null;
+        this.playerWorlds[slot] = null;
+    }
+
+    private void release(final int slot) {
+        if (slot >= this.players.length) {
+            return;
+        }
+        if (this.queryDepth > 0) {
+            // Hidden from the running query now, unlinked from its cell once it ends
+            this.players[slot] = null;
+            this.deferred.set(slot);
+            return;
+        }
+        this.remove(slot);
+    }
+
+    private void applyDeferred() {
+        for (int slot = this.deferred.nextSetBit(0); slot >= 0; slot = this.deferred.nextSetBit(slot + 1)) {
+            this.deferred.clear(slot);
+            final PlayerSession session = this.sessionRegistry.get(slot);
+            if (session == null || !session.getPlayer().isOnline()) {
+                if (slot < this.players.length) {
+                    this.remove(slot);
+                }
+            } else {
+                this.update(session.getPlayer(), session.getPlayer().getLocation(this.scratch));
+            }
+        }
+    }
+
+    private void resync() {
+        for (final Player player : this.plugin.getServer().getOnlinePlayers()) {
+            this.update(player, player.getLocation(this.scratch));
+        }
+    }
+
+    /* ---------------------------------------------
+       EVENTS
+    --------------------------------------------- */
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        this.update(event.getPlayer(), event.getPlayer().getLocation(this.scratch));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(final PlayerMoveEvent event) {
+        final Location from = event.getFrom();
+        final Location to = event.getTo();
+        // Most moves stay inside one column
+        if ((from.getBlockX() >> CELL_SHIFT) == (to.getBlockX() >> CELL_SHIFT)
+                && (from.getBlockZ() >> CELL_SHIFT) == (to.getBlockZ() >> CELL_SHIFT)
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        this.update(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(final PlayerTeleportEvent event) {
+        this.update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(final PlayerChangedWorldEvent event) {
+        this.update(event.getPlayer(), event.getPlayer().getLocation(this.scratch));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(final PlayerRespawnEvent event) {
+        this.update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private void ensureCapacity(final int slot) {
+        if (slot < this.players.length) {
+            return;
+        }
+
+        final int capacity = Math.max(this.players.length * 2, slot + 1);
+        this.players = Arrays.copyOf(this.players, capacity);
+        this.playerWorlds = Arrays.copyOf(this.playerWorlds, capacity);
+        this.playerCells = Arrays.copyOf(this.playerCells, capacity);
+    }
+
+    private static int floor(final double value) {
+        final int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+
+    private static long key(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Slots of the players standing in one column.
+     */
+    private static final class Cell {
+
+        private int[] slots = new int[4];
+        private int count;
+
+        private void add(final int slot) {
+            if (this.count == this.slots.length) {
+                this.slots = Arrays.copyOf(this.slots, this.count * 2);
+            }
+            this.slots[this.count++] = slot;
+        }
+
+        private void remove(final int slot) {
+            for (int i = 0; i < this.count; i++) {
+                if (this.slots[i] == slot) {
+                    this.slots[i] = this.slots[--this.count];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Open addressing map from column key to {@link Cell}, so lookups never box the key.
+     * Empty cells are dropped with backward shift deletion.
+     */
+    private static final class CellTable {
+
+        private long[] keys = new long[64];
+        private Cell[] cells = new Cell[64];
+        private int size;
+
+        private Cell get(final long key) {
+            final int mask = this.keys.length - 1;
+            for (int i = hash(key) & mask; this.cells[i] != null; i = (i + 1) & mask) {
+                if (this.keys[i] == key) {
+                    return this.cells[i];
+                }
+            }
+            return null;
+        }
+
+        private Cell getOrCreate(final long key) {
+            final Cell existing = this.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            if ((this.size + 1) * 2 > this.keys.length) {
+                this.resize(this.keys.length * 2);
+            }
+            final Cell cell = new Cell();
+            this.insert(key, cell);
+            this.size++;
+            return cell;
+        }
+
+        private void remove(final long key, final int slot) {
+            final int mask = this.keys.length - 1;
+            int i = hash(key) & mask;
+            while (this.cells[i] != null && this.keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            final Cell cell = this.cells[i];
+            if (cell == null) {
+                return;
+            }
+
+            cell.remove(slot);
+            if (cell.count > 0) {
+                return;
+            }
+
+            this.cells[i] = null;
+            this.size--;
+            for (int j = (i + 1) & mask; this.cells[j] != null; j = (j + 1) & mask) {
+                // Move back any entry whose probe would otherwise cross the new gap
+                if (((j - (hash(this.keys[j]) & mask)) & mask) >= ((j - i) & mask)) {
+                    this.keys[i] = this.keys[j];
+                    this.cells[i] = this.cells[j];
+                    this.cells[j] = null;
+                    i = j;
+                }
+            }
+        }
+
+        private void insert(final long key, final Cell cell) {
+            final int mask = this.keys.length - 1;
+            int i = hash(key) & mask;
+            while (this.cells[i] != null) {
+                i = (i + 1) & mask;
+            }
+            this.keys[i] = key;
+            this.cells[i] = cell;
+        }
+
+        private void resize(final int capacity) {
+            final long[] oldKeys = this.keys;
+            final Cell[] oldCells = this.cells;
+            this.keys = new long[capacity];
+            this.cells = new Cell[capacity];
+            for (int i = 0; i < oldCells.length; i++) {
+                if (oldCells[i] != null) {
+                    this.insert(oldKeys[i], oldCells[i]);
+                }
+            }
+        }
+
+        private static int hash(final long key) {
+            final int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.boots.BootType;
+import com.bootstier.boots.BootsTier;
+import com.bootstier.boots.BootsData;
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+import com.bootstier.player.PlayerSnapshot.BootsSnapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Versioned fixed-width binary encoding of PlayerData and BootsData.
+ *
+ * Layout (schema version 1):
+ * <pre>
+ *   u8   schema version
+ *   i64  uuid msb, i64 uuid lsb
+ *   var  lives (zigzag)
+ *   u8   flags: 1 = firstJoin, 2 = has boots
+ *   i64  lastLogin, i64 lastSeen
+ *   boots block, only with flag 2:
+ *     var  block length
+ *     u8   boot type code, u8 tier code, u8 flags (1 = broken, 2 = lowLifeWarningShown)
+ *     i64  lastAbilityUse, abilityActiveUntil, lastTier2AbilityUse, tier2AbilityActiveUntil
+ *     var  hitCounter (zigzag)
+ *     f64  radius
+ *   var  trusted count, then count x (i64 msb, i64 lsb)
+ * </pre>
+ *
+ * Enums are stored as codes into the frozen name tables below, not as Java ordinals,
+ * so reordering an enum never changes stored data; new constants are appended to the
+ * tables. Newer schema versions may only append fields (at the end of the record or of
+ * the length-prefixed boots block), which older readers skip.
+ */
+public class BinaryPlayerDataCodec implements PlayerDataCodec {
+
+    public static final byte ID = 2;
+
+    private static final int SCHEMA_VERSION = 1;
+
+    /** Persisted code -> enum constant name. Append only. */
+    private static final String[] BOOT_TYPE_NAMES = {
+            "SPEED", "STRENGTH", "WARD", "SPIDER", "FROST", "WIND", "ASTRAL", "LIFE", "WATER", "FIRE"
+    };
+    private static final String[] TIER_NAMES = {"TIER_1", "TIER_2"};
+
+    private static final int UNKNOWN_CODE = 0xFF;
+
+    private static final int FLAG_FIRST_JOIN = 1;
+    private static final int FLAG_HAS_BOOTS = 2;
+    private static final int BOOTS_FLAG_BROKEN = 1;
+    private static final int BOOTS_FLAG_LOW_LIFE_WARNING = 2;
+
+    /** Bytes of the boots block with a maximum-width hit counter, before any extension fields */
+    private static final int BOOTS_BLOCK_SIZE = 3 + 4 * 8 + 5 + 8;
+
+    /* Java enum ordinal -> persisted code, built once from the name tables */
+    private static final int[] BOOT_TYPE_CODES = codesFor(BootType.values(), BOOT_TYPE_NAMES);
+    private static final int[] TIER_CODES = codesFor(BootsTier.values(), TIER_NAMES);
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    /* ---------------------------------------------
+       ENCODE
+    --------------------------------------------- */
+
+    @Override
+    public byte[] encode(final PlayerSnapshot data) {
+        final Set<UUID> trusted = data.trustedPlayers();
+        final int trustedCount = trusted == null ? 0 : trusted.size();
+        final BootsSnapshot boots = data.bootsData();
+
+        final ByteBuffer out = ByteBuffer.allocate(1 + 16 + 5 + 1 + 16
+                + (boots == null ? 0 : 5 + BOOTS_BLOCK_SIZE)
+                + 5 + trustedCount * 16);
+
+        out.put((byte) SCHEMA_VERSION);
+        out.putLong(data.playerId().getMostSignificantBits());
+        out.putLong(data.playerId().getLeastSignificantBits());
+        putVarInt(out, zigzag(data.lives()));
+        out.put((byte) ((data.firstJoin() ? FLAG_FIRST_JOIN : 0) | (boots != null ? FLAG_HAS_BOOTS : 0)));
+        out.putLong(data.lastLogin());
+        out.putLong(data.lastSeen());
+
+        if (boots != null) {
+            final int hitCounter = zigzag(boots.hitCounter());
+            // Block size is BOOTS_BLOCK_SIZE with the hit counter varint at its actual width
+            putVarInt(out, BOOTS_BLOCK_SIZE - 5 + varIntSize(hitCounter));
+            out.put((byte) (boots.bootType() == null ? UNKNOWN_CODE : BOOT_TYPE_CODES[boots.bootType().ordinal()]));
+            out.put((byte) (boots.tier() == null ? UNKNOWN_CODE : TIER_CODES[boots.tier().ordinal()]));
+            out.put((byte) ((boots.broken() ? BOOTS_FLAG_BROKEN : 0)
+                    | (boots.lowLifeWarningShown() ? BOOTS_FLAG_LOW_LIFE_WARNING : 0)));
+            out.putLong(boots.lastAbilityUse());
+            out.putLong(boots.abilityActiveUntil());
+            out.putLong(boots.lastTier2AbilityUse());
+            out.putLong(boots.tier2AbilityActiveUntil());
+            putVarInt(out, hitCounter);
+            out.putDouble(boots.radius());
+        }
+
+        putVarInt(out, trustedCount);
+        if (trusted != null) {
+            for (final UUID id : trusted) {
+                out.putLong(id.getMostSignificantBits());
+                out.putLong(id.getLeastSignificantBits());
+            }
+        }
+
+        final byte[] bytes = new byte[out.position()];
+        out.flip().get(bytes);
+        return bytes;
+    }
+
+    /* ---------------------------------------------
+       DECODE
+    --------------------------------------------- */
+
+    @Override
+    public PlayerData decode(final byte[] bytes) throws IOException {
+        try {
+            final ByteBuffer in = ByteBuffer.wrap(bytes);
+            final int version = in.get() & 0xFF;
+            if (version < 1) {
+                throw new IOException("Unsupported player record schema " + version);
+            }
+            // Versions above SCHEMA_VERSION only append fields, so the known prefix still decodes
+
+            final PlayerData data = new PlayerData();
+            data.setPlayerId(new UUID(in.getLong(), in.getLong()));
+            data.setLives(unzigzag(getVarInt(in)));
+            final int flags = in.get() & 0xFF;
+            data.setFirstJoin((flags & FLAG_FIRST_JOIN) != 0);
+            data.setLastLogin(in.getLong());
+            data.setLastSeen(in.getLong());
+
+            if ((flags & FLAG_HAS_BOOTS) != 0) {
+                final int blockLength = getVarInt(in);
+                final int blockEnd = in.position() + blockLength;
+
+                final BootsData boots = new BootsData();
+                boots.setBootType(fromCode(BootType.values(), BOOT_TYPE_NAMES, in.get() & 0xFF));
+                boots.setTier(fromCode(BootsTier.values(), TIER_NAMES, in.get() & 0xFF));
+                final int bootsFlags = in.get() & 0xFF;
+                boots.setBroken((bootsFlags & BOOTS_FLAG_BROKEN) != 0);
+                boots.setLowLifeWarningShown((bootsFlags & BOOTS_FLAG_LOW_LIFE_WARNING) != 0);
+                boots.setLastAbilityUse(in.getLong());
+                boots.setAbilityActiveUntil(in.getLong());
+                boots.setLastTier2AbilityUse(in.getLong());
+                boots.setTier2AbilityActiveUntil(in.getLong());
+                boots.setHitCounter(unzigzag(getVarInt(in)));
+                boots.setRadius(in.getDouble());
+
+                // Skip fields added to the block by newer schemas
+                in.position(blockEnd);
+
+                if (boots.getTier() == null) {
+                    boots.setTier(BootsTier.TIER_1);
+                }
+                // A boot type this build does not know is treated like having no boots
+                data.setBootsData(boots.getBootType() == null ? null : boots);
+            }
+
+            final int trustedCount = getVarInt(in);
+            if (trustedCount < 0 || trustedCount > in.remaining() / 16) {
+                throw new IOException("Bad trusted player count " + trustedCount);
+            }
+            final Set<UUID> trusted = new HashSet<>(Math.max(4, trustedCount * 2));
+            for (int i = 0; i < trustedCount; i++) {
+                trusted.add(new UUID(in.getLong(), in.getLong()));
+            }
+            data.setTrustedPlayers(trusted);
+
+            return data;
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated or malformed binary player record", e);
+        }
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private static <E extends Enum<E>> int[] codesFor(final E[] constants, final String[] names) {
+        final int[] codes = new int[constants.length];
+        for (final E constant : constants) {
+            int code = UNKNOWN_CODE;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(constant.name())) {
+                    code = i;
+                    break;
+                }
+            }
+            if (code == UNKNOWN_CODE) {
+                throw new IllegalStateException("No persisted code for " + constant + ", append it to the codec name table");
+            }
+            codes[constant.ordinal()] = code;
+        }
+        return codes;
+    }
+
+    private static <E extends Enum<E>> E fromCode(final E[] constants, final String[] names, final int code) {
+        if (code >= names.length) {
+            return null;
+        }
+        for (final E constant : constants) {
+            if (constant.name().equals(names[code])) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    private static int zigzag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void putVarInt(final ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int getVarInt(final ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt too long");
+    }
+
+    private static int varIntSize(final int value) {
+        int size = 1;
+        int rest = value >>> 7;
+        while (rest != 0) {
+            size++;
+            rest >>>= 7;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact UTF-8 JSON records, same field layout as the playerdata/*.json files
+ */
+public class GsonPlayerDataCodec implements PlayerDataCodec {
+
+    public static final byte ID = 1;
+
+    private final Gson gson = new Gson();
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(final PlayerSnapshot snapshot) {
+        return this.gson.toJson(snapshot).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public PlayerData decode(final byte[] bytes) throws IOException {
+        try {
+            return this.gson.fromJson(new String(bytes, StandardCharsets.UTF_8), PlayerData.class);
+        } catch (final JsonParseException e) {
+            throw new IOException("Malformed JSON record", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * One pretty-printed JSON file per player in playerdata/
+ */
+public class JsonPlayerDataStore implements PlayerDataStore {
+
+    private final File dataFolder;
+    private final Gson gson;
+
+    public JsonPlayerDataStore(final File dataFolder) {
+        this.dataFolder = dataFolder;
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+
+        if (!this.dataFolder.exists()) {
+            this.dataFolder.mkdirs();
+        }
+    }
+
+    @Override
+    public PlayerData load(final UUID playerId) throws IOException {
+        final File file = new File(this.dataFolder, playerId.toString() + ".json");
+        if (!file.exists()) {
+            return null;
+        }
+
+        try (final FileReader reader = new FileReader(file)) {
+            return this.gson.fromJson(reader, PlayerData.class);
+        } catch (final JsonParseException e) {
+            throw new IOException("Malformed player file " + file.getName(), e);
+        }
+    }
+
+    @Override
+    public void save(final PlayerSnapshot snapshot) throws IOException {
+        final File file = new File(this.dataFolder, snapshot.playerId().toString() + ".json");
+
+        try (final FileWriter writer = new FileWriter(file)) {
+            this.gson.toJson(snapshot, writer);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nothing held open between calls
+    }
+
+    @Override
+    public String getName() {
+        return "json";
+    }
+
+    /**
+     * @return every *.json file that looks like a player record
+     */
+    public File[] listPlayerFiles() {
+        final File[] files = this.dataFolder.listFiles((dir, name) -> name.endsWith(".json"));
+        return files == null ? new File[0] : files;
+    }
+}
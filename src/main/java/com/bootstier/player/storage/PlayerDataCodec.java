@@ -0,0 +1,21 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+
+import java.io.IOException;
+
+/**
+ * Turns player records into bytes and back for stores that keep raw records.
+ */
+public interface PlayerDataCodec {
+
+    /**
+     * @return id written next to every record so old records stay readable after a codec change
+     */
+    byte getId();
+
+    byte[] encode(PlayerSnapshot snapshot) throws IOException;
+
+    PlayerData decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,32 @@
+package com.bootstier.player.storage;
+
+/**
+ * Registry of the codecs a stored record can be written with.
+ * Codec ids are persisted, so existing ids must never be reused.
+ */
+public final class PlayerDataCodecs {
+
+    private static final PlayerDataCodec GSON = new GsonPlayerDataCodec();
+    private static final PlayerDataCodec BINARY = new BinaryPlayerDataCodec();
+
+    private PlayerDataCodecs() {
+    }
+
+    /**
+     * @return the codec for a persisted id, or null if this build does not know it
+     */
+    public static PlayerDataCodec byId(final byte id) {
+        return switch (id) {
+            case GsonPlayerDataCodec.ID -> GSON;
+            case BinaryPlayerDataCodec.ID -> BINARY;
+            default -> null;
+        };
+    }
+
+    /**
+     * @return the codec configured by name, defaulting to binary
+     */
+    public static PlayerDataCodec byName(final String name) {
+        return "json".equalsIgnoreCase(name) ? GSON : BINARY;
+    }
+}
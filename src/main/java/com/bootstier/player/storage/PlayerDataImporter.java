@@ -0,0 +1,71 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * One-shot copy of the legacy playerdata/*.json files into another store.
+ * A marker file in the JSON folder stops it from running twice; the JSON files
+ * themselves are left untouched so switching back to the json backend still works.
+ */
+public final class PlayerDataImporter {
+
+    private static final String MARKER_FILE = ".imported";
+
+    private PlayerDataImporter() {
+    }
+
+    /**
+     * @return number of imported records, or -1 when there was nothing to do
+     */
+    public static int importJson(final File jsonFolder, final PlayerDataStore target, final Logger logger) throws IOException {
+        final File marker = new File(jsonFolder, MARKER_FILE);
+        if (!jsonFolder.isDirectory() || marker.exists()) {
+            return -1;
+        }
+
+        final JsonPlayerDataStore source = new JsonPlayerDataStore(jsonFolder);
+        final File[] files = source.listPlayerFiles();
+        if (files.length == 0) {
+            return -1;
+        }
+
+        logger.info("Importing " + files.length + " player files into the " + target.getName()
+                + " store, server startup waits until this finishes...");
+        final List<PlayerSnapshot> snapshots = new ArrayList<>(files.length);
+
+        for (final File file : files) {
+            final String fileName = file.getName();
+            try {
+                final UUID playerId = UUID.fromString(fileName.substring(0, fileName.length() - 5));
+                final PlayerData data = source.load(playerId);
+                if (data == null || data.getPlayerId() == null) {
+                    logger.warning("Skipping empty player file: " + fileName);
+                    continue;
+                }
+                snapshots.add(PlayerSnapshot.of(data));
+            } catch (final IllegalArgumentException e) {
+                logger.warning("Invalid player data file: " + fileName);
+            } catch (final IOException e) {
+                logger.warning("Failed to import " + fileName + ": " + e.getMessage());
+            }
+        }
+
+        // One sync for the whole import, before the marker says it is done
+        target.saveAll(snapshots);
+        final int imported = snapshots.size();
+
+        if (!marker.createNewFile()) {
+            logger.warning("Could not write import marker " + marker.getPath());
+        }
+        logger.info("Imported " + imported + "/" + files.length + " player files");
+        return imported;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistence backend for player records.
+ * Implementations are called from the player data I/O thread and, for blocking
+ * fallback loads, from the main thread, so they must be thread safe.
+ */
+public interface PlayerDataStore {
+
+    /**
+     * @return the stored record, or null when the player has never been saved
+     */
+    PlayerData load(UUID playerId) throws IOException;
+
+    void save(PlayerSnapshot snapshot) throws IOException;
+
+    /**
+     * Saves many records at once, for imports. Stores may sync once at the end instead of
+     * per record; the records are durable once this returns.
+     */
+    default void saveAll(final List<PlayerSnapshot> snapshots) throws IOException {
+        for (final PlayerSnapshot snapshot : snapshots) {
+            this.save(snapshot);
+        }
+    }
+
+    /**
+     * Periodic housekeeping such as compaction. Runs on the I/O thread.
+     */
+    default void maintenance() throws IOException {
+    }
+
+    /**
+     * Flushes and releases all resources. No calls are made after this.
+     */
+    void close() throws IOException;
+
+    /**
+     * @return short backend name for status output
+     */
+    String getName();
+}
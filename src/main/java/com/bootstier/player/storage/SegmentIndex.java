@@ -0,0 +1,266 @@
+package com.bootstier.player.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Memory-mapped open-addressing hash table from UUID to record position in the segment file.
+ *
+ * Layout: a 64 byte header followed by {@code capacity} slots of 32 bytes
+ * (uuid msb, uuid lsb, record offset, record length, padding). A slot whose UUID is
+ * all zeroes is empty; the nil UUID is never a player.
+ */
+final class SegmentIndex implements Closeable {
+
+    private static final int MAGIC = 0x42544958; // "BTIX"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 32;
+
+    private static final int OFF_MAGIC = 0;
+    private static final int OFF_VERSION = 4;
+    private static final int OFF_CAPACITY = 8;
+    private static final int OFF_COUNT = 12;
+    private static final int OFF_COMMITTED = 16;
+    private static final int OFF_LIVE_BYTES = 24;
+
+    static final int INITIAL_CAPACITY = 1024;
+    private static final double MAX_LOAD = 0.7;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+
+    private SegmentIndex(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens an existing index, or returns null when the file is missing or not a valid index.
+     */
+    static SegmentIndex open(final Path path) throws IOException {
+        if (!Files.exists(path) || Files.size(path) < HEADER_SIZE) {
+            return null;
+        }
+
+        final SegmentIndex index = new SegmentIndex(path);
+        index.map();
+        if (index.buffer.getInt(OFF_MAGIC) != MAGIC
+                || index.buffer.getInt(OFF_VERSION) != VERSION
+                || Integer.bitCount(index.buffer.getInt(OFF_CAPACITY)) != 1
+                || Files.size(path) != HEADER_SIZE + (long) index.buffer.getInt(OFF_CAPACITY) * SLOT_SIZE) {
+            index.close();
+            return null;
+        }
+
+        index.capacity = index.buffer.getInt(OFF_CAPACITY);
+        index.count = index.buffer.getInt(OFF_COUNT);
+        return index;
+    }
+
+    /**
+     * Creates an empty index at the given path, replacing anything already there.
+     */
+    static SegmentIndex create(final Path path, final int capacity) throws IOException {
+        Files.deleteIfExists(path);
+
+        int slots = INITIAL_CAPACITY;
+        while (slots < capacity) {
+            slots <<= 1;
+        }
+
+        final SegmentIndex index = new SegmentIndex(path);
+        index.capacity = slots;
+        index.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index.buffer = index.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) index.capacity * SLOT_SIZE);
+        index.buffer.putInt(OFF_MAGIC, MAGIC);
+        index.buffer.putInt(OFF_VERSION, VERSION);
+        index.buffer.putInt(OFF_CAPACITY, index.capacity);
+        index.buffer.putInt(OFF_COUNT, 0);
+        index.buffer.putLong(OFF_COMMITTED, 0L);
+        index.buffer.putLong(OFF_LIVE_BYTES, 0L);
+        return index;
+    }
+
+    private void map() throws IOException {
+        this.channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, this.channel.size());
+    }
+
+    /* ---------------------------------------------
+       LOOKUP
+    --------------------------------------------- */
+
+    /**
+     * @return byte position of the slot holding this UUID, or -1
+     */
+    private int findSlot(final long msb, final long lsb) {
+        final int mask = this.capacity - 1;
+        int slot = hash(msb, lsb) & mask;
+
+        for (int probes = 0; probes < this.capacity; probes++) {
+            final int pos = HEADER_SIZE + slot * SLOT_SIZE;
+            final long slotMsb = this.buffer.getLong(pos);
+            final long slotLsb = this.buffer.getLong(pos + 8);
+
+            if (slotMsb == 0L && slotLsb == 0L) {
+                return -1;
+            }
+            if (slotMsb == msb && slotLsb == lsb) {
+                return pos;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    long getOffset(final UUID playerId) {
+        final int pos = this.findSlot(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        return pos < 0 ? -1L : this.buffer.getLong(pos + 16);
+    }
+
+    int getLength(final UUID playerId) {
+        final int pos = this.findSlot(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        return pos < 0 ? -1 : this.buffer.getInt(pos + 24);
+    }
+
+    /* ---------------------------------------------
+       UPDATE
+    --------------------------------------------- */
+
+    /**
+     * Points a UUID at a new record, returning the index to use afterwards
+     * (a larger copy when this one had to grow).
+     */
+    SegmentIndex put(final UUID playerId, final long offset, final int length) throws IOException {
+        final long msb = playerId.getMostSignificantBits();
+        final long lsb = playerId.getLeastSignificantBits();
+
+        final int existing = this.findSlot(msb, lsb);
+        if (existing >= 0) {
+            final int oldLength = this.buffer.getInt(existing + 24);
+            this.buffer.putLong(existing + 16, offset);
+            this.buffer.putInt(existing + 24, length);
+            this.addLiveBytes(length - oldLength);
+            return this;
+        }
+
+        if (this.count + 1 > this.capacity * MAX_LOAD) {
+            final SegmentIndex grown = this.resize(this.capacity << 1);
+            return grown.put(playerId, offset, length);
+        }
+
+        final int mask = this.capacity - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (true) {
+            final int pos = HEADER_SIZE + slot * SLOT_SIZE;
+            if (this.buffer.getLong(pos) == 0L && this.buffer.getLong(pos + 8) == 0L) {
+                this.buffer.putLong(pos, msb);
+                this.buffer.putLong(pos + 8, lsb);
+                this.buffer.putLong(pos + 16, offset);
+                this.buffer.putInt(pos + 24, length);
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        this.count++;
+        this.buffer.putInt(OFF_COUNT, this.count);
+        this.addLiveBytes(length);
+        return this;
+    }
+
+    private SegmentIndex resize(final int newCapacity) throws IOException {
+        final Path tmp = this.path.resolveSibling(this.path.getFileName() + ".grow");
+        final SegmentIndex grown = SegmentIndex.create(tmp, newCapacity);
+        this.forEach((msb, lsb, offset, length) -> grown.put(new UUID(msb, lsb), offset, length));
+        grown.setCommittedLength(this.getCommittedLength());
+
+        grown.close();
+        this.close();
+        Files.move(tmp, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return SegmentIndex.open(this.path);
+    }
+
+    private void addLiveBytes(final long delta) {
+        this.buffer.putLong(OFF_LIVE_BYTES, this.buffer.getLong(OFF_LIVE_BYTES) + delta);
+    }
+
+    /* ---------------------------------------------
+       HEADER
+    --------------------------------------------- */
+
+    /**
+     * Segment length this index is known to cover. A mismatch with the real segment
+     * size on open means the index must be rebuilt.
+     */
+    long getCommittedLength() {
+        return this.buffer.getLong(OFF_COMMITTED);
+    }
+
+    void setCommittedLength(final long length) {
+        this.buffer.putLong(OFF_COMMITTED, length);
+    }
+
+    long getLiveBytes() {
+        return this.buffer.getLong(OFF_LIVE_BYTES);
+    }
+
+    int size() {
+        return this.count;
+    }
+
+    int capacity() {
+        return this.capacity;
+    }
+
+    /* ---------------------------------------------
+       ITERATION / LIFECYCLE
+    --------------------------------------------- */
+
+    void forEach(final SlotVisitor visitor) throws IOException {
+        for (int slot = 0; slot < this.capacity; slot++) {
+            final int pos = HEADER_SIZE + slot * SLOT_SIZE;
+            final long msb = this.buffer.getLong(pos);
+            final long lsb = this.buffer.getLong(pos + 8);
+            if (msb == 0L && lsb == 0L) continue;
+
+            visitor.visit(msb, lsb, this.buffer.getLong(pos + 16), this.buffer.getInt(pos + 24));
+        }
+    }
+
+    void force() {
+        this.buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null && this.channel.isOpen()) {
+            this.buffer.force();
+            this.channel.close();
+        }
+    }
+
+    private static int hash(final long msb, final long lsb) {
+        long h = msb ^ lsb;
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return (int) h;
+    }
+
+    @FunctionalInterface
+    interface SlotVisitor {
+        void visit(long msb, long lsb, long offset, int length) throws IOException;
+    }
+}
@@ -0,0 +1,371 @@
+package com.bootstier.player.storage;
+
+import com.bootstier.player.PlayerData;
+import com.bootstier.player.PlayerSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * All player records in one append-only segment file plus a memory-mapped UUID index.
+ *
+ * Every save appends a new record and repoints the index; superseded records become
+ * garbage that {@link #maintenance()} compacts away once it outweighs live data.
+ * Records carry a CRC32 of their payload. When the index is rebuilt on open, damaged
+ * ranges are skipped by scanning ahead for the next valid record and copied aside to
+ * players.seg.damaged; only a damaged tail with nothing valid after it is cut off.
+ *
+ * Record layout: magic(4) uuid msb(8) uuid lsb(8) codec id(1) payload length(4) crc32(4) payload.
+ * New records use the configured codec; older records decode with whichever codec wrote them.
+ */
+public class SegmentPlayerDataStore implements PlayerDataStore {
+
+    private static final int RECORD_MAGIC = 0x42545243; // "BTRC"
+    private static final int RECORD_HEADER_SIZE = 29;
+    private static final int MAX_PAYLOAD_SIZE = 1 << 20;
+    private static final int SCAN_BLOCK_SIZE = 64 * 1024;
+
+    private final Logger logger;
+    private final Path segmentPath;
+    private final Path indexPath;
+    private final Path damagedPath;
+    private final PlayerDataCodec codec;
+    private final double compactionGarbageRatio;
+    private final long compactionMinBytes;
+
+    private FileChannel segment;
+    private SegmentIndex index;
+
+    public SegmentPlayerDataStore(final Path directory, final PlayerDataCodec codec, final Logger logger,
+                                  final double compactionGarbageRatio, final long compactionMinBytes) throws IOException {
+        this.logger = logger;
+        this.segmentPath = directory.resolve("players.seg");
+        this.indexPath = directory.resolve("players.idx");
+        this.damagedPath = directory.resolve("players.seg.damaged");
+        this.codec = codec;
+        this.compactionGarbageRatio = compactionGarbageRatio;
+        this.compactionMinBytes = compactionMinBytes;
+
+        Files.createDirectories(directory);
+        this.open();
+    }
+
+    private void open() throws IOException {
+        this.segment = FileChannel.open(this.segmentPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.index = SegmentIndex.open(this.indexPath);
+
+        if (this.index == null || this.index.getCommittedLength() != this.segment.size()) {
+            if (this.index != null) {
+                this.index.close();
+            }
+            if (this.segment.size() > 0) {
+                this.logger.info("Rebuilding player store index from " + this.segmentPath.getFileName());
+            }
+            this.rebuildIndex();
+        }
+    }
+
+    /* ---------------------------------------------
+       READ / WRITE
+    --------------------------------------------- */
+
+    @Override
+    public synchronized PlayerData load(final UUID playerId) throws IOException {
+        final long offset = this.index.getOffset(playerId);
+        if (offset < 0) {
+            return null;
+        }
+
+        final ByteBuffer header = this.readFully(offset, RECORD_HEADER_SIZE);
+        if (header.getInt(0) != RECORD_MAGIC
+                || header.getLong(4) != playerId.getMostSignificantBits()
+                || header.getLong(12) != playerId.getLeastSignificantBits()) {
+            throw new IOException("Index points at a foreign record for " + playerId + " at " + offset);
+        }
+
+        final byte codecId = header.get(20);
+        final int length = header.getInt(21);
+        if (length < 0 || length > MAX_PAYLOAD_SIZE) {
+            throw new IOException("Bad record length " + length + " for " + playerId);
+        }
+
+        final byte[] payload = this.readFully(offset + RECORD_HEADER_SIZE, length).array();
+        if (crc(payload) != header.getInt(25)) {
+            throw new IOException("CRC mismatch in record for " + playerId + " at " + offset);
+        }
+
+        // Records keep the codec they were written with, so switching codecs needs no migration
+        final PlayerDataCodec recordCodec = codecId == this.codec.getId() ? this.codec : PlayerDataCodecs.byId(codecId);
+        if (recordCodec == null) {
+            throw new IOException("Record for " + playerId + " uses unknown codec " + codecId);
+        }
+
+        return recordCodec.decode(payload);
+    }
+
+    @Override
+    public synchronized void save(final PlayerSnapshot snapshot) throws IOException {
+        final ByteBuffer record = this.encode(snapshot);
+        final int length = record.remaining();
+
+        final long offset = this.segment.size();
+        this.writeFully(this.segment, record, offset);
+        // The index may only cover bytes that are durable
+        this.segment.force(false);
+
+        this.index = this.index.put(snapshot.playerId(), offset, length);
+        this.index.setCommittedLength(offset + length);
+    }
+
+    /**
+     * Appends every record and forces the segment once at the end, rather than once per
+     * record. If this fails part way, the committed length still marks the old end and
+     * the index is rebuilt from the segment on the next open.
+     */
+    @Override
+    public synchronized void saveAll(final List<PlayerSnapshot> snapshots) throws IOException {
+        long offset = this.segment.size();
+        for (final PlayerSnapshot snapshot : snapshots) {
+            final ByteBuffer record = this.encode(snapshot);
+            final int length = record.remaining();
+            this.writeFully(this.segment, record, offset);
+            this.index = this.index.put(snapshot.playerId(), offset, length);
+            offset += length;
+        }
+
+        this.segment.force(false);
+        this.index.setCommittedLength(offset);
+    }
+
+    private ByteBuffer encode(final PlayerSnapshot snapshot) {
+        final byte[] payload = this.codec.encode(snapshot);
+        final UUID playerId = snapshot.playerId();
+
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.putInt(RECORD_MAGIC)
+                .putLong(playerId.getMostSignificantBits())
+                .putLong(playerId.getLeastSignificantBits())
+                .put(this.codec.getId())
+                .putInt(payload.length)
+                .putInt(crc(payload))
+                .put(payload)
+                .flip();
+        return record;
+    }
+
+    /* ---------------------------------------------
+       COMPACTION
+    --------------------------------------------- */
+
+    @Override
+    public synchronized void maintenance() throws IOException {
+        final long size = this.segment.size();
+        if (size < this.compactionMinBytes) {
+            return;
+        }
+
+        final long garbage = size - this.index.getLiveBytes();
+        if (garbage < size * this.compactionGarbageRatio) {
+            return;
+        }
+
+        this.compact();
+    }
+
+    /**
+     * Copies every live record into a fresh segment and index, then swaps them in.
+     */
+    private void compact() throws IOException {
+        final long before = this.segment.size();
+        final Path newSegmentPath = this.segmentPath.resolveSibling("players.seg.compact");
+        final Path newIndexPath = this.indexPath.resolveSibling("players.idx.compact");
+
+        try (final FileChannel out = FileChannel.open(newSegmentPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final SegmentIndex[] newIndex = {SegmentIndex.create(newIndexPath, (int) (this.index.size() / 0.5))};
+            final long[] position = {0L};
+
+            this.index.forEach((msb, lsb, offset, length) -> {
+                final ByteBuffer record = this.readFully(offset, length);
+                this.writeFully(out, record, position[0]);
+                newIndex[0] = newIndex[0].put(new UUID(msb, lsb), position[0], length);
+                position[0] += length;
+            });
+
+            out.force(true);
+            newIndex[0].setCommittedLength(position[0]);
+            newIndex[0].close();
+        }
+
+        this.segment.close();
+        this.index.close();
+        Files.move(newSegmentPath, this.segmentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(newIndexPath, this.indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.open();
+
+        this.logger.info("Compacted player store: " + (before / 1024) + " KB -> " + (this.segment.size() / 1024)
+                + " KB, " + this.index.size() + " records");
+    }
+
+    /**
+     * Scans the whole segment and indexes the newest valid record of each player.
+     * A damaged range is copied aside and skipped up to the next valid record; it stays
+     * in the segment as garbage for compaction. Only a damaged tail is truncated.
+     */
+    private void rebuildIndex() throws IOException {
+        this.index = SegmentIndex.create(this.indexPath, SegmentIndex.INITIAL_CAPACITY);
+
+        final long size = this.segment.size();
+        long position = 0L;
+
+        while (position < size) {
+            final int length = this.validRecordLength(position, size);
+            if (length > 0) {
+                final ByteBuffer header = this.readFully(position, RECORD_HEADER_SIZE);
+                final UUID playerId = new UUID(header.getLong(4), header.getLong(12));
+                this.index = this.index.put(playerId, position, length);
+                position += length;
+                continue;
+            }
+
+            final long next = this.findNextRecord(position + 1, size);
+            final long end = next < 0 ? size : next;
+            this.logger.warning("Player store has " + (end - position) + " damaged bytes at " + position
+                    + ", moving them to " + this.damagedPath.getFileName());
+            this.moveAside(position, end);
+            if (next < 0) {
+                this.segment.truncate(position);
+                break;
+            }
+            position = next;
+        }
+
+        this.segment.force(true);
+        this.index.setCommittedLength(this.segment.size());
+    }
+
+    /**
+     * @return the total length of the record at {@code position}, or -1 when no intact record starts there
+     */
+    private int validRecordLength(final long position, final long size) throws IOException {
+        if (position + RECORD_HEADER_SIZE > size) {
+            return -1;
+        }
+
+        final ByteBuffer header = this.readFully(position, RECORD_HEADER_SIZE);
+        final int length = header.getInt(21);
+        if (header.getInt(0) != RECORD_MAGIC || length < 0 || length > MAX_PAYLOAD_SIZE
+                || position + RECORD_HEADER_SIZE + length > size) {
+            return -1;
+        }
+
+        final byte[] payload = this.readFully(position + RECORD_HEADER_SIZE, length).array();
+        return crc(payload) == header.getInt(25) ? RECORD_HEADER_SIZE + length : -1;
+    }
+
+    /**
+     * Scans forward for the magic of an intact record.
+     *
+     * @return its offset, or -1 when none follows
+     */
+    private long findNextRecord(final long from, final long size) throws IOException {
+        long block = from;
+        while (block + 4 <= size) {
+            final ByteBuffer buffer = this.readFully(block, (int) Math.min(SCAN_BLOCK_SIZE, size - block));
+            for (int i = 0; i + 4 <= buffer.limit(); i++) {
+                if (buffer.getInt(i) == RECORD_MAGIC && this.validRecordLength(block + i, size) > 0) {
+                    return block + i;
+                }
+            }
+            // Overlap by three bytes so a magic split across blocks is still seen
+            block += buffer.limit() - 3;
+        }
+        return -1L;
+    }
+
+    /**
+     * Appends the bytes in [start, end) to the damaged file so nothing is lost for good.
+     */
+    private void moveAside(final long start, final long end) throws IOException {
+        try (final FileChannel out = FileChannel.open(this.damagedPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long at = start;
+            while (at < end) {
+                final ByteBuffer chunk = this.readFully(at, (int) Math.min(SCAN_BLOCK_SIZE, end - at));
+                at += chunk.remaining();
+                while (chunk.hasRemaining()) {
+                    out.write(chunk);
+                }
+            }
+            out.force(true);
+        }
+    }
+
+    /* ---------------------------------------------
+       LIFECYCLE
+    --------------------------------------------- */
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.segment.force(true);
+        this.index.close();
+        this.segment.close();
+    }
+
+    @Override
+    public String getName() {
+        return "segment";
+    }
+
+    public synchronized int getRecordCount() {
+        return this.index.size();
+    }
+
+    public synchronized long getSegmentSize() throws IOException {
+        return this.segment.size();
+    }
+
+    public synchronized long getLiveBytes() {
+        return this.index.getLiveBytes();
+    }
+
+    /* ---------------------------------------------
+       HELPERS
+    --------------------------------------------- */
+
+    private ByteBuffer readFully(final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        long at = position;
+        while (buffer.hasRemaining()) {
+            final int read = this.segment.read(buffer, at);
+            if (read < 0) {
+                throw new IOException("Unexpected end of player store at " + at);
+            }
+            at += read;
+        }
+        return buffer.flip();
+    }
+
+    private void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    private static int crc(final byte[] payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+}
@@ -1,6 +1,8 @@
 package com.bootstier.ritual;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
+import com.bootstier.effects.ParticleShape;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.command.CommandSender;
@@ -11,6 +13,9 @@ import org.bukkit.scheduler.BukkitTask;
 
 public class PedestalManager {
 
+    /** 24 points, turning about 0.09 rad per update */
+    private static final ParticleShape ORBIT = ParticleShape.ring(24, 3);
+
     private final BootsTierPlugin plugin;
     private Location pedestalLocation;
     private boolean active;
@@ -85,7 +90,9 @@ public class PedestalManager {
         stopParticleLoop();
 
         particleLoop = new BukkitRunnable() {
-            double rotation = 0;
+            final Location center = new Location(null, 0, 0, 0);
+            final Location cursor = new Location(null, 0, 0, 0);
+            int phase = 0;
 
             @Override
             public void run() {
@@ -97,22 +104,18 @@ public class PedestalManager {
                 World w = pedestalLocation.getWorld();
                 if (w == null) return;
 
-                Location center = pedestalLocation.clone().add(0.5, 1.3, 0.5);
+                center.setWorld(w);
+                center.set(pedestalLocation.getX() + 0.5, pedestalLocation.getY() + 1.3, pedestalLocation.getZ() + 0.5);
 
-                rotation += 0.08;
+                phase++;
                 double radius = 2.2;  // reduced slightly to sit cleaner
 
-                for (int i = 0; i < 24; i++) {
-                    double angle = (i * (Math.PI * 2 / 24)) + rotation;
-
-                    double x = Math.cos(angle) * radius;
-                    double z = Math.sin(angle) * radius;
-
-                    Location particleLoc = center.clone().add(x, 0, z);
+                for (int i = 0; i < ORBIT.getPoints(); i++) {
+                    ORBIT.place(cursor, center, 0, phase, i, radius, 0);
 
-                    w.spawnParticle(
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT,
                             Particle.END_ROD,
-                            particleLoc,
+                            cursor,
                             1,
                             0, 0, 0,
                             0
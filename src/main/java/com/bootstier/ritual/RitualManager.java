@@ -1,6 +1,7 @@
 package com.bootstier.ritual;
 
 import com.bootstier.BootsTierPlugin;
+import com.bootstier.effects.ParticlePriority;
 import com.bootstier.player.PlayerData;
 import com.bootstier.utils.MessageUtils;
 import org.bukkit.*;
@@ -208,8 +209,7 @@ public class RitualManager {
 
             updateHologram();
 
-            World w = beaconLoc.getWorld();
-            w.spawnParticle(Particle.TOTEM_OF_UNDYING, beaconLoc.clone().add(0.5, 1.3, 0.5),
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.TOTEM_OF_UNDYING, beaconLoc.clone().add(0.5, 1.3, 0.5),
                     40, 0.4, 0.6, 0.4, 0.1);
 
             owner.playSound(owner.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1f, 1.7f);
@@ -261,7 +261,6 @@ public class RitualManager {
                 @Override
                 public void run() {
                     Location center = beaconLoc.clone().add(0.5, 1.5, 0.5);
-                    World w = center.getWorld();
 
                     double radius = 5.0;
                     double angle = (tick * 0.15) % (Math.PI * 2); // Smooth rotation
@@ -269,10 +268,10 @@ public class RitualManager {
                     double z = Math.sin(angle) * radius;
 
                     Location particleLoc = center.clone().add(x, 0.2, z);
-                    w.spawnParticle(Particle.END_ROD, particleLoc, 1, 0.0, 0.0, 0.0, 0.0);
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.END_ROD, particleLoc, 1, 0.0, 0.0, 0.0, 0.0);
 
-                    w.spawnParticle(Particle.SNOWFLAKE, center.clone().add(x, 0, z), 2, 0.1, 0.1, 0.1, 0.0);
-                    w.spawnParticle(Particle.SNOWFLAKE, center.clone().add(x, 1, z), 2, 0.1, 0.1, 0.1, 0.0);
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.SNOWFLAKE, center.clone().add(x, 0, z), 2, 0.1, 0.1, 0.1, 0.0);
+                    plugin.getParticleDispatcher().spawn(ParticlePriority.AMBIENT, Particle.SNOWFLAKE, center.clone().add(x, 1, z), 2, 0.1, 0.1, 0.1, 0.0);
 
                     tick++;
                 }
@@ -325,8 +324,7 @@ public class RitualManager {
         void hitByEnemy(Player enemy) {
             lives--;
 
-            World w = beaconLoc.getWorld();
-            w.spawnParticle(Particle.EXPLOSION,
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.EXPLOSION,
                     beaconLoc.clone().add(0.5, 1, 0.5),
                     1);
 
@@ -351,7 +349,7 @@ public class RitualManager {
 
             World w = beaconLoc.getWorld();
 
-            w.spawnParticle(Particle.EXPLOSION_EMITTER,
+            plugin.getParticleDispatcher().spawn(ParticlePriority.EFFECT, Particle.EXPLOSION_EMITTER,
                     beaconLoc.clone().add(0.5, 1, 0.5), 1);
 
             w.playSound(beaconLoc, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1f, 1f);
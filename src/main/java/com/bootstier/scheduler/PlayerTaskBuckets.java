@@ -0,0 +1,182 @@
+package com.bootstier.scheduler;
+
+import com.bootstier.BootsTierPlugin;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Runs periodic per-player work spread across every tick of its period instead of for
+ * all players on the same tick. Each job splits its period into one bucket per tick and
+ * puts a joining player in its least loaded bucket, so a 20 tick job touches roughly a
+ * twentieth of the server each tick. Time spent per bucket is recorded for /bootsstatus.
+ * Main thread only.
+ */
+public class PlayerTaskBuckets implements Listener {
+
+    private final BootsTierPlugin plugin;
+    private final List<Job> jobs = new ArrayList<>();
+
+    public PlayerTaskBuckets(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @param period ticks between two runs for the same player
+     */
+    public void register(final String name, final int period, final Consumer<Player> work) {
+        final Job job = new Job(name, Math.max(1, period), work);
+        for (final Player player : this.plugin.getServer().getOnlinePlayers()) {
+            job.add(player);
+        }
+        this.jobs.add(job);
+    }
+
+    public void start() {
+        this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
+        this.plugin.getTickScheduler().runTimer(this::tick, 1L, 1L);
+    }
+
+    public List<Job> getJobs() {
+        return Collections.unmodifiableList(this.jobs);
+    }
+
+    private void tick() {
+        final long tick = this.plugin.getTickScheduler().getCurrentTick();
+        for (final Job job : this.jobs) {
+            job.run(tick);
+        }
+    }
+
+    /* ---------------------------------------------
+       EVENTS
+    --------------------------------------------- */
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        for (final Job job : this.jobs) {
+            job.add(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        for (final Job job : this.jobs) {
+            job.remove(event.getPlayer());
+        }
+    }
+
+    /* ---------------------------------------------
+       JOB
+    --------------------------------------------- */
+
+    public final class Job {
+
+        @Getter private final String name;
+        @Getter private final int period;
+        private final Consumer<Player> work;
+
+        private final List<List<Player>> buckets;
+        private final Map<UUID, Integer> bucketOf = new HashMap<>();
+        private final long[] bucketNanos;
+        private final long[] bucketRuns;
+
+        private Job(final String name, final int period, final Consumer<Player> work) {
+            this.name = name;
+            this.period = period;
+            this.work = work;
+            this.buckets = new ArrayList<>(period);
+            for (int i = 0; i < period; i++) {
+                this.buckets.add(new ArrayList<>());
+            }
+            this.bucketNanos = new long[period];
+            this.bucketRuns = new long[period];
+        }
+
+        public int getPlayerCount() {
+            return this.bucketOf.size();
+        }
+
+        /**
+         * @return average time one run of a bucket takes, over all buckets, in nanoseconds
+         */
+        public long getAverageBucketNanos() {
+            long nanos = 0L;
+            long runs = 0L;
+            for (int i = 0; i < this.period; i++) {
+                nanos += this.bucketNanos[i];
+                runs += this.bucketRuns[i];
+            }
+            return runs == 0L ? 0L : nanos / runs;
+        }
+
+        /**
+         * @return average run time of the most expensive bucket in nanoseconds
+         */
+        public long getWorstBucketNanos() {
+            long worst = 0L;
+            for (int i = 0; i < this.period; i++) {
+                if (this.bucketRuns[i] > 0L) {
+                    worst = Math.max(worst, this.bucketNanos[i] / this.bucketRuns[i]);
+                }
+            }
+            return worst;
+        }
+
+        private void add(final Player player) {
+            if (this.bucketOf.containsKey(player.getUniqueId())) {
+                return;
+            }
+
+            int target = 0;
+            for (int i = 1; i < this.period; i++) {
+                if (this.buckets.get(i).size() < this.buckets.get(target).size()) {
+                    target = i;
+                }
+            }
+            this.buckets.get(target).add(player);
+            this.bucketOf.put(player.getUniqueId(), target);
+        }
+
+        private void remove(final Player player) {
+            final Integer bucket = this.bucketOf.remove(player.getUniqueId());
+            if (bucket != null) {
+                this.buckets.get(bucket).removeIf(p -> p.getUniqueId().equals(player.getUniqueId()));
+            }
+        }
+
+        private void run(final long tick) {
+            final int bucket = (int) (tick % this.period);
+            final List<Player> players = this.buckets.get(bucket);
+            if (players.isEmpty()) {
+                return;
+            }
+
+            final long start = System.nanoTime();
+            for (int i = 0; i < players.size(); i++) {
+                final Player player = players.get(i);
+                try {
+                    this.work.accept(player);
+                } catch (final Throwable t) {
+                    PlayerTaskBuckets.this.plugin.getLogger().log(Level.WARNING,
+                            "Periodic job " + this.name + " failed for " + player.getName(), t);
+                }
+            }
+            this.bucketNanos[bucket] += System.nanoTime() - start;
+            this.bucketRuns[bucket]++;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.bootstier.scheduler;
+
+import com.bootstier.BootsTierPlugin;
+import lombok.Getter;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.logging.Level;
+
+/**
+ * Hierarchical timing wheel that runs every ability and effect task of the plugin
+ * from a single Bukkit task.
+ *
+ * Four levels of 64 slots cover 1, 64, 4096 and 262144 ticks per slot. A task sits in
+ * the level matching how far away its deadline is and drops one level each time the
+ * level below wraps, so scheduling, firing and cancelling are all O(1). Deadlines past
+ * the top level (about 9.7 days) are parked in the last slot reachable and re-filed
+ * when it cascades. Main thread only.
+ */
+public class TickScheduler {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final BootsTierPlugin plugin;
+    private final WheelTask[][] heads = new WheelTask[LEVELS][SLOTS];
+
+    @Getter private long currentTick;
+    @Getter private int activeTasks;
+    @Getter private long executedTasks;
+
+    private BukkitTask driver;
+
+    public TickScheduler(final BootsTierPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (this.driver == null) {
+            this.driver = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the driver task and drops everything still scheduled.
+     */
+    public void shutdown() {
+        if (this.driver != null) {
+            this.driver.cancel();
+            this.driver = null;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                WheelTask task = this.heads[level][slot];
+                while (task != null) {
+                    final WheelTask next = task.next;
+                    task.unlinked();
+                    task.cancelled = true;
+                    task = next;
+                }
+                this.heads[level][slot] = null;
+            }
+        }
+        this.activeTasks = 0;
+    }
+
+    /* ---------------------------------------------
+       SCHEDULING
+    --------------------------------------------- */
+
+    public WheelTask runLater(final Runnable action, final long delay) {
+        return wrap(action).runTaskLater(this, delay);
+    }
+
+    public WheelTask runTimer(final Runnable action, final long delay, final long period) {
+        return wrap(action).runTaskTimer(this, delay, period);
+    }
+
+    /**
+     * @param delay ticks until the first run; anything below 1 runs on the next tick like Bukkit does
+     * @param period ticks between runs, or 0 for a one-shot task
+     */
+    void schedule(final WheelTask task, final long delay, final long period) {
+        if (task.isScheduled()) {
+            throw new IllegalStateException("Task is already scheduled");
+        }
+        task.cancelled = false;
+        task.period = period;
+        task.deadline = this.currentTick + Math.max(1L, delay);
+        this.insert(task);
+        this.activeTasks++;
+    }
+
+    void cancel(final WheelTask task) {
+        if (task.isScheduled()) {
+            this.unlink(task);
+            this.activeTasks--;
+        }
+    }
+
+    /* ---------------------------------------------
+       WHEEL
+    --------------------------------------------- */
+
+    private void tick() {
+        this.currentTick++;
+
+        // Cascade a level each time the one below it wraps around
+        for (int level = 1; level < LEVELS; level++) {
+            if ((this.currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            this.cascade(level, (int) (this.currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        final int slot = (int) this.currentTick & SLOT_MASK;
+        WheelTask task;
+        while ((task = this.heads[0][slot]) != null) {
+            this.unlink(task);
+            this.activeTasks--;
+            this.execute(task);
+
+            if (task.period > 0 && !task.cancelled && !task.isScheduled()) {
+                task.deadline = this.currentTick + task.period;
+                this.insert(task);
+                this.activeTasks++;
+            }
+        }
+    }
+
+    private void execute(final WheelTask task) {
+        this.executedTasks++;
+        try {
+            task.run();
+        } catch (final Throwable t) {
+            this.plugin.getLogger().log(Level.WARNING, "Scheduled task " + task.getClass().getName() + " threw", t);
+        }
+    }
+
+    private void cascade(final int level, final int slot) {
+        WheelTask task = this.heads[level][slot];
+        this.heads[level][slot] = null;
+        while (task != null) {
+            final WheelTask next = task.next;
+            task.unlinked();
+            this.insert(task);
+            task = next;
+        }
+    }
+
+    private void insert(final WheelTask task) {
+        final long delay = Math.min(task.deadline - this.currentTick, MAX_DELAY);
+        final long due = this.currentTick + Math.max(0L, delay);
+
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+
+        final int slot = (int) (due >>> (SLOT_BITS * level)) & SLOT_MASK;
+        final WheelTask head = this.heads[level][slot];
+        task.level = level;
+        task.slot = slot;
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        this.heads[level][slot] = task;
+    }
+
+    private void unlink(final WheelTask task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            this.heads[task.level][task.slot] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.unlinked();
+    }
+
+    private static WheelTask wrap(final Runnable action) {
+        return new WheelTask() {
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.bootstier.scheduler;
+
+import com.bootstier.BootsTierPlugin;
+
+/**
+ * Drop-in replacement for BukkitRunnable that runs on the plugin's {@link TickScheduler}
+ * instead of taking its own Bukkit task. Like a BukkitRunnable, an instance can only be
+ * scheduled once at a time and may cancel itself from inside {@link #run()}.
+ */
+public abstract class WheelTask implements Runnable {
+
+    /* Wheel bookkeeping, owned by TickScheduler */
+    WheelTask prev;
+    WheelTask next;
+    int level = -1;
+    int slot;
+    long deadline;
+    long period;
+    boolean cancelled;
+
+    private TickScheduler scheduler;
+
+    public final WheelTask runTaskLater(final BootsTierPlugin plugin, final long delay) {
+        return this.runTaskLater(plugin.getTickScheduler(), delay);
+    }
+
+    public final WheelTask runTaskTimer(final BootsTierPlugin plugin, final long delay, final long period) {
+        return this.runTaskTimer(plugin.getTickScheduler(), delay, period);
+    }
+
+    public final WheelTask runTaskLater(final TickScheduler scheduler, final long delay) {
+        this.scheduler = scheduler;
+        scheduler.schedule(this, delay, 0L);
+        return this;
+    }
+
+    public final WheelTask runTaskTimer(final TickScheduler scheduler, final long delay, final long period) {
+        this.scheduler = scheduler;
+        scheduler.schedule(this, delay, Math.max(1L, period));
+        return this;
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+        if (this.scheduler != null) {
+            this.scheduler.cancel(this);
+        }
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    boolean isScheduled() {
+        return this.level >= 0;
+    }
+
+    void unlinked() {
+        this.prev = null;
+        this.next = null;
+        this.level = -1;
+    }
+}
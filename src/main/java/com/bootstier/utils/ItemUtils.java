@@ -1,5 +1,6 @@
 package com.bootstier.utils;
 
+import com.bootstier.boots.BootsFingerprint;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
@@ -44,8 +45,6 @@ public class ItemUtils {
     }
 
     public static boolean isValidBootsItem(final ItemStack item) {
-        return item != null && 
-               item.getType() == org.bukkit.Material.DIAMOND_BOOTS &&
-               hasCustomLore(item, "Tier:");
+        return BootsFingerprint.isBootsItem(item);
     }
 }
@@ -1,24 +1,31 @@
 package com.bootstier.utils;
 
+import com.bootstier.BootsTierPlugin;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Utility class for location operations
  */
 public class LocationUtils {
 
+    /**
+     * Collects the players within the radius. Prefer {@link #forEachPlayerInRadius} in
+     * anything that runs every tick, it does not build a list.
+     */
     public static List<Player> getPlayersInRadius(final Location center, final double radius) {
-        return center.getWorld().getPlayers().stream()
-            .filter(player -> player.getLocation().distance(center) <= radius)
-            .collect(Collectors.toList());
+        return BootsTierPlugin.getInstance().getPlayerSpatialIndex().getPlayersInRadius(center, radius);
+    }
+
+    public static void forEachPlayerInRadius(final Location center, final double radius, final Consumer<Player> action) {
+        BootsTierPlugin.getInstance().getPlayerSpatialIndex().forEachInRadius(center, radius, action);
     }
 
     public static boolean isWithinRadius(final Location center, final Location target, final double radius) {
-        return center.distance(target) <= radius;
+        return center.getWorld() == target.getWorld() && center.distanceSquared(target) <= radius * radius;
     }
 
     public static Location getCirclePoint(final Location center, final double radius, final double angle) {